@@ -0,0 +1,95 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 캐시 적중 응답 비용 비교: 매 요청 Jackson 직렬화 vs 미리 직렬화된 바이트 복사 ({@link JsonBodyCache})
+ *
+ * <p>응답 스트림 기록까지 포함하도록 두 경로 모두 ByteArrayOutputStream에 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBodyBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private JsonBodyCache jsonBodyCache;
+    private BookmarkResponse bookmark;
+    private Page<BookmarkResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jsonBodyCache = new JsonBodyCache(objectMapper, 64L * 1024 * 1024);
+        bookmark = bookmark(1L);
+        page = new PageImpl<>(
+            LongStream.rangeClosed(1, pageSize).mapToObj(this::bookmark).toList(),
+            PageRequest.of(0, pageSize),
+            1000);
+        jsonBodyCache.render(bookmark);
+        jsonBodyCache.render(page);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream bookmarkSerialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        objectMapper.writeValue(out, bookmark);
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream bookmarkPreSerialized() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.writeBytes(jsonBodyCache.render(bookmark).bytes());
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream pageSerialize() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        objectMapper.writeValue(out, page);
+        return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream pagePreSerialized() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.writeBytes(jsonBodyCache.render(page).bytes());
+        return out;
+    }
+
+    private BookmarkResponse bookmark(long id) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Bookmark " + id)
+            .url("https://example.com/articles/" + id + "?utm_source=benchmark")
+            .memo("자주 보는 문서 " + id)
+            .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2025, 1, 16, 9, 0))
+            .tags(List.of("java", "spring"))
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청당 비용 비교: 매 요청 Nimbus 디코딩/검증 vs 검증 결과 캐시 적중 ({@link CachingJwtDecoder})
+ *
+ * <p>토큰은 {@code IssueTokenResolver}와 같은 형태(sub + email, HS256)로 발급한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtDecodeBenchmark {
+
+    private String token;
+    private JwtDecoder nimbusDecoder;
+    private CachingJwtDecoder cachingDecoder;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = new SecretKeySpec(
+            "bookmark-api-jwt-benchmark-secret-key-0123456789".getBytes(), "HmacSHA256");
+        token = Jwts.builder()
+            .subject("1")
+            .claim("email", "user@example.com")
+            .signWith(key)
+            .compact();
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(key).build();
+        cachingDecoder = new CachingJwtDecoder(
+            nimbusDecoder, 10_000, Duration.ofMinutes(10),
+            new SimpleMeterRegistry(), Ticker.systemTicker(), System::currentTimeMillis);
+        cachingDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt nimbusDecode() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecode() {
+        return cachingDecoder.decode(token);
+    }
+}
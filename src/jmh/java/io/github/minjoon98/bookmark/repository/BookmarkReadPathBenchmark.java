@@ -0,0 +1,130 @@
+package io.github.minjoon98.bookmark.repository;
+
+import io.github.minjoon98.bookmark.BookmarkApplication;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.entity.Tag;
+import io.github.minjoon98.bookmark.entity.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 한 페이지 조회 비용 비교: 엔티티 적재 + {@link BookmarkResponse#from} vs 응답 컬럼 프로젝션 ({@link BookmarkRow}) + 태그 일괄 조회
+ *
+ * <p>두 경로 모두 같은 조건/정렬/크기로 페이지를 읽고(COUNT 제외) 태그까지 채운 응답 목록을 만든다.
+ * 엔티티 경로의 태그는 default_batch_fetch_size 일괄 로딩을 사용한다.
+ * <p>할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm} (요청당 바이트)으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookmarkReadPathBenchmark {
+
+    private static final int BOOKMARKS = 500;
+    private static final int TAGS = 20;
+    private static final String WHERE = "WHERE b.user.id = :userId ORDER BY b.createdAt DESC, b.id DESC";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private BookmarkRepository bookmarkRepository;
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookmarkApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=warn",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+            .run();
+        entityManager = context.getBean(EntityManager.class);
+        bookmarkRepository = context.getBean(BookmarkRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userId = transactionTemplate.execute(status -> seed());
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookmarkResponse> entityPath() {
+        return readOnly.execute(status -> entityManager
+            .createQuery("SELECT b FROM Bookmark b " + WHERE, Bookmark.class)
+            .setParameter("userId", userId)
+            .setMaxResults(pageSize)
+            .getResultList().stream()
+            .map(BookmarkResponse::from)
+            .toList());
+    }
+
+    @Benchmark
+    public List<BookmarkResponse> projectionPath() {
+        return readOnly.execute(status -> {
+            List<BookmarkRow> rows = entityManager
+                .createQuery(BookmarkRow.SELECT + WHERE, BookmarkRow.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize)
+                .getResultList();
+            Map<Long, List<String>> tags = bookmarkRepository
+                .findTagNamesByBookmarkIdIn(rows.stream().map(BookmarkRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(BookmarkTagName::bookmarkId,
+                    Collectors.mapping(BookmarkTagName::name, Collectors.toUnmodifiableList())));
+            return rows.stream()
+                .map(row -> BookmarkResponse.of(row, tags.getOrDefault(row.id(), List.of())))
+                .toList();
+        });
+    }
+
+    /**
+     * 사용자 1명, 북마크마다 태그 3개
+     */
+    private Long seed() {
+        User user = User.builder().email("benchmark@example.com").password("password").build();
+        entityManager.persist(user);
+        List<Tag> tags = IntStream.range(0, TAGS)
+            .mapToObj(i -> Tag.builder().name("tag" + i).build())
+            .toList();
+        tags.forEach(entityManager::persist);
+        for (int i = 0; i < BOOKMARKS; i++) {
+            Bookmark bookmark = Bookmark.builder()
+                .title("Bookmark " + i)
+                .url("https://example.com/" + i)
+                .memo("memo " + i)
+                .user(user)
+                .build();
+            for (int t = 0; t < 3; t++) {
+                bookmark.addTag(tags.get((i + t) % TAGS));
+            }
+            entityManager.persist(bookmark);
+        }
+        return user.getId();
+    }
+}
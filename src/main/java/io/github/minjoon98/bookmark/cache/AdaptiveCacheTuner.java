@@ -0,0 +1,223 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.minjoon98.bookmark.config.BookmarkCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관측된 적중률 기반 캐시 최대 크기 / TTL 자동 조정
+ *
+ * <p>주기마다 각 캐시의 Caffeine 통계 변화량(직전 주기 대비)으로 적중률을 계산하고,
+ * 설정한 범위 안에서 한 단계({@code step})씩 조정한다.
+ * <ul>
+ *   <li>적중률이 목표 미만이고 용량이 거의 찼으면 최대 크기 증가 (용량 부족으로 인한 미스)</li>
+ *   <li>적중률이 목표 미만이고 용량이 남으면 TTL 증가 (만료로 인한 미스)</li>
+ *   <li>적중률이 목표 + {@code hysteresis} 초과면 TTL, 최대 크기를 한 단계씩 감소 (staleness / 힙 회수)</li>
+ * </ul>
+ * <p>최대 크기 범위는 spec 값의 {@code min-factor} ~ {@code max-factor}배, TTL 범위는 spec 값의
+ * {@code min-expire-factor} ~ {@code max-expire-factor}배 (refresh-after-write보다 길게 유지).
+ * 바이트 예산(maximum-weight) 캐시의 최대 크기 합은 {@code heap-budget}을 넘지 않는다.
+ * <p>off-heap 캐시는 인덱스 최대 크기가 슬랩 용량과 묶여 있으므로 조정하지 않는다.
+ * 공유 캐시(L2)의 TTL은 spec 값을 그대로 사용한다.
+ * <p>L1은 항목별 만료({@link EntryExpiry})를 사용하므로 TTL 조정은 이후 쓰기부터 적용된다.
+ */
+@Slf4j
+public class AdaptiveCacheTuner {
+
+    private final CacheManager cacheManager;
+    private final BookmarkCacheProperties properties;
+    private final BookmarkCacheProperties.Adaptive adaptive;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CacheStats> previous = new LinkedHashMap<>();
+    // 조정 횟수 카운터 (캐시/설정/방향별, 생성 시 한 번 등록)
+    private final Map<String, Counter> adjustments = new HashMap<>();
+
+    public AdaptiveCacheTuner(CacheManager cacheManager, BookmarkCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.adaptive = properties.getAdaptive();
+        this.meterRegistry = meterRegistry;
+        for (String name : adaptive.getCaches()) {
+            Policy<Object, Object> policy = policy(name);
+            if (policy != null) {
+                registerGauges(name, policy);
+                registerAdjustments(name);
+            }
+        }
+    }
+
+    /**
+     * 조정 1회 실행 - 요청 수가 {@code min-requests} 미만인 캐시는 판단 근거가 부족하므로 건너뜀
+     */
+    @Scheduled(
+        initialDelayString = "${bookmark.cache.adaptive.interval:1m}",
+        fixedDelayString = "${bookmark.cache.adaptive.interval:1m}"
+    )
+    public synchronized void tune() {
+        for (String name : adaptive.getCaches()) {
+            Policy<Object, Object> policy = policy(name);
+            if (policy == null) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                CacheLayers.caffeine(cacheManager.getCache(name));
+            CacheStats current = nativeCache.stats();
+            CacheStats window = current.minus(previous.getOrDefault(name, CacheStats.empty()));
+            previous.put(name, current);
+            if (window.requestCount() >= adaptive.getMinRequests()) {
+                tune(name, policy, window.hitRate(), nativeCache.estimatedSize());
+            }
+        }
+    }
+
+    private void tune(String name, Policy<Object, Object> policy, double hitRate, long estimatedSize) {
+        if (hitRate < adaptive.getTargetHitRate()) {
+            boolean nearlyFull = policy.eviction()
+                .map(eviction -> eviction.weightedSize().orElse(estimatedSize)
+                    >= eviction.getMaximum() * adaptive.getFullRatio())
+                .orElse(false);
+            if (nearlyFull) {
+                resizeMaximum(name, policy, 1 + adaptive.getStep(), hitRate);
+            } else {
+                resizeExpiry(name, 1 + adaptive.getStep(), hitRate);
+            }
+        } else if (hitRate > adaptive.getTargetHitRate() + adaptive.getHysteresis()) {
+            resizeExpiry(name, 1 - adaptive.getStep(), hitRate);
+            resizeMaximum(name, policy, 1 - adaptive.getStep(), hitRate);
+        }
+    }
+
+    private void resizeMaximum(String name, Policy<Object, Object> policy, double factor, double hitRate) {
+        policy.eviction().ifPresent(eviction -> {
+            long base = baseMaximum(name);
+            long current = eviction.getMaximum();
+            long target = clamp(
+                Math.round(current * factor),
+                Math.round(base * adaptive.getMinFactor()),
+                Math.round(base * adaptive.getMaxFactor()));
+            if (target > current && isWeighted(name)) {
+                // 바이트 예산 캐시의 최대 크기 합이 힙 예산을 넘지 않도록 제한
+                target = Math.min(target, current + adaptive.getHeapBudget().toBytes() - totalWeightedMaximum());
+            }
+            if (target == current || (factor > 1 && target < current)) {
+                return;
+            }
+            eviction.setMaximum(target);
+            recordAdjustment(name, "maximum", target > current);
+            log.info("캐시 최대 크기 조정: cache={}, hitRate={}, maximum {} -> {}",
+                name, String.format("%.3f", hitRate), current, target);
+        });
+    }
+
+    private void resizeExpiry(String name, double factor, double hitRate) {
+        Cache cache = cacheManager.getCache(name);
+        Duration expireAfterWrite = CacheLayers.expireAfterWrite(cache);
+        if (expireAfterWrite == null) {
+            return;
+        }
+        BookmarkCacheProperties.Spec spec = properties.spec(name);
+        long base = spec.getExpireAfterWrite().toMillis();
+        long min = Math.round(base * adaptive.getMinExpireFactor());
+        if (spec.getRefreshAfterWrite() != null) {
+            // refresh-ahead는 만료 전에 재로드해야 의미가 있으므로 refresh 주기보다 길게 유지
+            min = Math.max(min, spec.getRefreshAfterWrite().toMillis() + 1);
+        }
+        long current = expireAfterWrite.toMillis();
+        long target = clamp(Math.round(current * factor), min, Math.round(base * adaptive.getMaxExpireFactor()));
+        if (target == current) {
+            return;
+        }
+        CacheLayers.setExpireAfterWrite(cache, Duration.ofMillis(target));
+        recordAdjustment(name, "expiry", target > current);
+        log.info("캐시 TTL 조정: cache={}, hitRate={}, expireAfterWrite {} -> {}",
+            name, String.format("%.3f", hitRate), Duration.ofMillis(current), Duration.ofMillis(target));
+    }
+
+    private long totalWeightedMaximum() {
+        long total = 0;
+        for (String name : cacheManager.getCacheNames()) {
+            Policy<Object, Object> policy = isWeighted(name) ? policy(name) : null;
+            if (policy != null) {
+                total += policy.eviction().map(Policy.Eviction::getMaximum).orElse(0L);
+            }
+        }
+        return total;
+    }
+
+    private boolean isWeighted(String name) {
+        return properties.getSpecs().containsKey(name) && properties.spec(name).getMaximumWeight() != null;
+    }
+
+    private long baseMaximum(String name) {
+        BookmarkCacheProperties.Spec spec = properties.spec(name);
+        return spec.getMaximumWeight() == null ? spec.getMaximumSize() : spec.getMaximumWeight().toBytes();
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 조정 대상 캐시의 Caffeine 정책 (off-heap 캐시 / 없는 캐시는 null)
+     */
+    private Policy<Object, Object> policy(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null || CacheLayers.local(cache) instanceof OffHeapCache) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = CacheLayers.caffeine(cache);
+        return nativeCache == null ? null : nativeCache.policy();
+    }
+
+    private void recordAdjustment(String name, String setting, boolean increased) {
+        adjustments.get(adjustmentKey(name, setting, increased ? "up" : "down")).increment();
+    }
+
+    private void registerAdjustments(String name) {
+        for (String setting : List.of("maximum", "expiry")) {
+            for (String direction : List.of("up", "down")) {
+                adjustments.put(adjustmentKey(name, setting, direction), Counter.builder("bookmark.cache.adaptive.adjustments")
+                    .description("적중률 기반 자동 조정 횟수")
+                    .tag("cache", name)
+                    .tag("setting", setting)
+                    .tag("direction", direction)
+                    .register(meterRegistry));
+            }
+        }
+    }
+
+    private static String adjustmentKey(String name, String setting, String direction) {
+        return name + ":" + setting + ":" + direction;
+    }
+
+    private void registerGauges(String name, Policy<Object, Object> policy) {
+        policy.eviction().ifPresent(eviction -> Gauge.builder(
+                "bookmark.cache.adaptive.maximum", eviction, Policy.Eviction::getMaximum)
+            .description("현재 최대 크기 (maximum-weight 사용 시 바이트, 아니면 항목 수)")
+            .tag("cache", name)
+            .register(meterRegistry));
+        Cache cache = cacheManager.getCache(name);
+        if (CacheLayers.expireAfterWrite(cache) != null) {
+            TimeGauge.builder("bookmark.cache.adaptive.expire", cache, TimeUnit.MILLISECONDS,
+                    tuned -> CacheLayers.expireAfterWrite(tuned).toMillis())
+                .description("현재 expireAfterWrite")
+                .tag("cache", name)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 단위 캐시 무효화
+ *
+ * <p>쓰기 발생 시 allEntries 전체 삭제 대신, 변경한 사용자의 캐시 세대만 증가시켜
+ * 다른 사용자의 캐시 적중률에 영향을 주지 않음
+ * <p>{@link EntityCacheInvalidationListener}가 트랜잭션 커밋 후 수집한 배치를 한 번에 적용
+ * <p>클러스터 모드에서는 같은 배치를 {@link ClusterCacheInvalidationBus}로 다른 노드에 전파
+ * <p>전체 북마크 수(bookmarkCount)는 지우지 않고 백그라운드 재계산을 요청 (재계산 전까지 이전 값 반환)
+ */
+@Component
+@RequiredArgsConstructor
+public class BookmarkCacheEvictor {
+
+    private static final String BOOKMARK_BY_ID = "bookmarkById";
+    private static final String BOOKMARK_COUNT = "bookmarkCount";
+
+    private final CacheGenerations cacheGenerations;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<ClusterCacheInvalidationBus> clusterBus;
+    private final NegativeLookupCache negativeLookupCache;
+
+    /**
+     * 무효화 배치 적용 (커밋 이후 호출) - 로컬 반영 후 클러스터 모드면 다른 노드로 전파
+     */
+    public void apply(CacheInvalidationBatch batch) {
+        evict(batch, cacheGenerations::bump);
+        clusterBus.ifAvailable(bus -> bus.enqueue(batch));
+    }
+
+    /**
+     * 이 노드의 캐시에만 반영 (다른 노드에서 수신한 배치 적용 시 사용)
+     * <p>세대는 {@link CacheGenerations#bumpedElsewhere}로 반영 - 공유 세대는 발행 노드가 이미 증가시켰으므로 다시 증가시키지 않음
+     */
+    public void applyLocally(CacheInvalidationBatch batch) {
+        evict(batch, cacheGenerations::bumpedElsewhere);
+    }
+
+    private void evict(CacheInvalidationBatch batch, Consumer<Long> bumpGeneration) {
+        if (batch.isAll()) {
+            cacheManager.getCacheNames().forEach(name -> target(cacheManager.getCache(name)).clear());
+            batch.getUserIds().forEach(bumpGeneration);
+            return;
+        }
+
+        Cache bookmarkById = target(cacheManager.getCache(BOOKMARK_BY_ID));
+        batch.getBookmarkKeys().forEach(key -> {
+            bookmarkById.evict(key);
+            // 생성된 북마크 ID를 미리 조회해 둔 "없음" 기록 삭제
+            negativeLookupCache.forgetBookmark(key.bookmarkId());
+        });
+        batch.getUserIds().forEach(userId -> {
+            bumpGeneration.accept(userId);
+            refreshCount(userId);
+        });
+    }
+
+    /**
+     * 해당 사용자의 목록 캐시 무효화 (세대 증가, O(1))
+     */
+    public void evictUserPages(Long userId) {
+        cacheGenerations.bump(userId);
+    }
+
+    /**
+     * 해당 사용자의 전체 북마크 수 재계산 요청 - 캐시에 있을 때만, refresh-ahead 실행기에서 비동기 실행
+     * (refresh-after-write가 없는 설정이면 삭제하여 다음 조회에서 다시 계산)
+     */
+    private void refreshCount(Long userId) {
+        Cache cache = cacheManager.getCache(BOOKMARK_COUNT);
+        if (cache == null) {
+            return;
+        }
+        BookmarkCountKey key = new BookmarkCountKey(userId);
+        if (CacheLayers.caffeine(cache) instanceof LoadingCache<Object, Object> loading) {
+            if (loading.asMap().containsKey(key)) {
+                loading.refresh(key);
+            }
+        } else {
+            target(cache).evict(key);
+        }
+    }
+
+    /**
+     * 커밋 이후 단계에서는 트랜잭션 인지 캐시의 지연 처리를 거치지 않고 즉시 반영
+     * (afterCommit 중 새로 등록한 동기화는 실행되지 않음)
+     */
+    private Cache target(Cache cache) {
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 전체 북마크 수 캐시(bookmarkCount) 키
+ *
+ * <p>세대를 포함하지 않음 - 쓰기 후에도 이전 값을 반환하면서 {@link BookmarkCacheEvictor}가
+ * 커밋 후 백그라운드 재계산을 요청하므로, 쓰기가 잦은 사용자도 요청 경로에서 COUNT를 기다리지 않는다.
+ */
+public record BookmarkCountKey(
+    Long userId
+) implements Serializable {
+}
@@ -0,0 +1,14 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.io.Serializable;
+
+/**
+ * 단건 캐시(bookmarkById) 키
+ *
+ * <p>소유자 ID를 함께 두어 다른 사용자의 캐시 항목이 소유자 검증 없이 반환되지 않도록 함
+ */
+public record BookmarkKey(
+    Long userId,
+    Long bookmarkId
+) implements Serializable {
+}
@@ -0,0 +1,46 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serializable;
+
+/**
+ * 목록 캐시(bookmarksFirstPage, bookmarksSearch, bookmarksByTag) 키
+ *
+ * <p>사용자 ID를 키에 포함하여 사용자별로 캐시 파티션을 분리하고,
+ * 사용자별 캐시 세대를 포함하여 쓰기 시 세대 증가만으로 무효화
+ *
+ * @param userId     캐시 소유 사용자 ID
+ * @param generation 키 생성 시점의 사용자 캐시 세대 ({@link CacheGenerations})
+ * @param term       검색어 또는 태그명 (전체 목록이면 null)
+ */
+public record BookmarkPageKey(
+    Long userId,
+    long generation,
+    String term,
+    int page,
+    int size,
+    Sort sort
+) implements Serializable {
+
+    public static BookmarkPageKey of(Long userId, long generation, String term, Pageable pageable) {
+        return new BookmarkPageKey(
+            userId,
+            generation,
+            term,
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            pageable.getSort()
+        );
+    }
+
+    public BookmarkPageKey withGeneration(long generation) {
+        return new BookmarkPageKey(userId, generation, term, page, size, sort);
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page, size, sort);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.minjoon98.bookmark.cache;
+
+/**
+ * 캐시 조회 관찰자 - {@link CoalescingCache}가 적중/미스와 무관하게 {@code @Cacheable} 조회마다 호출
+ *
+ * <p>요청 경로에서 호출되므로 구현은 블로킹 없이 빠르게 끝나야 한다.
+ */
+@FunctionalInterface
+public interface CacheAccessListener {
+
+    void onAccess(String cacheName, Object key);
+}
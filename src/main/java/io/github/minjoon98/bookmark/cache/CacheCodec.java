@@ -0,0 +1,233 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시 키/값 바이너리 직렬화
+ *
+ * <p>Java 직렬화나 JSON 대신 필드를 순서대로 기록하는 고정 포맷으로, 크기가 작고 클래스 구조 변경에 덜 민감하다.
+ * 공유 캐시(L2)처럼 프로세스 밖에 값을 저장할 때 사용한다.
+ *
+ * <p>모든 인코딩은 포맷 버전 1바이트 + 타입 1바이트로 시작하며, 알 수 없는 버전/타입은 {@link IllegalArgumentException}
+ */
+public final class CacheCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_BOOKMARK_KEY = 1;
+    private static final byte TYPE_PAGE_KEY = 2;
+    private static final byte TYPE_BOOKMARK = 11;
+    private static final byte TYPE_PAGE = 12;
+
+    private CacheCodec() {
+    }
+
+    public static boolean supportsKey(Object key) {
+        return key instanceof BookmarkKey || key instanceof BookmarkPageKey;
+    }
+
+    public static boolean supportsValue(Object value) {
+        return value instanceof BookmarkResponse
+            || (value instanceof Page<?> page && page.getContent().stream().allMatch(BookmarkResponse.class::isInstance));
+    }
+
+    public static byte[] encodeKey(Object key) {
+        return write(out -> {
+            switch (key) {
+                case BookmarkKey bookmarkKey -> {
+                    out.writeByte(TYPE_BOOKMARK_KEY);
+                    out.writeLong(bookmarkKey.userId());
+                    out.writeLong(bookmarkKey.bookmarkId());
+                }
+                case BookmarkPageKey pageKey -> {
+                    out.writeByte(TYPE_PAGE_KEY);
+                    out.writeLong(pageKey.userId());
+                    out.writeLong(pageKey.generation());
+                    writeNullableString(out, pageKey.term());
+                    out.writeInt(pageKey.page());
+                    out.writeInt(pageKey.size());
+                    writeSort(out, pageKey.sort());
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 캐시 키: " + key);
+            }
+        });
+    }
+
+    public static Object decodeKey(byte[] bytes) {
+        return read(bytes, (type, in) -> switch (type) {
+            case TYPE_BOOKMARK_KEY -> new BookmarkKey(in.readLong(), in.readLong());
+            case TYPE_PAGE_KEY -> new BookmarkPageKey(
+                in.readLong(), in.readLong(), readNullableString(in), in.readInt(), in.readInt(), readSort(in));
+            default -> throw new IllegalArgumentException("알 수 없는 캐시 키 타입: " + type);
+        });
+    }
+
+    public static byte[] encodeValue(Object value) {
+        return write(out -> {
+            switch (value) {
+                case BookmarkResponse bookmark -> {
+                    out.writeByte(TYPE_BOOKMARK);
+                    writeBookmark(out, bookmark);
+                }
+                case Page<?> page -> {
+                    out.writeByte(TYPE_PAGE);
+                    Pageable pageable = page.getPageable();
+                    out.writeBoolean(pageable.isPaged());
+                    if (pageable.isPaged()) {
+                        out.writeInt(pageable.getPageNumber());
+                        out.writeInt(pageable.getPageSize());
+                        writeSort(out, pageable.getSort());
+                    }
+                    out.writeLong(page.getTotalElements());
+                    out.writeInt(page.getNumberOfElements());
+                    for (Object item : page.getContent()) {
+                        writeBookmark(out, (BookmarkResponse) item);
+                    }
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 캐시 값: " + value);
+            }
+        });
+    }
+
+    public static Object decodeValue(byte[] bytes) {
+        return read(bytes, (type, in) -> switch (type) {
+            case TYPE_BOOKMARK -> readBookmark(in);
+            case TYPE_PAGE -> {
+                Pageable pageable = in.readBoolean()
+                    ? PageRequest.of(in.readInt(), in.readInt(), readSort(in))
+                    : Pageable.unpaged();
+                long total = in.readLong();
+                int count = in.readInt();
+                List<BookmarkResponse> content = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    content.add(readBookmark(in));
+                }
+                yield new PageImpl<>(content, pageable, total);
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 캐시 값 타입: " + type);
+        });
+    }
+
+    private static void writeBookmark(DataOutputStream out, BookmarkResponse bookmark) throws IOException {
+        out.writeLong(bookmark.getId());
+        writeNullableString(out, bookmark.getTitle());
+        writeNullableString(out, bookmark.getUrl());
+        writeNullableString(out, bookmark.getMemo());
+        writeNullableTime(out, bookmark.getCreatedAt());
+        writeNullableTime(out, bookmark.getUpdatedAt());
+        List<String> tags = bookmark.getTags() == null ? List.of() : bookmark.getTags();
+        out.writeShort(tags.size());
+        for (String tag : tags) {
+            out.writeUTF(tag);
+        }
+    }
+
+    private static BookmarkResponse readBookmark(DataInputStream in) throws IOException {
+        BookmarkResponse.BookmarkResponseBuilder builder = BookmarkResponse.builder()
+            .id(in.readLong())
+            .title(readNullableString(in))
+            .url(readNullableString(in))
+            .memo(readNullableString(in))
+            .createdAt(readNullableTime(in))
+            .updatedAt(readNullableTime(in));
+        int tagCount = in.readUnsignedShort();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(in.readUTF());
+        }
+        return builder.tags(List.copyOf(tags)).build();
+    }
+
+    private static void writeSort(DataOutputStream out, Sort sort) throws IOException {
+        List<Sort.Order> orders = sort.toList();
+        out.writeShort(orders.size());
+        for (Sort.Order order : orders) {
+            out.writeUTF(order.getProperty());
+            out.writeBoolean(order.isAscending());
+            out.writeBoolean(order.isIgnoreCase());
+        }
+    }
+
+    private static Sort readSort(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<Sort.Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String property = in.readUTF();
+            Sort.Order order = in.readBoolean() ? Sort.Order.asc(property) : Sort.Order.desc(property);
+            orders.add(in.readBoolean() ? order.ignoreCase() : order);
+        }
+        return Sort.by(orders);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readNullableTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writer.write(out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] bytes, Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("알 수 없는 캐시 포맷 버전: " + version);
+            }
+            return reader.read(in.readByte(), in);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(byte type, DataInputStream in) throws IOException;
+    }
+}
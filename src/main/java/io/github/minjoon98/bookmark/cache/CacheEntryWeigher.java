@@ -0,0 +1,124 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.repository.SearchCandidate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * 캐시 항목의 힙 점유량(바이트) 추정
+ *
+ * <p>항목 수 제한은 1건짜리 페이지와 100건짜리 페이지를 같은 1로 세므로 힙 사용량을 예측할 수 없다.
+ * 키와 값(북마크 응답, 페이지)의 객체 헤더, 필드, 문자열(제목/URL/메모/태그) 길이를 합산하여
+ * {@code maximumWeight}(바이트 예산)와 비교할 가중치로 사용한다.
+ *
+ * <p>64비트 JVM + compressed oops 기준의 근사치이며, 정확한 측정보다 항목 간 상대 크기를 반영하는 것이 목적이다.
+ */
+public final class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    static final int OBJECT_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int STRING_OVERHEAD = 24 + 16;     // String 객체 + byte[] 헤더
+    static final int TIME = 24 + 16 + 24;          // LocalDateTime + LocalDate + LocalTime
+    static final int PAGE_OVERHEAD = 128;          // PageImpl + PageRequest + 내부 필드
+    static final int LIST_OVERHEAD = 40;           // ArrayList/ImmutableCollections + 배열 헤더
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = weighKey(key) + weighValue(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    static long weighKey(Object key) {
+        return switch (key) {
+            case BookmarkKey ignored -> OBJECT_HEADER + 2L * (OBJECT_HEADER + 8);
+            case BookmarkPageKey pageKey -> OBJECT_HEADER + 32 + (OBJECT_HEADER + 8)
+                + weighString(pageKey.term()) + weighSort(pageKey.sort());
+            case SearchCandidateCache.TermKey termKey -> OBJECT_HEADER + 16 + (OBJECT_HEADER + 8)
+                + weighString(termKey.term());
+            default -> OBJECT_HEADER;
+        };
+    }
+
+    static long weighValue(Object value) {
+        return switch (value) {
+            case BookmarkResponse bookmark -> weighBookmark(bookmark);
+            case Page<?> page -> {
+                long weight = PAGE_OVERHEAD + weighList(page.getContent()) + weighSort(page.getSort());
+                for (Object content : page.getContent()) {
+                    weight += weighValue(content);
+                }
+                yield weight;
+            }
+            case SearchCandidateCache.Candidates candidates -> {
+                long weight = OBJECT_HEADER + REFERENCE;
+                if (!candidates.oversized()) {
+                    weight += weighList(candidates.items());
+                    for (SearchCandidate candidate : candidates.items()) {
+                        weight += OBJECT_HEADER + 3L * REFERENCE + (OBJECT_HEADER + 8)
+                            + weighString(candidate.title()) + weighString(candidate.url());
+                    }
+                }
+                yield weight;
+            }
+            case null -> 0;
+            default -> OBJECT_HEADER;
+        };
+    }
+
+    static long weighBookmark(BookmarkResponse bookmark) {
+        long weight = OBJECT_HEADER + 7L * REFERENCE + (OBJECT_HEADER + 8)
+            + weighString(bookmark.getTitle())
+            + weighString(bookmark.getUrl())
+            + weighString(bookmark.getMemo())
+            + (bookmark.getCreatedAt() == null ? 0 : TIME)
+            + (bookmark.getUpdatedAt() == null ? 0 : TIME);
+        List<String> tags = bookmark.getTags();
+        if (tags != null) {
+            weight += weighList(tags);
+            for (String tag : tags) {
+                weight += weighString(tag);
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * compact strings: Latin-1 문자만 있으면 문자당 1바이트, 아니면(한글 등) 2바이트
+     */
+    static long weighString(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING_OVERHEAD + align((long) value.length() * bytesPerChar);
+    }
+
+    private static long weighList(List<?> list) {
+        return LIST_OVERHEAD + align((long) list.size() * REFERENCE);
+    }
+
+    private static long weighSort(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return 0;
+        }
+        long weight = LIST_OVERHEAD;
+        for (Sort.Order order : sort) {
+            weight += OBJECT_HEADER + 4L * REFERENCE + weighString(order.getProperty());
+        }
+        return weight;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 목록 캐시 세대(generation) 카운터
+ *
+ * <p>목록 캐시 키에 현재 세대를 포함시키고, 쓰기 시에는 세대만 증가시킨다.
+ * 이전 세대 키는 더 이상 조회되지 않으며 기존 TTL/최대 크기 정책에 따라 자연 소멸하므로,
+ * 사용자가 가진 캐시 페이지 수와 무관하게 무효화 비용이 O(1)로 유지된다.
+ *
+ * <p>카운터는 크기 제한 + 마지막 접근 후 만료(목록 캐시 최장 TTL보다 길게)되는 Caffeine 맵에 보관하여
+ * 오래 실행되는 노드에서도 사용자 수만큼 계속 늘어나지 않는다.
+ * 세대 값은 노드 전체에서 하나의 증가 수열로 발급하므로, 제거된 카운터가 다시 만들어져도
+ * 이전에 쓰던 세대 값과 겹치지 않는다 (오래된 목록 항목이 되살아나지 않음).
+ */
+public class CacheGenerations {
+
+    static final Duration DEFAULT_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private final Cache<Long, Long> generations;
+
+    // 마지막으로 발급한 세대 (첫 발급 값 0)
+    private final AtomicLong sequence = new AtomicLong(-1);
+
+    public CacheGenerations() {
+        this(DEFAULT_EXPIRE_AFTER_ACCESS, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CacheGenerations(Duration expireAfterAccess, long maximumSize) {
+        this.generations = Caffeine.newBuilder()
+            .expireAfterAccess(expireAfterAccess)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * 현재 세대 조회 (카운터가 없으면 새 세대를 발급하여 보관)
+     */
+    public long current(Long userId) {
+        return generations.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    /**
+     * 세대 증가 - 해당 사용자의 기존 목록 캐시 키를 모두 무효화
+     */
+    public long bump(Long userId) {
+        return generations.asMap().compute(userId, (id, generation) -> {
+            if (generation == null) {
+                // 카운터가 없으면 발급(current) 후 증가한 것과 같게 (새 인스턴스 기준 0 → 1)
+                sequence.incrementAndGet();
+            }
+            return sequence.incrementAndGet();
+        });
+    }
+
+    /**
+     * 다른 노드에서 수신한 세대 증가 반영 (노드별 세대이므로 이 노드의 세대도 증가)
+     */
+    public void bumpedElsewhere(Long userId) {
+        bump(userId);
+    }
+}
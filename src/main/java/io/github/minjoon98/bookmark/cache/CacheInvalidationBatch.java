@@ -0,0 +1,70 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 한 트랜잭션 동안 수집한 캐시 무효화 대상
+ *
+ * <p>같은 트랜잭션에서 여러 엔티티가 바뀌어도 사용자별 세대 증가와 단건 캐시 삭제는 한 번씩만 수행
+ */
+public class CacheInvalidationBatch {
+
+    private final Set<Long> userIds = new HashSet<>();
+    private final Set<BookmarkKey> bookmarkKeys = new HashSet<>();
+    private boolean all;
+
+    /**
+     * 북마크(또는 북마크의 태그 연결) 변경 - 소유자 목록 캐시 + 해당 단건 캐시 무효화
+     */
+    public void bookmarkChanged(Long userId, Long bookmarkId) {
+        userIds.add(userId);
+        bookmarkKeys.add(new BookmarkKey(userId, bookmarkId));
+    }
+
+    /**
+     * 사용자 목록 캐시만 무효화 (클러스터 메시지 복원용)
+     */
+    public void addUserPages(Long userId) {
+        userIds.add(userId);
+    }
+
+    /**
+     * 단건 캐시 키만 무효화 (클러스터 메시지 복원용)
+     */
+    public void addBookmark(BookmarkKey key) {
+        bookmarkKeys.add(key);
+    }
+
+    /**
+     * 다른 배치의 무효화 대상을 합침 (중복 제거)
+     */
+    public void merge(CacheInvalidationBatch other) {
+        userIds.addAll(other.userIds);
+        bookmarkKeys.addAll(other.bookmarkKeys);
+        all |= other.all;
+    }
+
+    /**
+     * 영향 범위를 특정할 수 없는 변경 - 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        all = true;
+    }
+
+    public Set<Long> getUserIds() {
+        return userIds;
+    }
+
+    public Set<BookmarkKey> getBookmarkKeys() {
+        return bookmarkKeys;
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public boolean isEmpty() {
+        return !all && userIds.isEmpty() && bookmarkKeys.isEmpty();
+    }
+}
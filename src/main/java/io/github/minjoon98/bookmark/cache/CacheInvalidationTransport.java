@@ -0,0 +1,28 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 메시지 전달 방식
+ *
+ * <p>기본 구현은 DB 테이블 폴링({@link JdbcCacheInvalidationTransport})이며,
+ * 같은 타입의 빈을 등록하면 다른 전달 방식(메시지 브로커 등)으로 교체할 수 있다.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 이 노드에서 발생한 무효화 배치 발행
+     */
+    void publish(String nodeId, CacheInvalidationBatch batch);
+
+    /**
+     * 마지막 수신 이후 다른 노드가 발행한 무효화를 하나의 배치로 합쳐 반환 (없으면 빈 배치)
+     */
+    CacheInvalidationBatch poll(String nodeId);
+
+    /**
+     * 보관 기간이 지난 메시지 정리 (필요한 구현만 재정의)
+     */
+    default void purgeBefore(LocalDateTime cutoff) {
+    }
+}
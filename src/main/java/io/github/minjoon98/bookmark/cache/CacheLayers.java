@@ -0,0 +1,88 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 캐시 데코레이터 체인 해제
+ *
+ * <p>캐시는 TransactionAwareCacheDecorator → {@link CoalescingCache} → {@link TwoTierCache} →
+ * CaffeineCache 또는 {@link OffHeapCache} 순으로 감싸져 있어, 통계/크기 조정처럼 Caffeine 자체가 필요한 곳에서
+ * 가장 안쪽의 Caffeine 캐시(off-heap 캐시는 인덱스)를 꺼낼 때 사용한다.
+ */
+public final class CacheLayers {
+
+    private CacheLayers() {
+    }
+
+    /**
+     * 가장 안쪽 L1 캐시 (CaffeineCache 또는 OffHeapCache) - 트랜잭션 지연, 미스 병합, L2를 거치지 않고 직접 읽고 쓸 때 사용
+     */
+    public static Cache local(Cache cache) {
+        Cache current = cache;
+        while (true) {
+            switch (current) {
+                case TransactionAwareCacheDecorator decorator -> current = decorator.getTargetCache();
+                case CoalescingCache coalescing -> current = coalescing.getDelegate();
+                case TwoTierCache twoTier -> current = twoTier.getLocal();
+                default -> {
+                    return current;
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 안쪽 L1의 Caffeine 캐시, 없으면 null
+     */
+    public static com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine(Cache cache) {
+        return switch (local(cache)) {
+            case CaffeineCache caffeineCache -> caffeineCache.getNativeCache();
+            case OffHeapCache offHeapCache -> offHeapCache.getIndex();
+            default -> null;
+        };
+    }
+
+    /**
+     * L1 기본 TTL ({@link ExpiringCache} 또는 Caffeine expireAfterWrite), 없으면 null
+     */
+    public static Duration expireAfterWrite(Cache cache) {
+        if (local(cache) instanceof ExpiringCache expiring) {
+            return expiring.getExpiry().getExpireAfterWrite();
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeine(cache);
+        return nativeCache == null ? null : nativeCache.policy().expireAfterWrite()
+            .map(expiry -> expiry.getExpiresAfter())
+            .orElse(null);
+    }
+
+    /**
+     * L1 기본 TTL 변경 (TTL이 없는 캐시는 무시)
+     */
+    public static void setExpireAfterWrite(Cache cache, Duration expireAfterWrite) {
+        if (local(cache) instanceof ExpiringCache expiring) {
+            expiring.getExpiry().setExpireAfterWrite(expireAfterWrite);
+            return;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeine(cache);
+        if (nativeCache != null) {
+            nativeCache.policy().expireAfterWrite().ifPresent(expiry -> expiry.setExpiresAfter(expireAfterWrite));
+        }
+    }
+
+    /**
+     * L1 항목의 남은 수명 (없는 항목이거나 TTL이 없는 캐시는 empty)
+     */
+    public static Optional<Duration> remainingTtl(Cache cache, Object key) {
+        if (local(cache) instanceof ExpiringCache expiring) {
+            return expiring.remainingTtl(key);
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeine(cache);
+        return nativeCache == null ? Optional.empty() : nativeCache.policy().expireAfterWrite()
+            .flatMap(expiry -> expiry.ageOf(key).map(age -> expiry.getExpiresAfter().minus(age)));
+    }
+}
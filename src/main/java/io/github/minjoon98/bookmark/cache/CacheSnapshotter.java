@@ -0,0 +1,285 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 재기동 시 캐시 예열용 스냅샷 (종료 시 저장, 기동 시 복원)
+ *
+ * <p>종료 시 각 캐시에서 접근 빈도가 높은 항목(Caffeine {@code hottest})을 {@link CacheCodec} 포맷으로 파일에 기록하고,
+ * 기동 시 파일을 메모리 매핑하여 L1에 다시 적재한다. 배포 직후 빈 캐시로 인한 지연 급증을 줄이기 위한 용도이다.
+ *
+ * <p>파일 헤더: 매직 넘버 + 스냅샷 포맷 버전 + 코덱 버전 + 생성 시각 + DB 식별자.
+ * 버전이 다르거나 파일이 손상되었거나 {@code maxAge}보다 오래된 스냅샷은 적재하지 않고 삭제한다.
+ * 손상된 파일로 인한 예외는 모두 잡아 빈 캐시로 시작한다 (기동 실패로 전파하지 않음).
+ *
+ * <p>정합성
+ * <ul>
+ *   <li>항목마다 만료 시각(저장 시점의 남은 수명 기준)을 저장하여, 복원 시점에 이미 만료된 항목은 적재하지 않고
+ *       나머지는 남은 수명만큼만 L1에 보관한다 ({@link ExpiringCache}). 재기동으로 항목의 수명이 늘어나지 않는다.</li>
+ *   <li>목록 키는 저장 시점의 현재 세대인 항목만 기록하고, 복원 시 현재 세대로 다시 매핑한다.
+ *       (세대 카운터는 재기동 시 0부터 시작하므로 그대로 두면 적중하지 않거나 오래된 세대 항목이 되살아남)</li>
+ *   <li>DB 식별자가 다르거나 알 수 없으면 적재하지 않는다. 인메모리 DB처럼 재기동 시 새로 만들어진 DB에서는
+ *       같은 사용자 ID가 다른 사용자를 가리킬 수 있으므로 이전 캐시 키를 되살리면 다른 사용자에게 응답이 노출된다.</li>
+ * </ul>
+ */
+@Slf4j
+public class CacheSnapshotter {
+
+    static final int MAGIC = 0x424D4353; // "BMCS"
+    static final short SNAPSHOT_VERSION = 3;
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations generations;
+    private final Function<String, Duration> ttlByCache;
+    private final Path path;
+    private final int maxEntriesPerCache;
+    private final Duration maxAge;
+    private final LongSupplier millisClock;
+    private final Supplier<String> databaseIdentity;
+
+    // 최초 조회한 DB 식별자 (종료 시점에는 DB에 접근하지 못할 수 있으므로 기억해 둠)
+    private String resolvedIdentity;
+
+    public CacheSnapshotter(
+        CacheManager cacheManager,
+        CacheGenerations generations,
+        Function<String, Duration> ttlByCache,
+        Path path,
+        int maxEntriesPerCache,
+        Duration maxAge,
+        LongSupplier millisClock,
+        Supplier<String> databaseIdentity
+    ) {
+        this.cacheManager = cacheManager;
+        this.generations = generations;
+        this.ttlByCache = ttlByCache;
+        this.path = path;
+        this.maxEntriesPerCache = maxEntriesPerCache;
+        this.maxAge = maxAge;
+        this.millisClock = millisClock;
+        this.databaseIdentity = databaseIdentity;
+    }
+
+    /**
+     * 캐시별 인기 항목을 스냅샷 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     *
+     * @return 저장한 항목 수
+     */
+    public int save() {
+        long now = millisClock.getAsLong();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int written = 0;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(SNAPSHOT_VERSION);
+                out.writeByte(CacheCodec.FORMAT_VERSION);
+                out.writeLong(now);
+                out.writeUTF(Objects.requireNonNullElse(databaseIdentity(), ""));
+                for (String name : cacheManager.getCacheNames()) {
+                    written += writeCache(out, name, now);
+                }
+                // 종료 표시 (빈 캐시 이름)
+                out.writeShort(0);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("캐시 스냅샷 저장: {}건 ({})", written, path);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("캐시 스냅샷 저장 실패 ({})", path, ex);
+        }
+        return written;
+    }
+
+    private int writeCache(DataOutputStream out, String name, long now) throws IOException {
+        Cache local = CacheLayers.local(cacheManager.getCache(name));
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = CacheLayers.caffeine(local);
+        if (nativeCache == null) {
+            return 0;
+        }
+        Policy<Object, Object> policy = nativeCache.policy();
+        Map<Object, Object> hottest = policy.eviction()
+            .map(eviction -> eviction.hottest(maxEntriesPerCache))
+            .orElse(Map.of());
+
+        int written = 0;
+        for (Map.Entry<Object, Object> entry : hottest.entrySet()) {
+            Object key = entry.getKey();
+            if (!CacheCodec.supportsKey(key) || !isCurrentGeneration(key)) {
+                continue;
+            }
+            // off-heap 인덱스 값은 슬롯 위치이므로 캐시에서 다시 읽음
+            Object value = local instanceof OffHeapCache ? unwrap(local.get(key)) : entry.getValue();
+            if (!CacheCodec.supportsValue(value)) {
+                continue;
+            }
+            Duration remaining = CacheLayers.remainingTtl(local, key).orElseGet(() -> ttlByCache.apply(name));
+            byte[] keyBytes = CacheCodec.encodeKey(key);
+            byte[] valueBytes = CacheCodec.encodeValue(value);
+            out.writeShort(name.length());
+            out.write(name.getBytes(StandardCharsets.US_ASCII));
+            out.writeLong(now + remaining.toMillis());
+            out.writeInt(keyBytes.length);
+            out.write(keyBytes);
+            out.writeInt(valueBytes.length);
+            out.write(valueBytes);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 L1에 적재 (적재 후 파일 삭제)
+     *
+     * @return 적재한 항목 수
+     */
+    public int load() {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int loaded = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long createdAt = readHeader(buffer);
+            long now = millisClock.getAsLong();
+            if (createdAt < 0) {
+                log.info("캐시 스냅샷 버전 불일치, 적재하지 않음 ({})", path);
+            } else if (!isSameDatabase(readString(buffer))) {
+                log.info("캐시 스냅샷의 DB가 현재 DB와 다르거나 확인할 수 없어 적재하지 않음 ({})", path);
+            } else if (now - createdAt > maxAge.toMillis()) {
+                log.info("캐시 스냅샷이 오래되어 적재하지 않음 ({})", path);
+            } else {
+                loaded = readEntries(buffer, now);
+                log.info("캐시 스냅샷 적재: {}건 ({})", loaded, path);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("캐시 스냅샷 적재 실패, 빈 캐시로 시작 ({})", path, ex);
+        } finally {
+            deleteSnapshot();
+        }
+        return loaded;
+    }
+
+    /**
+     * 헤더 검증 - 호환되지 않으면 -1, 아니면 생성 시각
+     */
+    private long readHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC
+            || buffer.getShort() != SNAPSHOT_VERSION
+            || buffer.get() != CacheCodec.FORMAT_VERSION) {
+            return -1;
+        }
+        return buffer.getLong();
+    }
+
+    private int readEntries(ByteBuffer buffer, long now) {
+        int loaded = 0;
+        while (true) {
+            int nameLength = buffer.getShort();
+            if (nameLength == 0) {
+                return loaded;
+            }
+            byte[] name = readBytes(buffer, nameLength);
+            long expiresAt = buffer.getLong();
+            byte[] keyBytes = readBytes(buffer, buffer.getInt());
+            byte[] valueBytes = readBytes(buffer, buffer.getInt());
+
+            Cache cache = cacheManager.getCache(new String(name, StandardCharsets.US_ASCII));
+            if (cache == null || expiresAt <= now) {
+                continue;
+            }
+            // 남은 수명만큼만 보관 (TTL 설정이 줄었으면 현재 TTL까지)
+            Duration ttl = ttlByCache.apply(cache.getName());
+            Duration remaining = Duration.ofMillis(Math.min(expiresAt - now, ttl.toMillis()));
+            Object key = remapGeneration(CacheCodec.decodeKey(keyBytes));
+            Object value = CacheCodec.decodeValue(valueBytes);
+            if (CacheLayers.local(cache) instanceof ExpiringCache expiring) {
+                expiring.put(key, value, remaining);
+            } else {
+                CacheLayers.local(cache).put(key, value);
+            }
+            loaded++;
+        }
+    }
+
+    /**
+     * 길이 필드만큼 읽음 - 손상으로 길이가 음수이거나 남은 크기를 넘으면 거부
+     */
+    private static byte[] readBytes(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("스냅샷 길이 필드 손상: " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * {@link DataOutputStream#writeUTF} 형식 문자열 (2바이트 길이 + modified UTF-8, 식별자는 ASCII 범위)
+     */
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer, Short.toUnsignedInt(buffer.getShort())), StandardCharsets.UTF_8);
+    }
+
+    private boolean isSameDatabase(String snapshotIdentity) {
+        String current = databaseIdentity();
+        return current != null && !current.isEmpty() && current.equals(snapshotIdentity);
+    }
+
+    private synchronized String databaseIdentity() {
+        if (resolvedIdentity == null) {
+            resolvedIdentity = databaseIdentity.get();
+        }
+        return resolvedIdentity;
+    }
+
+    private static Object unwrap(Cache.ValueWrapper wrapper) {
+        return wrapper == null ? null : wrapper.get();
+    }
+
+    private boolean isCurrentGeneration(Object key) {
+        return !(key instanceof BookmarkPageKey pageKey) || pageKey.generation() == generations.current(pageKey.userId());
+    }
+
+    /**
+     * 목록 키를 현재 세대로 매핑 - 공유 세대(L2)는 재기동해도 유지되므로 그대로 둠
+     * (그 사이 무효화되었다면 세대가 달라 적중하지 않음)
+     */
+    private Object remapGeneration(Object key) {
+        if (key instanceof BookmarkPageKey pageKey && !(generations instanceof SharedCacheGenerations)) {
+            return pageKey.withGeneration(generations.current(pageKey.userId()));
+        }
+        return key;
+    }
+
+    private void deleteSnapshot() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("캐시 스냅샷 삭제 실패 ({})", path, ex);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.minjoon98.bookmark.config.BookmarkCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시별 통계 Actuator 엔드포인트 ({@code /actuator/cachestats}, {@code /actuator/cachestats/{name}})
+ *
+ * <p>기본 {@code /actuator/caches}는 캐시 이름만 보여주므로, 크기/TTL 조정 근거가 되는
+ * 적중률, 로드 시간, 제거 수, 현재 크기(항목 수/추정 바이트)를 설정값과 함께 캐시 이름별로 제공한다.
+ * 값은 애플리케이션 시작 이후 누적치이다.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+    private final BookmarkCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, CacheStatsDescriptor> caches() {
+        Map<String, CacheStatsDescriptor> result = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheStatsDescriptor descriptor = describe(cacheManager.getCache(name));
+            if (descriptor != null) {
+                result.put(name, descriptor);
+            }
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public CacheStatsDescriptor cache(@Selector String name) {
+        return describe(cacheManager.getCache(name));
+    }
+
+    private CacheStatsDescriptor describe(Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+            cache == null ? null : CacheLayers.caffeine(cache);
+        if (nativeCache == null) {
+            return null;
+        }
+        CacheStats stats = nativeCache.stats();
+        BookmarkCacheProperties.Spec spec = properties.spec(cache.getName());
+        long maximum = maximum(nativeCache, spec);
+        Timer loads = meterRegistry.find("bookmark.cache.load.duration")
+            .tags("cache", cache.getName(), "result", "success")
+            .timer();
+
+        return new CacheStatsDescriptor(
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            loads == null ? 0L : loads.count(),
+            loads == null ? 0.0 : loads.mean(TimeUnit.MILLISECONDS),
+            stats.evictionCount(),
+            nativeCache.estimatedSize(),
+            weightedSize(nativeCache),
+            spec.getMaximumWeight() == null ? maximum : null,
+            spec.getMaximumWeight() == null ? null : maximum,
+            Objects.requireNonNullElse(CacheLayers.expireAfterWrite(cache), spec.getExpireAfterWrite()),
+            spec.getRefreshAfterWrite()
+        );
+    }
+
+    /**
+     * 현재 적용 중인 값 (자동 조정 시 spec 값과 다를 수 있음)
+     */
+    private long maximum(com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache,
+                         BookmarkCacheProperties.Spec spec) {
+        return nativeCache.policy().eviction()
+            .map(eviction -> eviction.getMaximum())
+            .orElseGet(() -> spec.getMaximumWeight() == null ? spec.getMaximumSize() : spec.getMaximumWeight().toBytes());
+    }
+
+    private long weightedSize(com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache) {
+        return nativeCache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    /**
+     * 캐시 통계 응답
+     *
+     * @param loadCount        캐시 미스로 실행된 로드 수 (동시 미스 병합 후)
+     * @param averageLoadMillis 로드 평균 소요 시간 (ms)
+     * @param weightedSize      현재 가중치 합 (maximumWeightBytes 설정 시 추정 바이트)
+     * @param maximumSize       현재 최대 항목 수 (바이트 예산 사용 시 null)
+     * @param maximumWeightBytes 현재 바이트 예산 (항목 수 제한 사용 시 null)
+     * @param expireAfterWrite  현재 TTL (자동 조정 시 spec 값과 다를 수 있음)
+     */
+    public record CacheStatsDescriptor(
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long loadCount,
+        double averageLoadMillis,
+        long evictionCount,
+        long size,
+        long weightedSize,
+        Long maximumSize,
+        Long maximumWeightBytes,
+        Duration expireAfterWrite,
+        Duration refreshAfterWrite
+    ) {
+    }
+}
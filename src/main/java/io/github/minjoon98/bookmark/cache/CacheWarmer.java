@@ -0,0 +1,123 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.repository.TagRepository;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 로그인 직후 사용자 캐시 예열
+ *
+ * <p>로그인한 클라이언트는 곧바로 첫 페이지와 자주 쓰는 태그 페이지를 조회하므로,
+ * 토큰 발급 후 비동기로 {@code bookmarksFirstPage}와 상위 태그의 {@code bookmarksByTag}를 미리 채운다.
+ *
+ * <p>동시에 진행하는 예열 수를 세마포어로 제한하고, 자리가 없으면 대기하지 않고 건너뛴다
+ * (로그인이 몰려도 예열이 사용하는 DB 커넥션은 최대 동시 예열 수를 넘지 않음, 건너뛴 사용자는 일반 미스로 적재).
+ * <p>적재는 {@code Cache#get(key, loader)}로 하므로 예열 중 같은 키의 실제 요청은 진행 중인 로드에 합류한다.
+ */
+@Slf4j
+public class CacheWarmer {
+
+    /** 컨트롤러 기본 페이지 크기 ({@code @PageableDefault(size = 20)}) - 같아야 예열한 키가 적중함 */
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+    private final BookmarkService bookmarkService;
+    private final TagRepository tagRepository;
+    private final Executor executor;
+    private final Semaphore permits;
+    private final int topTags;
+
+    private final Counter completed;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public CacheWarmer(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkService bookmarkService,
+        TagRepository tagRepository,
+        Executor executor,
+        int maxConcurrent,
+        int topTags,
+        MeterRegistry meterRegistry
+    ) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.bookmarkService = bookmarkService;
+        this.tagRepository = tagRepository;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrent);
+        this.topTags = topTags;
+        this.completed = warmUpCounter(meterRegistry, "completed");
+        this.skipped = warmUpCounter(meterRegistry, "skipped");
+        this.failed = warmUpCounter(meterRegistry, "failed");
+    }
+
+    private static Counter warmUpCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bookmark.cache.warmup")
+            .description("로그인 후 캐시 예열 수 (skipped: 동시 예열 수 초과로 건너뜀)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 캐시 예열 요청 (즉시 반환)
+     *
+     * @return 예열을 시작했으면 true, 동시 예열 수 초과로 건너뛰었으면 false
+     */
+    public boolean warmUp(Long userId) {
+        if (!permits.tryAcquire()) {
+            skipped.increment();
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    warm(userId);
+                    completed.increment();
+                } catch (RuntimeException ex) {
+                    failed.increment();
+                    log.warn("캐시 예열 실패: userId={}", userId, ex);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            permits.release();
+            skipped.increment();
+            return false;
+        }
+    }
+
+    private void warm(Long userId) {
+        // 예열 중 쓰기로 세대가 바뀌면 이전 세대 키로 적재되어 조회되지 않으므로 정합성에 영향 없음
+        long generation = cacheGenerations.current(userId);
+        load("bookmarksFirstPage", BookmarkPageKey.of(userId, generation, null, FIRST_PAGE),
+            () -> bookmarkService.loadBookmarks(userId, null, FIRST_PAGE));
+
+        for (String tagName : tagRepository.findTopNamesByUserId(userId, PageRequest.of(0, topTags))) {
+            load("bookmarksByTag", BookmarkPageKey.of(userId, generation, tagName, FIRST_PAGE),
+                () -> bookmarkService.loadBookmarksByTag(userId, tagName, FIRST_PAGE));
+        }
+    }
+
+    private void load(String cacheName, BookmarkPageKey key, Callable<Object> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.get(key, loader);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 검증을 통과한 JWT 디코딩 결과 캐시 (토큰 SHA-256 다이제스트 → {@link Jwt})
+ *
+ * <p>클라이언트는 같은 토큰을 수 시간 재사용하므로, 요청마다 Nimbus 디코더가 같은 토큰의
+ * Base64/JSON 파싱, HMAC 서명 검증, 클레임 검증을 반복한다. 한 번 검증한 결과를 보관하여
+ * 이후 요청은 다이제스트 계산 + 해시 조회로 끝낸다.
+ * <ul>
+ *   <li>만료: 항목마다 {@code min(max-ttl, exp - 현재)} - 토큰 만료 이후에는 적중하지 않고 디코더가 다시 거부</li>
+ *   <li>검증 실패(서명 불일치, 만료 등)는 저장하지 않음 - 잘못된 토큰은 매번 디코더를 거침</li>
+ *   <li>적중 시 원본 토큰 문자열을 비교 - 다이제스트 충돌로 다른 토큰의 결과를 돌려주지 않음</li>
+ * </ul>
+ * <p>폐기 공백: 항목을 제거하는 경로가 없으므로 서명 키를 교체하거나 토큰을 폐기해도 캐시된 토큰은
+ * 항목 만료(최대 {@code max-ttl})까지 계속 인증된다. 그래서 기본값은 비활성({@code bookmark.cache.jwt.enabled=false})이며,
+ * 켤 때는 {@code max-ttl}을 허용 가능한 폐기 지연으로 잡는다.
+ * <p>메트릭 {@code bookmark.cache.jwt.decode} (result=hit|miss)
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final long maxTtlNanos;
+    private final LongSupplier millisClock;
+    private final Cache<TokenDigest, Jwt> tokens;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(
+        JwtDecoder delegate,
+        long maximumSize,
+        Duration maxTtl,
+        MeterRegistry meterRegistry,
+        Ticker ticker,
+        LongSupplier millisClock
+    ) {
+        this.delegate = delegate;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.millisClock = millisClock;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(new TokenExpiry())
+            .build();
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        TokenDigest digest = TokenDigest.of(token);
+        Jwt cached = tokens.getIfPresent(digest);
+        if (cached != null && cached.getTokenValue().equals(token)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+        tokens.put(digest, jwt);
+        return jwt;
+    }
+
+    private long ttlNanos(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maxTtlNanos;
+        }
+        long remainingMillis = expiresAt.toEpochMilli() - millisClock.getAsLong();
+        return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bookmark.cache.jwt.decode")
+            .description("JWT 디코딩 캐시 조회 결과")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 생성/갱신 시 토큰 만료 시각까지, 조회는 남은 시간 유지
+     */
+    private class TokenExpiry implements Expiry<TokenDigest, Jwt> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Jwt jwt, long currentTime) {
+            return ttlNanos(jwt);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, Jwt jwt, long currentTime, long currentDuration) {
+            return ttlNanos(jwt);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (256비트를 long 4개로 보관, 키 크기가 토큰 길이와 무관)
+     */
+    record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 전파 (클러스터 모드 전용)
+ *
+ * <p>로컬에서 커밋 후 적용된 무효화 배치를 발행 대기열에 모았다가 주기적으로 한 번에 발행하고,
+ * 다른 노드가 발행한 무효화를 주기적으로 수신하여 이 노드의 캐시에만 반영한다.
+ * 대기열은 사용자/단건 키 단위로 중복 제거되므로 같은 키에 대한 연속 쓰기는 메시지 1건으로 합쳐진다.
+ *
+ * <p>메트릭
+ * <ul>
+ *   <li>{@code bookmark.cache.cluster.published} - 발행한 배치 수</li>
+ *   <li>{@code bookmark.cache.cluster.received} - 수신하여 적용한 배치 수</li>
+ * </ul>
+ */
+@Slf4j
+public class ClusterCacheInvalidationBus {
+
+    private final String nodeId;
+    private final CacheInvalidationTransport transport;
+    private final BookmarkCacheEvictor bookmarkCacheEvictor;
+    private final Duration retention;
+    private final Counter published;
+    private final Counter received;
+
+    private CacheInvalidationBatch pending = new CacheInvalidationBatch();
+
+    public ClusterCacheInvalidationBus(
+        String nodeId,
+        CacheInvalidationTransport transport,
+        BookmarkCacheEvictor bookmarkCacheEvictor,
+        Duration retention,
+        MeterRegistry meterRegistry
+    ) {
+        this.nodeId = nodeId;
+        this.transport = transport;
+        this.bookmarkCacheEvictor = bookmarkCacheEvictor;
+        this.retention = retention;
+        this.published = Counter.builder("bookmark.cache.cluster.published")
+            .description("다른 노드로 발행한 무효화 배치 수")
+            .register(meterRegistry);
+        this.received = Counter.builder("bookmark.cache.cluster.received")
+            .description("다른 노드에서 수신하여 적용한 무효화 배치 수")
+            .register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 로컬에 적용된 무효화를 발행 대기열에 추가
+     */
+    public synchronized void enqueue(CacheInvalidationBatch batch) {
+        pending.merge(batch);
+    }
+
+    /**
+     * 대기열을 비우고 한 번에 발행
+     */
+    @Scheduled(fixedDelayString = "${bookmark.cache.cluster.publish-interval:200ms}")
+    public void publishPending() {
+        CacheInvalidationBatch batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new CacheInvalidationBatch();
+        }
+        try {
+            transport.publish(nodeId, batch);
+            published.increment();
+        } catch (RuntimeException ex) {
+            // 발행 실패 시 다음 주기에 재시도
+            enqueue(batch);
+            log.warn("캐시 무효화 발행 실패, 다음 주기에 재시도합니다", ex);
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화를 수신하여 이 노드의 캐시에만 반영
+     */
+    @Scheduled(fixedDelayString = "${bookmark.cache.cluster.poll-interval:500ms}")
+    public void pollPeers() {
+        CacheInvalidationBatch batch = transport.poll(nodeId);
+        if (!batch.isEmpty()) {
+            bookmarkCacheEvictor.applyLocally(batch);
+            received.increment();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 정리
+     */
+    @Scheduled(fixedDelayString = "${bookmark.cache.cluster.purge-interval:1m}")
+    public void purgeExpired() {
+        transport.purgeBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * 종료 전 남은 무효화 발행
+     */
+    @PreDestroy
+    public void flush() {
+        publishPending();
+    }
+}
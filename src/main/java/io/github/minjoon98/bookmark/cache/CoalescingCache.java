@@ -0,0 +1,175 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 캐시 미스 병합(single-flight) 데코레이터
+ *
+ * <p>{@code @Cacheable(sync = true)}가 호출하는 {@link #get(Object, Callable)}에서
+ * 같은 키에 대한 로드가 진행 중이면 새로 DB를 조회하지 않고 진행 중인 로드 결과를 공유한다.
+ * TTL 만료 직후 인기 키에 요청이 몰려도 DB 조회(페이지 + COUNT)는 키당 1회만 실행된다.
+ *
+ * <p>메트릭
+ * <ul>
+ *   <li>{@code bookmark.cache.loads} - 실제 실행된 로드 수</li>
+ *   <li>{@code bookmark.cache.loads.coalesced} - 진행 중인 로드에 합류하여 생략된 로드 수</li>
+ *   <li>{@code bookmark.cache.load.duration} - 로드 소요 시간 (태그 result=success|failure)</li>
+ * </ul>
+ *
+ * <p>로드는 Caffeine 밖에서 실행되므로 Caffeine 통계의 로드 시간에는 잡히지 않고 위 타이머로 측정한다.
+ * <p>{@link CacheAccessListener}가 지정되면 {@code @Cacheable} 조회마다 키를 전달한다 (조회 빈도 추적).
+ */
+public class CoalescingCache implements Cache {
+
+    private final Cache delegate;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Timer successfulLoads;
+    private final Timer failedLoads;
+    private final CacheAccessListener accessListener;
+
+    public CoalescingCache(Cache delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, null);
+    }
+
+    public CoalescingCache(Cache delegate, MeterRegistry meterRegistry, CacheAccessListener accessListener) {
+        this.delegate = delegate;
+        this.accessListener = accessListener;
+        this.loads = Counter.builder("bookmark.cache.loads")
+            .description("캐시 미스로 실제 실행된 로드 수")
+            .tag("cache", delegate.getName())
+            .register(meterRegistry);
+        this.coalescedLoads = Counter.builder("bookmark.cache.loads.coalesced")
+            .description("진행 중인 로드에 합류하여 생략된 로드 수")
+            .tag("cache", delegate.getName())
+            .register(meterRegistry);
+        this.successfulLoads = loadTimer(meterRegistry, "success");
+        this.failedLoads = loadTimer(meterRegistry, "failure");
+    }
+
+    private Timer loadTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("bookmark.cache.load.duration")
+            .description("캐시 미스 로드 소요 시간")
+            .tag("cache", delegate.getName())
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (accessListener != null) {
+            accessListener.onAccess(getName(), key);
+        }
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            coalescedLoads.increment();
+            return (T) await(key, valueLoader, running);
+        }
+
+        long start = System.nanoTime();
+        try {
+            // 첫 조회와 putIfAbsent 사이에 다른 로드가 끝나 저장했을 수 있으므로 다시 확인
+            ValueWrapper loaded = delegate.get(key);
+            if (loaded != null) {
+                load.complete(loaded.get());
+                return (T) loaded.get();
+            }
+            loads.increment();
+            T value = valueLoader.call();
+            successfulLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            delegate.put(key, value);
+            load.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            failedLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            load.completeExceptionally(ex);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            // 선행 로드의 예외를 그대로 전달 (CacheAspectSupport가 원래 예외로 복원)
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 조회 빈도 추정용 count-min sketch
+ *
+ * <p>키마다 카운터를 두지 않고 {@code depth}개 행에서 해시 위치의 카운터를 올린 뒤 최솟값을 추정치로 사용한다.
+ * 충돌로 과대 추정될 수는 있지만 과소 추정은 없고, 메모리는 키 수와 무관하게 {@code depth * width * 4}바이트로 고정된다.
+ *
+ * <p>카운터는 lock-free로 증가하며, {@link #halve()}로 전체를 절반으로 줄여 최근 빈도에 가중치를 둔다.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width와 depth는 1 이상이어야 합니다");
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.depth = depth;
+        this.mask = rowWidth - 1;
+        this.counters = new AtomicIntegerArray(rowWidth * depth);
+    }
+
+    /**
+     * 빈도 1 증가 후 추정치 반환
+     */
+    int increment(Object item) {
+        int hash = spread(item.hashCode());
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(hash, row);
+            int current;
+            do {
+                current = counters.get(index);
+            } while (current != Integer.MAX_VALUE && !counters.compareAndSet(index, current, current + 1));
+            estimate = Math.min(estimate, current == Integer.MAX_VALUE ? current : current + 1);
+        }
+        return estimate;
+    }
+
+    int estimate(Object item) {
+        int hash = spread(item.hashCode());
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 (aging)
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    /**
+     * 행마다 다른 해시 (double hashing: h1 + row * h2)
+     */
+    private int index(int hash, int row) {
+        int h2 = spread(hash ^ 0x9E3779B9) | 1;
+        return row * (mask + 1) + ((hash + row * h2) & mask);
+    }
+
+    /**
+     * murmur3 finalizer - hashCode 하위 비트 편중 완화
+     */
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.entity.BookmarkTag;
+import io.github.minjoon98.bookmark.entity.Tag;
+import io.github.minjoon98.bookmark.repository.BookmarkOwner;
+import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 엔티티 변경 이벤트 기반 캐시 무효화
+ *
+ * <p>{@link Bookmark}, {@link BookmarkTag}, {@link Tag}의 insert/update/delete 이벤트를
+ * 트랜잭션 단위 {@link CacheInvalidationBatch}로 모으고, 커밋 후 한 번만 적용한다.
+ * 서비스 메서드 애노테이션과 무관하게 어떤 경로로 데이터가 바뀌어도 캐시가 무효화되며,
+ * 롤백된 트랜잭션은 캐시를 건드리지 않는다.
+ *
+ * <p>Hibernate의 POST_COMMIT_* 이벤트는 엔티티마다 개별 호출되므로,
+ * flush 시점 이벤트를 수집하고 Spring 트랜잭션 동기화의 afterCommit에서 일괄 적용한다.
+ *
+ * <p>태그 변경은 그 태그가 연결된 북마크의 소유자만 무효화한다.
+ * 연결 목록이 로딩되지 않은 태그는 flush 중에 쿼리하지 않고, 커밋 후 bookmark_tags → bookmarks로 소유자를 조회한다.
+ * (태그 삭제는 연결 목록을 cascade로 읽으므로 {@link BookmarkTag} 삭제 이벤트로도 소유자가 기록됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidationListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final BookmarkCacheEvictor bookmarkCacheEvictor;
+    private final BookmarkRepository bookmarkRepository;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // 새 태그는 아직 어떤 북마크에도 연결되지 않았으므로 무효화 대상 아님
+        if (!(event.getEntity() instanceof Tag)) {
+            collect(event.getEntity());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        collect(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        collect(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void collect(Object entity) {
+        switch (entity) {
+            case Bookmark bookmark -> bookmarkChanged(bookmark);
+            case BookmarkTag bookmarkTag -> bookmarkChanged(bookmarkTag.getBookmark());
+            case Tag tag -> tagChanged(tag);
+            default -> {
+            }
+        }
+    }
+
+    private void bookmarkChanged(Bookmark bookmark) {
+        withBatch(batch -> batch.bookmarkChanged(bookmark.getUser().getId(), bookmark.getId()));
+    }
+
+    private void tagChanged(Tag tag) {
+        // 연결된 북마크가 없는 태그(고아 태그 정리)는 순회할 항목이 없어 캐시에 영향 없음
+        if (Hibernate.isInitialized(tag.getBookmarkTags())) {
+            tag.getBookmarkTags().forEach(bookmarkTag -> bookmarkChanged(bookmarkTag.getBookmark()));
+            return;
+        }
+        Long tagId = tag.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            CacheInvalidationBatch batch = new CacheInvalidationBatch();
+            addTagOwners(batch, tagId);
+            bookmarkCacheEvictor.apply(batch);
+            return;
+        }
+        afterCommitInvalidation().tagIds.add(tagId);
+    }
+
+    private void addTagOwners(CacheInvalidationBatch batch, Long tagId) {
+        for (BookmarkOwner owner : bookmarkRepository.findOwnersByTagId(tagId)) {
+            batch.bookmarkChanged(owner.userId(), owner.bookmarkId());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 배치에 기록 (트랜잭션이 없으면 즉시 적용)
+     */
+    private void withBatch(Consumer<CacheInvalidationBatch> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            CacheInvalidationBatch batch = new CacheInvalidationBatch();
+            change.accept(batch);
+            bookmarkCacheEvictor.apply(batch);
+            return;
+        }
+        change.accept(afterCommitInvalidation().batch);
+    }
+
+    private AfterCommitInvalidation afterCommitInvalidation() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+            .filter(AfterCommitInvalidation.class::isInstance)
+            .map(AfterCommitInvalidation.class::cast)
+            .findFirst()
+            .orElseGet(() -> {
+                AfterCommitInvalidation created = new AfterCommitInvalidation();
+                TransactionSynchronizationManager.registerSynchronization(created);
+                return created;
+            });
+    }
+
+    /**
+     * 트랜잭션당 1개 등록되는 커밋 후 무효화 동기화
+     *
+     * <p>가장 먼저 실행되도록 하여, 같은 트랜잭션의 단건 캐시 write-through(@CachePut)가
+     * 무효화 이후에 반영되게 함
+     */
+    private class AfterCommitInvalidation implements TransactionSynchronization, Ordered {
+
+        private final CacheInvalidationBatch batch = new CacheInvalidationBatch();
+        // 연결 목록 없이 수정된 태그 - 커밋 후 소유자 조회
+        private final Set<Long> tagIds = new HashSet<>();
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            tagIds.forEach(tagId -> addTagOwners(batch, tagId));
+            if (!batch.isEmpty()) {
+                bookmarkCacheEvictor.apply(batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * L1 항목별 만료 정책 (Caffeine 캐시, off-heap 인덱스)
+ *
+ * <p>일반 쓰기/갱신은 기본 TTL(expireAfterWrite) 후 만료하고, 조회는 만료 시각을 바꾸지 않는다.
+ * L2 적중 값이나 스냅샷 복원 값처럼 이미 수명 일부가 지난 값은 {@link ExpiringCache#put(Object, Object, Duration)}로
+ * 남은 수명만 지정하여, 다시 적재해도 최대 staleness가 TTL을 넘지 않게 한다.
+ *
+ * <p>기본 TTL은 {@link AdaptiveCacheTuner}가 조정할 수 있으며, 바뀐 값은 이후 쓰기부터 적용된다.
+ */
+public class EntryExpiry implements Expiry<Object, Object> {
+
+    private volatile long expireAfterWriteNanos;
+
+    public EntryExpiry(Duration expireAfterWrite) {
+        setExpireAfterWrite(expireAfterWrite);
+    }
+
+    public Duration getExpireAfterWrite() {
+        return Duration.ofNanos(expireAfterWriteNanos);
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return expireAfterWriteNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterWriteNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
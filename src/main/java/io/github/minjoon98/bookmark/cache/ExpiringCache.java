@@ -0,0 +1,29 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 항목별 만료({@link EntryExpiry})를 지원하는 L1 캐시
+ *
+ * <p>구현: {@link ExpiringCaffeineCache}, {@link OffHeapCache}
+ */
+public interface ExpiringCache extends Cache {
+
+    /**
+     * 기본 TTL 정책 (조정 시 이후 쓰기부터 적용)
+     */
+    EntryExpiry getExpiry();
+
+    /**
+     * 남은 수명만큼만 보관 - L2 적중 값, 스냅샷 복원 값처럼 이미 수명 일부가 지난 값 적재용
+     */
+    void put(Object key, Object value, Duration ttl);
+
+    /**
+     * 항목의 남은 수명 (없으면 empty)
+     */
+    Optional<Duration> remainingTtl(Object key);
+}
@@ -0,0 +1,37 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 항목별 만료를 사용하는 L1 Caffeine 캐시
+ *
+ * <p>Caffeine 캐시는 {@code expireAfter(expiry)}로 만든 것이어야 한다 (남은 수명 지정에 가변 만료 정책 사용).
+ */
+public class ExpiringCaffeineCache extends CaffeineCache implements ExpiringCache {
+
+    private final EntryExpiry expiry;
+
+    public ExpiringCaffeineCache(
+        String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, EntryExpiry expiry) {
+        super(name, cache);
+        this.expiry = expiry;
+    }
+
+    @Override
+    public EntryExpiry getExpiry() {
+        return expiry;
+    }
+
+    @Override
+    public void put(Object key, Object value, Duration ttl) {
+        getNativeCache().policy().expireVariably().orElseThrow().put(key, toStoreValue(value), ttl);
+    }
+
+    @Override
+    public Optional<Duration> remainingTtl(Object key) {
+        return getNativeCache().policy().expireVariably().flatMap(expiration -> expiration.getExpiresAfter(key));
+    }
+}
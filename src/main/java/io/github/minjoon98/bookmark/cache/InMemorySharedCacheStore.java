@@ -0,0 +1,77 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 내 공유 캐시 저장소 (Redis 대체용)
+ *
+ * <p>테스트와 로컬 실행에서 외부 Redis 없이 2단계 캐시를 사용하기 위한 구현.
+ * 만료는 조회 시점에 확인하여 제거한다.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemorySharedCacheStore() {
+        this(System::nanoTime);
+    }
+
+    public InMemorySharedCacheStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public byte[] get(String key) {
+        StoredValue stored = getWithTtl(key);
+        return stored == null ? null : stored.value();
+    }
+
+    @Override
+    public StoredValue getWithTtl(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long remaining = entry.expiresAt() - nanoClock.getAsLong();
+        if (remaining <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return new StoredValue(entry.value(), Duration.ofNanos(remaining));
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        entries.put(key, new Entry(value, nanoClock.getAsLong() + ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    public long counter(String key) {
+        AtomicLong counter = counters.get(key);
+        return counter == null ? 0L : counter.get();
+    }
+
+    @Override
+    public long increment(String key) {
+        return counters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+    }
+}
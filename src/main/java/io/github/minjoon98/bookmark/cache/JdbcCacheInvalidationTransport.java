@@ -0,0 +1,93 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.entity.CacheInvalidation;
+import io.github.minjoon98.bookmark.repository.CacheInvalidationRepository;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 테이블(cache_invalidations) 폴링 기반 무효화 전달
+ *
+ * <p>모든 노드가 같은 DB를 공유하므로 별도 인프라 없이 동작한다.
+ * 발행은 배치 단위 한 번의 saveAll, 수신은 다른 노드 메시지 중 아직 적용하지 않은 것만 조회한다.
+ *
+ * <p>IDENTITY ID는 INSERT 시점에 정해지지만 커밋 시점에 보이므로, 작은 ID가 큰 ID보다 늦게 보일 수 있다.
+ * 마지막 수신 ID 이후만 읽으면 늦게 커밋된 메시지를 영영 놓치므로 유예 기간(visibilityGrace) 안에 생성된
+ * 메시지를 매번 다시 조회하고, 이미 적용한 ID는 유예 기간 동안 기억하여 중복 적용하지 않는다.
+ * (무효화는 멱등이므로 중복 적용되어도 결과는 같음)
+ */
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final CacheInvalidationRepository repository;
+    private final Duration visibilityGrace;
+
+    // 시작 시점 이전 메시지는 이 노드의 캐시와 무관하므로 현재 마지막 ID부터 수신
+    private long lastSeenId;
+
+    // 유예 기간 안에서 이미 적용한 메시지 ID → 생성 시각
+    private final Map<Long, LocalDateTime> recentlySeen = new HashMap<>();
+
+    public JdbcCacheInvalidationTransport(CacheInvalidationRepository repository, Duration visibilityGrace) {
+        this.repository = repository;
+        this.visibilityGrace = visibilityGrace;
+        this.lastSeenId = repository.findMaxId();
+    }
+
+    @Override
+    public void publish(String nodeId, CacheInvalidationBatch batch) {
+        List<CacheInvalidation> rows = new ArrayList<>();
+        if (batch.isAll()) {
+            rows.add(CacheInvalidation.builder().nodeId(nodeId).invalidateAll(true).build());
+        }
+        batch.getUserIds().forEach(userId ->
+            rows.add(CacheInvalidation.builder().nodeId(nodeId).userId(userId).build()));
+        batch.getBookmarkKeys().forEach(key ->
+            rows.add(CacheInvalidation.builder()
+                .nodeId(nodeId)
+                .userId(key.userId())
+                .bookmarkId(key.bookmarkId())
+                .build()));
+        repository.saveAll(rows);
+    }
+
+    @Override
+    public synchronized CacheInvalidationBatch poll(String nodeId) {
+        LocalDateTime since = LocalDateTime.now().minus(visibilityGrace);
+        recentlySeen.values().removeIf(createdAt -> createdAt.isBefore(since));
+
+        CacheInvalidationBatch batch = new CacheInvalidationBatch();
+        long afterId = 0;
+        List<CacheInvalidation> rows;
+        do {
+            rows = repository.findUnseen(afterId, lastSeenId, since, nodeId, Limit.of(PAGE_SIZE));
+            for (CacheInvalidation row : rows) {
+                afterId = row.getId();
+                if (recentlySeen.putIfAbsent(row.getId(), row.getCreatedAt()) != null) {
+                    continue;
+                }
+                if (row.isInvalidateAll()) {
+                    batch.invalidateAll();
+                } else if (row.getBookmarkId() != null) {
+                    batch.addBookmark(new BookmarkKey(row.getUserId(), row.getBookmarkId()));
+                } else {
+                    batch.addUserPages(row.getUserId());
+                }
+                lastSeenId = Math.max(lastSeenId, row.getId());
+            }
+        } while (rows.size() == PAGE_SIZE);
+        return batch;
+    }
+
+    @Override
+    public void purgeBefore(LocalDateTime cutoff) {
+        repository.deleteCreatedBefore(cutoff);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 캐시된 응답 객체의 직렬화 결과(UTF-8 JSON 바이트 + ETag) 보관
+ *
+ * <p>캐시 적중 시 서비스는 같은 응답 인스턴스를 반환하므로, 인스턴스 기준(weak key, identity)으로
+ * 한 번 만든 JSON 바이트를 재사용한다. 적중 응답은 Jackson 직렬화 대신 바이트 복사만 수행한다.
+ *
+ * <p>캐시 항목이 교체(write-through, refresh-ahead)되면 새 인스턴스이므로 다시 직렬화되고,
+ * 이전 인스턴스는 캐시에서 제거되어 참조가 사라지면 함께 정리된다.
+ * 직렬화에는 MVC와 같은 ObjectMapper를 사용하므로 응답 본문은 일반 경로와 동일하다.
+ */
+public class JsonBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Object, JsonBody> bodies;
+
+    public JsonBodyCache(ObjectMapper objectMapper, long maximumBytes) {
+        this.objectMapper = objectMapper;
+        this.bodies = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(maximumBytes)
+            .<Object, JsonBody>weigher((value, body) -> body.bytes().length)
+            .build();
+    }
+
+    /**
+     * 응답 객체의 JSON 본문 - 같은 인스턴스는 최초 1회만 직렬화
+     */
+    public JsonBody render(Object value) {
+        return bodies.get(value, this::serialize);
+    }
+
+    private JsonBody serialize(Object value) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            return new JsonBody(bytes, "\"0" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("응답 JSON 직렬화 실패: " + value.getClass().getName(), ex);
+        }
+    }
+
+    /**
+     * 직렬화된 응답 본문
+     *
+     * @param bytes UTF-8 JSON (수정 금지, 응답에 그대로 기록)
+     * @param etag  본문 해시 기반 강한 ETag (따옴표 포함)
+     */
+    public record JsonBody(byte[] bytes, String etag) {
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * 없는 대상 조회 결과 캐시 (negative caching)
+ *
+ * <p>삭제된 북마크 ID나 더 이상 쓰지 않는 태그명을 반복 조회하는 클라이언트 때문에
+ * 매번 DB 조회 후 예외/빈 결과가 나는 것을 막기 위해 "없음"을 짧은 TTL로 기억한다.
+ * ({@code notFound} 캐시, TTL/최대 크기는 {@code bookmark.cache.specs})
+ *
+ * <ul>
+ *   <li>북마크 ID: 존재 여부는 사용자와 무관하므로 ID 단위로 기록, 해당 ID의 북마크가 생성되면
+ *       {@link BookmarkCacheEvictor}가 커밋 후 삭제 (권한 없음은 기록하지 않음)</li>
+ *   <li>태그: 사용자 + 태그명 단위로 결과가 0건임을 기록, 키에 사용자 캐시 세대를 포함하므로
+ *       태그 추가 등 해당 사용자의 쓰기가 커밋되면 별도 삭제 없이 무효화</li>
+ * </ul>
+ */
+@Component
+public class NegativeLookupCache {
+
+    public static final String CACHE_NAME = "notFound";
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+
+    public NegativeLookupCache(CacheManager cacheManager, CacheGenerations cacheGenerations) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+    }
+
+    public Object bookmarkKey(Long bookmarkId) {
+        return new MissingBookmarkKey(bookmarkId);
+    }
+
+    /**
+     * 조회 전에 만들어야 함 - 조회 중 세대가 바뀌면 이전 세대 키로 기록되어 조회되지 않음
+     */
+    public Object tagKey(Long userId, String tagName) {
+        return new EmptyTagKey(userId, cacheGenerations.current(userId), tagName);
+    }
+
+    public boolean contains(Object key) {
+        return cache().get(key) != null;
+    }
+
+    public void mark(Object key) {
+        cache().put(key, Boolean.TRUE);
+    }
+
+    /**
+     * 북마크 생성 시 해당 ID의 "없음" 기록 삭제
+     */
+    public void forgetBookmark(Long bookmarkId) {
+        cache().evict(new MissingBookmarkKey(bookmarkId));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    record MissingBookmarkKey(Long bookmarkId) implements Serializable {
+    }
+
+    record EmptyTagKey(Long userId, long generation, String tagName) implements Serializable {
+    }
+}
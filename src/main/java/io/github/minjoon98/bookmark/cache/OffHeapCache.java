@@ -0,0 +1,199 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * 값을 힙 밖에 저장하는 캐시 (L1 대체)
+ *
+ * <p>값은 {@link CacheCodec}으로 인코딩하여 {@link OffHeapSlabStore}에 저장하고,
+ * 힙에는 키 → 저장 위치({@link OffHeapSlabStore.Slot}) 인덱스만 유지한다.
+ * 항목 수가 수십만 건으로 늘어도 응답 객체 그래프(String, LocalDateTime, 태그 List)가
+ * old gen에 쌓이지 않으므로 GC 부담이 커지지 않는다. 대신 적중마다 디코딩 비용이 든다.
+ *
+ * <p>인덱스는 Caffeine으로 관리하여 TTL, 바이트 예산(점유 청크 크기 합) 기반 제거, 통계를 그대로 사용하며,
+ * 항목이 제거/교체되면 청크를 해제한다. 코덱이 지원하지 않는 값이나 저장소에 공간이 없는 값은 캐싱하지 않는다.
+ * 인덱스 만료는 {@link EntryExpiry}로 항목별 남은 수명을 지정할 수 있다.
+ *
+ * <p>메트릭: {@code bookmark.cache.offheap.reserved}(할당된 슬랩 바이트), {@code bookmark.cache.offheap.rejected}(저장 못한 값 수)
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache implements ExpiringCache {
+
+    private static final int COLD_SCAN_LIMIT = 64;
+
+    private final String name;
+    private final OffHeapSlabStore store;
+    private final EntryExpiry expiry;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, OffHeapSlabStore.Slot> index;
+    private final Counter rejected;
+
+    public OffHeapCache(String name, OffHeapSlabStore store, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.store = store;
+        this.expiry = new EntryExpiry(expireAfterWrite);
+        this.index = Caffeine.newBuilder()
+            .expireAfter(expiry)
+            .maximumWeight(store.capacity())
+            // 청크 해제는 가벼우므로 호출 스레드에서 바로 실행 (제거 즉시 재사용 가능)
+            .executor(Runnable::run)
+            .recordStats()
+            .<Object, OffHeapSlabStore.Slot>weigher((key, slot) -> slot.capacity())
+            .removalListener((key, slot, cause) -> {
+                if (slot != null) {
+                    store.free(slot);
+                }
+            })
+            .build();
+        this.rejected = Counter.builder("bookmark.cache.offheap.rejected")
+            .description("크기 초과/공간 부족으로 off-heap에 저장하지 못한 값 수")
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("bookmark.cache.offheap.reserved", store, OffHeapSlabStore::reservedBytes)
+            .description("off-heap 캐시에 할당된 슬랩 크기")
+            .tag("cache", name)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 키 → 저장 위치 인덱스 (통계, 크기 조정용)
+     */
+    @SuppressWarnings("unchecked")
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getIndex() {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) (com.github.benmanes.caffeine.cache.Cache<?, ?>) index;
+    }
+
+    @Override
+    public EntryExpiry getExpiry() {
+        return expiry;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return index;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        OffHeapSlabStore.Slot slot = index.getIfPresent(key);
+        if (slot == null) {
+            return null;
+        }
+        byte[] bytes = store.read(slot);
+        if (bytes == null) {
+            // 조회 도중 제거/교체되어 청크가 재사용된 경우
+            index.asMap().remove(key, slot);
+            return null;
+        }
+        return CacheCodec.decodeValue(bytes);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        OffHeapSlabStore.Slot slot = encode(key, value);
+        if (slot != null) {
+            index.put(key, slot);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value, Duration ttl) {
+        OffHeapSlabStore.Slot slot = encode(key, value);
+        if (slot != null) {
+            index.policy().expireVariably().orElseThrow().put(key, slot, ttl);
+        }
+    }
+
+    @Override
+    public Optional<Duration> remainingTtl(Object key) {
+        return index.policy().expireVariably().flatMap(expiration -> expiration.getExpiresAfter(key));
+    }
+
+    /**
+     * 인코딩하여 저장 - 저장하지 못하면 이전 값이 새 값 대신 조회되지 않도록 제거하고 null
+     */
+    private OffHeapSlabStore.Slot encode(Object key, Object value) {
+        OffHeapSlabStore.Slot slot = CacheCodec.supportsValue(value) ? write(CacheCodec.encodeValue(value)) : null;
+        if (slot == null) {
+            rejected.increment();
+            index.invalidate(key);
+        }
+        return slot;
+    }
+
+    /**
+     * 저장 - 해당 크기 등급에 빈 청크가 없으면 같은 등급의 가장 오래된 항목을 제거하고 재시도
+     * <p>인덱스의 바이트 예산 안이어도 등급별 슬랩 분할 때문에 특정 등급만 가득 찰 수 있음
+     */
+    private OffHeapSlabStore.Slot write(byte[] bytes) {
+        OffHeapSlabStore.Slot slot = store.write(bytes);
+        int sizeClass = store.sizeClassOf(bytes.length);
+        if (slot != null || sizeClass < 0) {
+            return slot;
+        }
+        Map<Object, OffHeapSlabStore.Slot> coldest = index.policy().eviction().orElseThrow().coldest(COLD_SCAN_LIMIT);
+        for (Map.Entry<Object, OffHeapSlabStore.Slot> entry : coldest.entrySet()) {
+            if (entry.getValue().sizeClass() != sizeClass) {
+                continue;
+            }
+            index.asMap().remove(entry.getKey(), entry.getValue());
+            slot = store.write(bytes);
+            if (slot != null) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        index.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return index.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        index.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = index.estimatedSize() > 0;
+        index.invalidateAll();
+        return notEmpty;
+    }
+}
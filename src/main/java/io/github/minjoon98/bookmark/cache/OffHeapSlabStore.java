@@ -0,0 +1,266 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 힙 밖(direct ByteBuffer) 바이트 저장소
+ *
+ * <p>1MB 슬랩을 크기 등급(128B ~ 16KB, 2의 거듭제곱)별 청크로 나누어 값을 저장한다.
+ * 해제된 청크는 같은 등급의 빈 목록으로 돌아가 재사용되며, 슬랩은 용량 한도까지만 추가 할당한다.
+ *
+ * <p>모든 청크가 해제된 슬랩은 공용 용량으로 반환하여 다른 크기 등급이 사용할 수 있게 한다
+ * (값 크기 분포가 바뀌어도 처음 채운 등급이 용량을 계속 차지하지 않음).
+ * 분할 중인 슬랩은 할당/반환 반복을 막기 위해 남겨 두고, 용량이 부족할 때만 다른 등급의 빈 분할 중 슬랩을 회수한다.
+ *
+ * <p>청크 앞 8바이트는 버전이다. 해제 시 버전을 올리므로, 해제 후 재사용된 청크를 이전 {@link Slot}으로
+ * 읽으면 버전 불일치로 null을 반환한다 (seqlock 방식: 데이터 복사 후 버전 재확인).
+ * 반환된 슬랩 자리에 새로 할당한 슬랩은 이전보다 큰 버전에서 시작하므로 이전 핸들과 겹치지 않는다.
+ */
+public class OffHeapSlabStore {
+
+    static final int SLAB_SIZE = 1 << 20;
+    static final int HEADER = Long.BYTES;
+    private static final int MIN_CHUNK = 128;
+    private static final int MAX_CHUNK = 16 * 1024;
+
+    private static final VarHandle VERSION =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final long capacity;
+    private final SizeClass[] sizeClasses;
+    private final AtomicLong reserved = new AtomicLong();
+
+    public OffHeapSlabStore(long capacityBytes) {
+        this.capacity = capacityBytes;
+        int classes = Integer.numberOfTrailingZeros(MAX_CHUNK) - Integer.numberOfTrailingZeros(MIN_CHUNK) + 1;
+        this.sizeClasses = new SizeClass[classes];
+        for (int i = 0; i < classes; i++) {
+            sizeClasses[i] = new SizeClass(i, MIN_CHUNK << i);
+        }
+    }
+
+    /**
+     * 값 저장 - 값이 최대 청크보다 크거나 용량이 부족하면 null
+     */
+    public Slot write(byte[] value) {
+        SizeClass sizeClass = sizeClassFor(value.length + HEADER);
+        return sizeClass == null ? null : sizeClass.write(value);
+    }
+
+    /**
+     * 값 조회 - 청크가 해제/재사용되었으면 null
+     */
+    public byte[] read(Slot slot) {
+        ByteBuffer slab = sizeClasses[slot.sizeClass()].slabs.get(slot.slab());
+        if (slab == null) {
+            // 슬랩이 반환된 경우
+            return null;
+        }
+        byte[] value = new byte[slot.length()];
+        slab.get(slot.offset() + HEADER, value);
+        VarHandle.acquireFence();
+        long version = (long) VERSION.getVolatile(slab, slot.offset());
+        return version == slot.version() ? value : null;
+    }
+
+    /**
+     * 청크 해제 - 버전을 올려 기존 Slot을 무효화하고 빈 목록에 반환 (중복 해제는 무시)
+     */
+    public void free(Slot slot) {
+        SizeClass sizeClass = sizeClasses[slot.sizeClass()];
+        ByteBuffer slab = sizeClass.slabs.get(slot.slab());
+        if (slab != null && VERSION.compareAndSet(slab, slot.offset(), slot.version(), slot.version() + 1)) {
+            sizeClass.release(slot.slab(), slot.offset());
+        }
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /** 할당된 슬랩 총 바이트 */
+    public long reservedBytes() {
+        return reserved.get();
+    }
+
+    /** 저장 가능한 최대 값 크기 */
+    public int maxValueSize() {
+        return MAX_CHUNK - HEADER;
+    }
+
+    /**
+     * 값이 들어갈 크기 등급, 최대 청크보다 크면 -1
+     */
+    public int sizeClassOf(int valueLength) {
+        SizeClass sizeClass = sizeClassFor(valueLength + HEADER);
+        return sizeClass == null ? -1 : sizeClass.index;
+    }
+
+    /**
+     * 다른 등급의 빈 분할 중 슬랩을 반환 - 하나라도 반환했으면 true
+     */
+    private boolean reclaimIdleSlabs(SizeClass requester) {
+        boolean reclaimed = false;
+        for (SizeClass sizeClass : sizeClasses) {
+            if (sizeClass != requester) {
+                reclaimed |= sizeClass.releaseIdleSlab();
+            }
+        }
+        return reclaimed;
+    }
+
+    private SizeClass sizeClassFor(int required) {
+        for (SizeClass sizeClass : sizeClasses) {
+            if (sizeClass.chunkSize >= required) {
+                return sizeClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 저장 위치 (힙에는 이 핸들만 유지)
+     *
+     * @param version 저장 시점의 청크 버전 (해제되면 달라짐)
+     */
+    public record Slot(int sizeClass, int slab, int offset, int length, long version) {
+
+        /** 점유 청크 크기 (바이트) */
+        public int capacity() {
+            return MIN_CHUNK << sizeClass;
+        }
+    }
+
+    private final class SizeClass {
+
+        private final int index;
+        private final int chunkSize;
+        // 반환된 슬랩 자리는 null (Slot의 슬랩 번호가 바뀌지 않도록 자리를 유지하고 재사용)
+        private final List<ByteBuffer> slabs = new CopyOnWriteArrayList<>();
+        private int[] usedChunks = new int[4];
+        private long[] freeChunks = new long[64];
+        private int freeCount;
+        // 분할 중인 슬랩(없으면 -1)과 다음 청크 위치
+        private int carvingSlab = -1;
+        private int nextOffset = SLAB_SIZE;
+        // 새 슬랩의 초기 버전 (상위 32비트, 반환된 슬랩의 이전 버전과 겹치지 않도록 증가)
+        private long epoch;
+
+        private SizeClass(int index, int chunkSize) {
+            this.index = index;
+            this.chunkSize = chunkSize;
+        }
+
+        private Slot write(byte[] value) {
+            long chunk = acquire();
+            if (chunk < 0 && reclaimIdleSlabs(this)) {
+                chunk = acquire();
+            }
+            if (chunk < 0) {
+                return null;
+            }
+            int slabIndex = (int) (chunk >>> 32);
+            int offset = (int) chunk;
+            ByteBuffer slab = slabs.get(slabIndex);
+            long version = (long) VERSION.getVolatile(slab, offset);
+            // 버전 증가(해제) 이후에 새 데이터가 기록되도록 순서 보장
+            VarHandle.storeStoreFence();
+            slab.put(offset + HEADER, value);
+            return new Slot(index, slabIndex, offset, value.length, version);
+        }
+
+        private synchronized long acquire() {
+            if (freeCount > 0) {
+                long chunk = freeChunks[--freeCount];
+                usedChunks[(int) (chunk >>> 32)]++;
+                return chunk;
+            }
+            if (nextOffset + chunkSize > SLAB_SIZE) {
+                if (reserved.addAndGet(SLAB_SIZE) > capacity) {
+                    reserved.addAndGet(-SLAB_SIZE);
+                    return -1;
+                }
+                carvingSlab = allocateSlab();
+                nextOffset = 0;
+            }
+            long chunk = ((long) carvingSlab << 32) | nextOffset;
+            nextOffset += chunkSize;
+            usedChunks[carvingSlab]++;
+            if (nextOffset + chunkSize > SLAB_SIZE) {
+                // 분할이 끝난 슬랩은 모든 청크가 해제되면 바로 반환 대상
+                carvingSlab = -1;
+            }
+            return chunk;
+        }
+
+        /**
+         * 새 슬랩 할당 (반환된 자리가 있으면 재사용) - 모든 청크 버전을 새 epoch로 초기화
+         */
+        private int allocateSlab() {
+            ByteBuffer slab = ByteBuffer.allocateDirect(SLAB_SIZE + Long.BYTES).alignedSlice(Long.BYTES);
+            long version = ++epoch << 32;
+            for (int offset = 0; offset + chunkSize <= SLAB_SIZE; offset += chunkSize) {
+                VERSION.set(slab, offset, version);
+            }
+            int index = slabs.indexOf(null);
+            if (index < 0) {
+                index = slabs.size();
+                slabs.add(slab);
+            } else {
+                slabs.set(index, slab);
+            }
+            if (index >= usedChunks.length) {
+                usedChunks = Arrays.copyOf(usedChunks, usedChunks.length * 2);
+            }
+            usedChunks[index] = 0;
+            return index;
+        }
+
+        private synchronized void release(int slab, int offset) {
+            if (freeCount == freeChunks.length) {
+                freeChunks = Arrays.copyOf(freeChunks, freeCount * 2);
+            }
+            freeChunks[freeCount++] = ((long) slab << 32) | offset;
+            if (--usedChunks[slab] == 0 && slab != carvingSlab) {
+                releaseSlab(slab);
+            }
+        }
+
+        /**
+         * 분할 중인 슬랩이 비어 있으면 반환 - 반환했으면 true
+         */
+        private synchronized boolean releaseIdleSlab() {
+            if (carvingSlab < 0 || usedChunks[carvingSlab] > 0) {
+                return false;
+            }
+            releaseSlab(carvingSlab);
+            return true;
+        }
+
+        /**
+         * 빈 슬랩을 공용 용량으로 반환 - 빈 목록에서 해당 슬랩 청크를 제거하고 자리를 비움
+         */
+        private void releaseSlab(int slab) {
+            int kept = 0;
+            for (int i = 0; i < freeCount; i++) {
+                if ((int) (freeChunks[i] >>> 32) != slab) {
+                    freeChunks[kept++] = freeChunks[i];
+                }
+            }
+            freeCount = kept;
+            slabs.set(slab, null);
+            reserved.addAndGet(-SLAB_SIZE);
+            if (slab == carvingSlab) {
+                carvingSlab = -1;
+                nextOffset = SLAB_SIZE;
+            }
+        }
+    }
+}
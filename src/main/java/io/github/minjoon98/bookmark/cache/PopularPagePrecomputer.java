@@ -0,0 +1,134 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 자주 조회되는 목록 페이지를 만료 직전에 미리 재적재
+ *
+ * <p>인기 태그/검색어 페이지도 TTL이 지나면 다음 조회가 미스가 되어 DB를 조회한다.
+ * 주기마다 {@link PopularPageTracker}의 상위 키를 현재 세대 키로 바꾸고,
+ * 남은 TTL이 {@code lead-time} 이하이거나 항목이 없으면 DB에서 다시 읽어 캐시(L1 + L2)에 넣는다.
+ * <ul>
+ *   <li>DB 예산: 주기당 최대 {@code max-loads-per-cycle}건, 초과분은 빈도가 높은 키부터 다음 주기로 미룸</li>
+ *   <li>미리 적재한 뒤 한 번도 조회되지 않은 페이지는 다시 적재하지 않음 (조회가 끊긴 키에 DB 예산 낭비 방지)</li>
+ *   <li>세대는 로드 전에 읽음 - 로드 중 쓰기가 커밋되면 이전 세대 키로 저장되어 조회되지 않음</li>
+ * </ul>
+ * <p>메트릭 {@code bookmark.cache.precompute.loads} (태그 cache, result=refreshed|deferred|failed),
+ * 절약한 미스 수는 {@code bookmark.cache.precompute.saved} ({@link PopularPageTracker}).
+ */
+@Slf4j
+public class PopularPagePrecomputer {
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+    private final BookmarkService bookmarkService;
+    private final PopularPageTracker tracker;
+    private final int minFrequency;
+    private final long leadTimeMillis;
+    private final int maxLoadsPerCycle;
+    private final LongSupplier millisClock;
+    private final Map<String, Counter> loads = new HashMap<>();
+
+    public PopularPagePrecomputer(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkService bookmarkService,
+        PopularPageTracker tracker,
+        int minFrequency,
+        Duration leadTime,
+        int maxLoadsPerCycle,
+        MeterRegistry meterRegistry,
+        LongSupplier millisClock
+    ) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.bookmarkService = bookmarkService;
+        this.tracker = tracker;
+        this.minFrequency = minFrequency;
+        this.leadTimeMillis = leadTime.toMillis();
+        this.maxLoadsPerCycle = maxLoadsPerCycle;
+        this.millisClock = millisClock;
+        for (String cacheName : tracker.cacheNames()) {
+            registerLoads(cacheName, meterRegistry);
+        }
+    }
+
+    /**
+     * 재적재 1회 실행
+     *
+     * @return 이번 주기에 DB에서 다시 읽은 페이지 수
+     */
+    @Scheduled(
+        initialDelayString = "${bookmark.cache.precompute.interval:5s}",
+        fixedDelayString = "${bookmark.cache.precompute.interval:5s}"
+    )
+    public synchronized int precompute() {
+        tracker.purgePrecomputed();
+        int loaded = 0;
+        for (PopularPageTracker.HotPage page : tracker.topPages(minFrequency)) {
+            Cache cache = cacheManager.getCache(page.cacheName());
+            Duration expireAfterWrite = cache == null ? null : CacheLayers.expireAfterWrite(cache);
+            if (expireAfterWrite == null || tracker.isPending(page)) {
+                continue;
+            }
+            BookmarkPageKey key = page.key().withGeneration(cacheGenerations.current(page.key().userId()));
+            long ttl = expireAfterWrite.toMillis();
+            long remaining = CacheLayers.remainingTtl(cache, key).map(Duration::toMillis).orElse(0L);
+            if (remaining > leadTimeMillis) {
+                continue;
+            }
+            if (loaded >= maxLoadsPerCycle) {
+                record(page.cacheName(), "deferred");
+                continue;
+            }
+
+            loaded++;
+            try {
+                cache.put(key, load(page.cacheName(), key));
+                long now = millisClock.getAsLong();
+                tracker.markPrecomputed(page, key, now + Math.max(remaining, 0), now + ttl);
+                record(page.cacheName(), "refreshed");
+            } catch (RuntimeException ex) {
+                record(page.cacheName(), "failed");
+                log.warn("인기 페이지 재적재 실패: cache={}, key={}", page.cacheName(), key, ex);
+            }
+        }
+        return loaded;
+    }
+
+    private Object load(String cacheName, BookmarkPageKey key) {
+        return "bookmarksByTag".equals(cacheName)
+            ? bookmarkService.loadBookmarksByTag(key.userId(), key.term(), key.toPageable())
+            : bookmarkService.loadBookmarks(key.userId(), key.term(), key.toPageable());
+    }
+
+    private void record(String cacheName, String result) {
+        loads.get(loadKey(cacheName, result)).increment();
+    }
+
+    private void registerLoads(String cacheName, MeterRegistry meterRegistry) {
+        for (String result : List.of("refreshed", "deferred", "failed")) {
+            loads.put(loadKey(cacheName, result), Counter.builder("bookmark.cache.precompute.loads")
+                .description("인기 페이지 만료 전 재적재 결과")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry));
+        }
+    }
+
+    private static String loadKey(String cacheName, String result) {
+        return cacheName + ":" + result;
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 페이지 조회 빈도 추적 (count-min sketch + 상위 K개)
+ *
+ * <p>{@link CoalescingCache}에서 목록 캐시 조회마다 호출되어 (캐시, 사용자, 태그/검색어, 페이지) 단위로 빈도를 센다.
+ * 키 세대는 쓰기마다 바뀌므로 세대를 뺀 키로 세고, {@link PopularPagePrecomputer}가 현재 세대 키로 재적재한다.
+ * <ul>
+ *   <li>빈도: {@link CountMinSketch} (키 수와 무관한 고정 메모리)</li>
+ *   <li>상위 K개: 추정치가 현재 최솟값을 넘는 키만 잠금을 잡고 교체 (대부분의 조회는 잠금 없음)</li>
+ *   <li>aging: {@code sample-size}번 기록할 때마다 빈도를 절반으로 줄여 한때 인기였던 키를 밀어냄</li>
+ * </ul>
+ * <p>미리 적재한 항목은 다음 조회까지 "대기" 상태로 기록한다. 대기 중인 키는 다시 재적재하지 않으므로
+ * 더 이상 조회되지 않는 키를 계속 적재하지 않는다. 원래 만료됐을 시점 이후에 조회되면 미스를 하나 줄인 것으로 보고
+ * {@code bookmark.cache.precompute.saved}를 올린다.
+ */
+public class PopularPageTracker implements CacheAccessListener {
+
+    private final Set<String> cacheNames;
+    private final int topK;
+    private final long sampleSize;
+    private final CountMinSketch sketch;
+    private final LongSupplier millisClock;
+    private final AtomicLong additions = new AtomicLong();
+    private final ConcurrentMap<HotPage, Integer> top = new ConcurrentHashMap<>();
+    private final ConcurrentMap<HotPage, Precomputed> precomputed = new ConcurrentHashMap<>();
+    private final Counter saved;
+    private volatile int threshold;
+
+    public PopularPageTracker(
+        Set<String> cacheNames,
+        int topK,
+        int sketchWidth,
+        int sketchDepth,
+        long sampleSize,
+        MeterRegistry meterRegistry,
+        LongSupplier millisClock
+    ) {
+        this.cacheNames = Set.copyOf(cacheNames);
+        this.topK = topK;
+        this.sampleSize = sampleSize;
+        this.sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.millisClock = millisClock;
+        this.saved = Counter.builder("bookmark.cache.precompute.saved")
+            .description("미리 적재하지 않았다면 만료로 미스였을 조회 수")
+            .register(meterRegistry);
+        Gauge.builder("bookmark.cache.precompute.tracked", top, Map::size)
+            .description("재적재 후보로 추적 중인 상위 키 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void onAccess(String cacheName, Object key) {
+        if (!(key instanceof BookmarkPageKey pageKey) || !cacheNames.contains(cacheName)) {
+            return;
+        }
+        HotPage page = new HotPage(cacheName, pageKey.withGeneration(0));
+        recordSaved(page, pageKey);
+
+        offer(page, sketch.increment(page));
+        if (additions.incrementAndGet() % sampleSize == 0) {
+            age();
+        }
+    }
+
+    /**
+     * 추적 대상 캐시 이름
+     */
+    public Set<String> cacheNames() {
+        return cacheNames;
+    }
+
+    /**
+     * 추정 빈도 내림차순 상위 키 (빈도가 {@code minFrequency} 미만인 키 제외)
+     */
+    public List<HotPage> topPages(int minFrequency) {
+        return top.entrySet().stream()
+            .filter(entry -> entry.getValue() >= minFrequency)
+            .sorted(Map.Entry.<HotPage, Integer>comparingByValue().reversed())
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * 미리 적재한 키를 대기 상태로 기록 - {@code savesFrom}(원래 만료 시점) 이후 {@code until}(새 항목 만료) 전의
+     * 첫 조회를 절약으로 집계
+     */
+    public void markPrecomputed(HotPage page, BookmarkPageKey key, long savesFrom, long until) {
+        precomputed.put(page, new Precomputed(key, savesFrom, until));
+    }
+
+    /**
+     * 미리 적재한 뒤 아직 조회되지 않은 페이지인지
+     */
+    public boolean isPending(HotPage page) {
+        return precomputed.containsKey(page);
+    }
+
+    /**
+     * 상위 K개에서 밀려난 페이지의 대기 기록 정리
+     */
+    public void purgePrecomputed() {
+        precomputed.keySet().retainAll(top.keySet());
+    }
+
+    private void recordSaved(HotPage page, BookmarkPageKey key) {
+        if (precomputed.isEmpty()) {
+            return;
+        }
+        Precomputed entry = precomputed.remove(page);
+        if (entry == null || !entry.key().equals(key)) {
+            return;
+        }
+        long now = millisClock.getAsLong();
+        if (now >= entry.savesFrom() && now < entry.until()) {
+            saved.increment();
+        }
+    }
+
+    private void offer(HotPage page, int estimate) {
+        // 이미 추적 중인 키만 갱신 - 확인 후 put이면 그 사이 밀려난 키가 되살아나 상위 K개를 넘음
+        if (top.computeIfPresent(page, (hot, previous) -> estimate) != null) {
+            return;
+        }
+        if (top.size() >= topK && estimate <= threshold) {
+            return;
+        }
+        synchronized (this) {
+            if (top.size() < topK) {
+                top.put(page, estimate);
+            } else {
+                Map.Entry<HotPage, Integer> coldest = coldest();
+                if (coldest != null && estimate > coldest.getValue()) {
+                    top.remove(coldest.getKey());
+                    top.put(page, estimate);
+                }
+            }
+            if (top.size() >= topK) {
+                Map.Entry<HotPage, Integer> coldest = coldest();
+                threshold = coldest == null ? 0 : coldest.getValue();
+            }
+        }
+    }
+
+    private Map.Entry<HotPage, Integer> coldest() {
+        return top.entrySet().stream().min(Map.Entry.comparingByValue(Comparator.naturalOrder())).orElse(null);
+    }
+
+    private synchronized void age() {
+        sketch.halve();
+        top.replaceAll((page, count) -> count >>> 1);
+        top.values().removeIf(count -> count == 0);
+        threshold >>>= 1;
+    }
+
+    /**
+     * 세대를 0으로 고정한 목록 키 (세대와 무관하게 같은 페이지를 같은 키로 셈)
+     */
+    public record HotPage(String cacheName, BookmarkPageKey key) {
+    }
+
+    /**
+     * @param key 적재한 현재 세대 키 (다른 세대 키로 조회되면 절약으로 세지 않음)
+     */
+    private record Precomputed(BookmarkPageKey key, long savesFrom, long until) {
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 기반 공유 캐시 저장소
+ *
+ * <p>값은 SET PX(TTL)로 저장하고(조회 시 PTTL로 남은 TTL 함께 조회), 카운터는 INCR로 원자적으로 증가시킨다.
+ * Redis 프로토콜 호환 서버(Valkey, KeyDB 등)에서도 동작한다.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private static final int EVICT_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, byte[]> template;
+
+    public RedisSharedCacheStore(RedisConnectionFactory connectionFactory) {
+        this.template = new RedisTemplate<>();
+        this.template.setConnectionFactory(connectionFactory);
+        this.template.setKeySerializer(RedisSerializer.string());
+        this.template.setValueSerializer(RedisSerializer.byteArray());
+        this.template.afterPropertiesSet();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return template.opsForValue().get(key);
+    }
+
+    @Override
+    public StoredValue getWithTtl(String key) {
+        // GET + PTTL을 한 번의 왕복으로 (PTTL: 키 없음 -2, TTL 없음 -1)
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return null;
+        });
+        byte[] value = (byte[]) results.get(0);
+        Long ttlMillis = (Long) results.get(1);
+        if (value == null || ttlMillis == null || ttlMillis == -2 || ttlMillis == 0) {
+            return null;
+        }
+        return new StoredValue(value, ttlMillis < 0 ? null : Duration.ofMillis(ttlMillis));
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        template.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void evict(String key) {
+        template.delete(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        // KEYS 대신 SCAN으로 나누어 삭제 (서버 블로킹 방지)
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(EVICT_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(EVICT_BATCH_SIZE);
+        try (Cursor<String> cursor = template.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == EVICT_BATCH_SIZE) {
+                    template.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            template.delete(batch);
+        }
+    }
+
+    @Override
+    public long counter(String key) {
+        // INCR로 저장된 카운터는 10진수 문자열
+        byte[] value = template.opsForValue().get(key);
+        return value == null ? 0L : Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = template.opsForValue().increment(key);
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * refresh-ahead 재로드용 Caffeine CacheLoader
+ *
+ * <p>refreshAfterWrite가 지난 항목이 조회되면 Caffeine이 기존 값을 반환하면서
+ * {@link #asyncReload}로 백그라운드 재로드를 요청한다.
+ * 캐시 키에 사용자 ID와 조회 조건이 모두 들어 있으므로 인증 컨텍스트 없이 키만으로 다시 조회한다.
+ *
+ * <p>일반 조회 미스는 {@code @Cacheable(sync = true)} 경로에서 로드하므로 {@link #load}는 로드하지 않는다.
+ */
+public class RefreshAheadCacheLoader implements CacheLoader<Object, Object> {
+
+    private final String cacheName;
+    private final ObjectProvider<BookmarkService> bookmarkService;
+    private final Executor refreshExecutor;
+
+    public RefreshAheadCacheLoader(
+        String cacheName,
+        ObjectProvider<BookmarkService> bookmarkService,
+        Executor refreshExecutor
+    ) {
+        this.cacheName = cacheName;
+        this.bookmarkService = bookmarkService;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 일반 조회 미스 - 로드하지 않음 (null 반환 시 Caffeine은 값을 저장하지 않음)
+     */
+    @Override
+    public Object load(Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        BookmarkService service = bookmarkService.getObject();
+        return switch (key) {
+            case BookmarkKey bookmarkKey -> service.loadBookmark(bookmarkKey.userId(), bookmarkKey.bookmarkId());
+            case BookmarkCountKey countKey -> service.loadBookmarkCount(countKey.userId());
+            case BookmarkPageKey pageKey when "bookmarksByTag".equals(cacheName) ->
+                service.loadBookmarksByTag(pageKey.userId(), pageKey.term(), pageKey.toPageable());
+            case BookmarkPageKey pageKey ->
+                service.loadBookmarks(pageKey.userId(), pageKey.term(), pageKey.toPageable());
+            default -> oldValue;
+        };
+    }
+
+    /**
+     * Caffeine 기본 실행기 대신 전용 재로드 실행기에서 실행 (캐시 유지보수 작업과 분리)
+     * <p>재로드 실행기가 포화 상태면 이번 재로드는 취소 처리
+     * (취소된 재로드는 Caffeine이 조용히 무시하고 기존 값을 유지, 다음 조회 시 다시 시도)
+     */
+    @Override
+    public CompletableFuture<Object> asyncReload(Object key, Object oldValue, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(() -> reload(key, oldValue), refreshExecutor);
+        } catch (RejectedExecutionException ex) {
+            CompletableFuture<Object> skipped = new CompletableFuture<>();
+            skipped.cancel(false);
+            return skipped;
+        }
+    }
+}
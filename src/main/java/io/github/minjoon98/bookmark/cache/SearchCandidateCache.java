@@ -0,0 +1,153 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.config.BookmarkCacheProperties;
+import io.github.minjoon98.bookmark.repository.SearchCandidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * 검색어별 전체 결과 후보 캐시 (입력 중 검색 재사용)
+ *
+ * <p>클라이언트는 입력할 때마다 검색하므로("sp", "spr", "spri"...) 검색어마다 {@code LIKE %q%} 검색이 반복된다.
+ * 긴 검색어의 결과는 그 검색어를 포함하는 짧은 검색어 결과의 부분집합이므로,
+ * 결과가 작은 검색어는 전체 후보(ID, 제목, URL)를 기억해 두고 이어지는 검색어는 메모리에서 걸러낸다.
+ * ({@code searchCandidates} 캐시, TTL/힙 예산은 {@code bookmark.cache.specs})
+ *
+ * <ul>
+ *   <li>조회 순서: 같은 검색어 후보 → 가장 긴 접두어 후보를 걸러서 재사용 → 후보 조회(최대 max-candidates + 1건)</li>
+ *   <li>후보가 상한을 넘으면 "너무 많음"만 기억하고 기존 LIKE 검색 사용</li>
+ *   <li>키에 사용자 캐시 세대를 포함하므로 해당 사용자의 쓰기가 커밋되면 별도 삭제 없이 무효화</li>
+ * </ul>
+ * <p>검색어는 {@link #normalize(String)}로 정규화하여 대소문자만 다른 검색이 같은 항목을 공유한다.
+ * 걸러내기는 DB 검색 조건({@code BookmarkRepository.KEYWORD_MATCH}, LOWER/LOCATE)과 같은 소문자 부분 문자열 비교다.
+ */
+@Component
+public class SearchCandidateCache {
+
+    public static final String CACHE_NAME = "searchCandidates";
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+    private final int maxCandidates;
+    private final int minPrefixLength;
+    private final Counter exactHits;
+    private final Counter prefixHits;
+    private final Counter loads;
+    private final Counter oversized;
+
+    public SearchCandidateCache(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.maxCandidates = properties.getSearchCandidates().getMaxCandidates();
+        this.minPrefixLength = properties.getSearchCandidates().getMinPrefixLength();
+        this.exactHits = resultCounter(meterRegistry, "exact");
+        this.prefixHits = resultCounter(meterRegistry, "prefix");
+        this.loads = resultCounter(meterRegistry, "loaded");
+        this.oversized = resultCounter(meterRegistry, "oversized");
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bookmark.cache.search.candidates")
+            .description("검색 후보 재사용 결과 (exact/prefix: 후보 재사용, loaded: 후보 조회, oversized: LIKE 검색)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 검색어 정규화 - 앞뒤 공백 제거, 소문자 변환 (검색은 대소문자를 무시하므로 결과 동일)
+     * <p>중간 공백은 그대로 둔다 - 연속 공백을 줄이면 DB 검색 결과가 달라짐
+     */
+    public static String normalize(String q) {
+        return q == null ? null : q.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어(정규화된 값)와 일치하는 북마크 ID 목록
+     *
+     * @param loader 후보 조회 (인자: 최대 조회 건수)
+     * @return 후보가 상한을 넘으면 empty (LIKE 검색 사용)
+     */
+    public Optional<List<Long>> matchingIds(Long userId, String term, IntFunction<List<SearchCandidate>> loader) {
+        if (maxCandidates <= 0) {
+            return Optional.empty();
+        }
+        // 조회 전에 세대를 읽음 - 조회 중 세대가 바뀌면 이전 세대 키로 기록되어 조회되지 않음
+        long generation = cacheGenerations.current(userId);
+        Candidates exact = get(new TermKey(userId, generation, term));
+        if (exact != null) {
+            (exact.oversized() ? oversized : exactHits).increment();
+            return exact.ids();
+        }
+
+        for (int length = term.length() - 1; length >= minPrefixLength; length--) {
+            Candidates prefix = get(new TermKey(userId, generation, term.substring(0, length)));
+            if (prefix != null && !prefix.oversized()) {
+                Candidates narrowed = prefix.narrow(term);
+                cache().put(new TermKey(userId, generation, term), narrowed);
+                prefixHits.increment();
+                return narrowed.ids();
+            }
+        }
+
+        List<SearchCandidate> loaded = loader.apply(maxCandidates + 1);
+        Candidates candidates = loaded.size() > maxCandidates ? Candidates.OVERSIZED : new Candidates(loaded);
+        cache().put(new TermKey(userId, generation, term), candidates);
+        (candidates.oversized() ? oversized : loads).increment();
+        return candidates.ids();
+    }
+
+    private Candidates get(TermKey key) {
+        Cache.ValueWrapper wrapper = cache().get(key);
+        return wrapper == null ? null : (Candidates) wrapper.get();
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    record TermKey(Long userId, long generation, String term) implements Serializable {
+    }
+
+    /**
+     * @param items 검색어와 일치하는 전체 후보 (oversized면 null)
+     */
+    record Candidates(List<SearchCandidate> items) implements Serializable {
+
+        static final Candidates OVERSIZED = new Candidates(null);
+
+        boolean oversized() {
+            return items == null;
+        }
+
+        Optional<List<Long>> ids() {
+            return oversized() ? Optional.empty() : Optional.of(items.stream().map(SearchCandidate::id).toList());
+        }
+
+        /**
+         * 긴 검색어로 걸러냄 - DB 검색({@code KEYWORD_MATCH})과 같이 제목 또는 URL에 대소문자 무시 포함
+         */
+        Candidates narrow(String term) {
+            return new Candidates(items.stream()
+                .filter(candidate -> contains(candidate.title(), term) || contains(candidate.url(), term))
+                .toList());
+        }
+
+        private static boolean contains(String value, String term) {
+            return value != null && value.toLowerCase(Locale.ROOT).contains(term);
+        }
+    }
+}
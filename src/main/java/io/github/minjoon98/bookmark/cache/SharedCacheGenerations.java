@@ -0,0 +1,72 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유 저장소(L2) 기반 사용자별 목록 캐시 세대
+ *
+ * <p>L2를 사용하면 목록 캐시 항목을 모든 노드가 공유하므로, 세대도 노드 간에 같은 값을 봐야 한다.
+ * 세대를 공유 저장소의 카운터(INCR)로 관리하여 어느 노드에서 증가시켜도 모든 노드의 목록 키가 함께 바뀐다.
+ * <ul>
+ *   <li>조회한 세대는 짧은 시간(localTtl) 로컬에 보관하여 L1 적중마다 공유 저장소를 왕복하지 않음</li>
+ *   <li>이 노드의 증가는 로컬 사본에 바로 반영, 다른 노드의 증가는 수신 시 로컬 사본만 버림
+ *       (클러스터 전파가 없으면 최대 localTtl 동안 이전 세대를 볼 수 있음)</li>
+ *   <li>공유 저장소 장애 시 예외 대신 매번 다른 음수 세대를 반환하여 목록 캐시를 우회 (L2 오류 = 미스와 같은 원칙)</li>
+ * </ul>
+ */
+@Slf4j
+public class SharedCacheGenerations extends CacheGenerations {
+
+    private static final String KEY_PREFIX = "bookmark:generation:";
+
+    private final SharedCacheStore store;
+    private final Cache<Long, Long> local;
+
+    // 저장소 장애 시 사용하는 일회용 세대 (어떤 캐시 키와도 겹치지 않음)
+    private final AtomicLong unavailable = new AtomicLong();
+
+    public SharedCacheGenerations(SharedCacheStore store, Duration localTtl, Ticker ticker) {
+        this.store = store;
+        this.local = Caffeine.newBuilder()
+            .expireAfterWrite(localTtl)
+            .ticker(ticker)
+            .build();
+    }
+
+    @Override
+    public long current(Long userId) {
+        try {
+            return local.get(userId, id -> store.counter(KEY_PREFIX + id));
+        } catch (RuntimeException ex) {
+            log.warn("공유 캐시 세대 조회 실패, 목록 캐시를 우회합니다 (userId={})", userId, ex);
+            return unavailable.decrementAndGet();
+        }
+    }
+
+    @Override
+    public long bump(Long userId) {
+        try {
+            long generation = store.increment(KEY_PREFIX + userId);
+            local.put(userId, generation);
+            return generation;
+        } catch (RuntimeException ex) {
+            local.invalidate(userId);
+            log.warn("공유 캐시 세대 증가 실패 (userId={})", userId, ex);
+            return unavailable.decrementAndGet();
+        }
+    }
+
+    /**
+     * 다른 노드가 이미 공유 카운터를 증가시켰으므로 다시 증가시키지 않고 로컬 사본만 버림
+     */
+    @Override
+    public void bumpedElsewhere(Long userId) {
+        local.invalidate(userId);
+    }
+}
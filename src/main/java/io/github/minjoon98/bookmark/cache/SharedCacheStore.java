@@ -0,0 +1,48 @@
+package io.github.minjoon98.bookmark.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 공유 캐시 저장소 (L2)
+ *
+ * <p>값은 {@link CacheCodec}으로 직렬화한 바이트 배열로 저장하며, 항목마다 TTL을 지정한다.
+ * 운영은 {@link RedisSharedCacheStore}, 테스트/단일 노드는 {@link InMemorySharedCacheStore}를 사용한다.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * 조회 (없거나 만료되었으면 null)
+     */
+    byte[] get(String key);
+
+    /**
+     * 값과 남은 TTL 조회 (없거나 만료되었으면 null)
+     * <p>다른 노드가 적재한 값을 L1에 옮길 때 남은 수명만큼만 보관하기 위해 사용
+     */
+    StoredValue getWithTtl(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+
+    /**
+     * 접두사로 시작하는 모든 항목 삭제 (캐시 전체 비우기용, 드물게 호출)
+     */
+    void evictByPrefix(String prefix);
+
+    /**
+     * 카운터 조회 (없으면 0)
+     */
+    long counter(String key);
+
+    /**
+     * 카운터 1 증가 후 증가된 값 반환 (원자적)
+     */
+    long increment(String key);
+
+    /**
+     * 저장된 값 + 남은 TTL (저장소가 TTL을 알 수 없으면 null)
+     */
+    record StoredValue(byte[] value, Duration ttl) {
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1 로컬 Caffeine + L2 공유 저장소)
+ *
+ * <p>L1 미스 시 DB보다 먼저 L2를 조회하고, L2 적중 값은 L1에 적재한다.
+ * 배포 직후처럼 L1이 비어 있어도 다른 노드가 채운 L2로 DB 부하를 줄인다.
+ * 쓰기(put/evict/clear)는 두 단계 모두에 반영하며, L2 TTL은 L1과 같은 값을 사용한다.
+ * L2 적중 값은 L2에 남은 TTL만큼만 L1에 보관하여({@link ExpiringCache}), 값이 처음 적재된 뒤
+ * 어느 단계에서든 TTL보다 오래 제공되지 않게 한다.
+ *
+ * <p>L2 장애(연결 실패 등)는 요청 실패로 전파하지 않고 미스로 처리한다.
+ *
+ * <p>메트릭: {@code bookmark.cache.tier.requests} (태그 cache, tier=l1|l2, result=hit|miss|error)
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final Cache local;
+    private final SharedCacheStore store;
+    private final Duration ttl;
+    private final String keyPrefix;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+
+    public TwoTierCache(Cache local, SharedCacheStore store, Duration ttl, MeterRegistry meterRegistry) {
+        this.local = local;
+        this.store = store;
+        this.ttl = ttl;
+        this.keyPrefix = "bookmark:" + local.getName() + ":";
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+        this.l2Errors = tierCounter(meterRegistry, "l2", "error");
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("bookmark.cache.tier.requests")
+            .description("캐시 단계별 조회 결과")
+            .tag("cache", local.getName())
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    public Cache getLocal() {
+        return local;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = local.get(key);
+        if (cached != null) {
+            l1Hits.increment();
+            return cached;
+        }
+        l1Misses.increment();
+
+        SharedHit shared = getShared(key);
+        if (shared == null) {
+            return null;
+        }
+        backfill(key, shared);
+        return new SimpleValueWrapper(shared.value());
+    }
+
+    /**
+     * L2 적중 값을 L1에 적재 - 전체 TTL로 적재하면 최대 staleness가 TTL의 2배가 되므로 L2에 남은 수명만 사용
+     * <p>항목별 만료를 지원하지 않는 L1에는 그대로 적재
+     */
+    private void backfill(Object key, SharedHit shared) {
+        Duration remaining = shared.ttl() == null || shared.ttl().compareTo(ttl) > 0 ? ttl : shared.ttl();
+        if (local instanceof ExpiringCache expiring) {
+            expiring.put(key, shared.value(), remaining);
+        } else {
+            local.put(key, shared.value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached == null ? null : cached.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (!CacheCodec.supportsKey(key) || !CacheCodec.supportsValue(value)) {
+            return;
+        }
+        try {
+            store.put(sharedKey(key), CacheCodec.encodeValue(value), ttl);
+        } catch (RuntimeException ex) {
+            sharedFailure("저장", ex);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        evictShared(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = local.evictIfPresent(key);
+        evictShared(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        clearShared();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = local.invalidate();
+        clearShared();
+        return present;
+    }
+
+    private SharedHit getShared(Object key) {
+        if (!CacheCodec.supportsKey(key)) {
+            return null;
+        }
+        try {
+            SharedCacheStore.StoredValue stored = store.getWithTtl(sharedKey(key));
+            if (stored == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return new SharedHit(CacheCodec.decodeValue(stored.value()), stored.ttl());
+        } catch (RuntimeException ex) {
+            sharedFailure("조회", ex);
+            return null;
+        }
+    }
+
+    private void evictShared(Object key) {
+        if (!CacheCodec.supportsKey(key)) {
+            return;
+        }
+        try {
+            store.evict(sharedKey(key));
+        } catch (RuntimeException ex) {
+            sharedFailure("삭제", ex);
+        }
+    }
+
+    private void clearShared() {
+        try {
+            store.evictByPrefix(keyPrefix);
+        } catch (RuntimeException ex) {
+            sharedFailure("전체 삭제", ex);
+        }
+    }
+
+    private String sharedKey(Object key) {
+        return keyPrefix + Base64.getUrlEncoder().withoutPadding().encodeToString(CacheCodec.encodeKey(key));
+    }
+
+    private void sharedFailure(String operation, RuntimeException ex) {
+        l2Errors.increment();
+        log.warn("공유 캐시 {} 실패 (cache={})", operation, local.getName(), ex);
+    }
+
+    /**
+     * L2 적중 값 + 남은 TTL (알 수 없으면 null)
+     */
+    private record SharedHit(Object value, Duration ttl) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.AdaptiveCacheTuner;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 적중률 기반 캐시 크기 / TTL 자동 조정 설정
+ *
+ * <p>{@code bookmark.cache.adaptive.enabled=true}일 때만 활성화, 비활성 시 spec 값 고정
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.adaptive", name = "enabled", havingValue = "true")
+public class AdaptiveCacheConfig {
+
+    @Bean
+    public AdaptiveCacheTuner adaptiveCacheTuner(
+        CacheManager cacheManager,
+        BookmarkCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new AdaptiveCacheTuner(cacheManager, properties, meterRegistry);
+    }
+}
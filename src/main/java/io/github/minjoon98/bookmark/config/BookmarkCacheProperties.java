@@ -0,0 +1,276 @@
+package io.github.minjoon98.bookmark.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 캐시별 TTL / 최대 크기(항목 수 또는 바이트) / refresh-ahead 설정
+ *
+ * <p>application.yml의 {@code bookmark.cache.specs.[캐시명]} 항목으로 캐시마다 개별 지정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bookmark.cache")
+public class BookmarkCacheProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    private RefreshExecutor refreshExecutor = new RefreshExecutor();
+
+    private Cluster cluster = new Cluster();
+
+    private L2 l2 = new L2();
+
+    private JsonBody jsonBody = new JsonBody();
+
+    private Snapshot snapshot = new Snapshot();
+
+    private WarmUp warmUp = new WarmUp();
+
+    private Adaptive adaptive = new Adaptive();
+
+    private SearchCandidates searchCandidates = new SearchCandidates();
+
+    private Precompute precompute = new Precompute();
+
+    private Jwt jwt = new Jwt();
+
+    public Spec spec(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null) {
+            throw new IllegalStateException("캐시 설정이 없습니다: " + cacheName);
+        }
+        return spec;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /** 쓰기 후 만료 시간 (최대 허용 staleness) */
+        private Duration expireAfterWrite;
+
+        /** 최대 항목 수 (maximumWeight가 없을 때만 사용) */
+        private long maximumSize;
+
+        /**
+         * 캐시 힙 예산 (추정 바이트, {@code CacheEntryWeigher})
+         * <p>설정 시 항목 수 대신 항목 크기 합으로 제한 (maximumSize 무시)
+         */
+        private DataSize maximumWeight;
+
+        /**
+         * 값을 힙 밖(direct ByteBuffer)에 저장 ({@code OffHeapCache})
+         * <p>maximumWeight(off-heap 예산) 필수, refreshAfterWrite와 함께 사용 불가
+         */
+        private boolean offHeap;
+
+        /**
+         * 쓰기 후 이 시간이 지난 항목이 조회되면 기존 값을 반환하면서 비동기로 재로드 (refresh-ahead)
+         * <p>null이면 비활성화, 설정 시 expireAfterWrite보다 짧아야 함
+         */
+        private Duration refreshAfterWrite;
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshExecutor {
+
+        /** 비동기 재로드 스레드 수 */
+        private int threads = 2;
+
+        /** 대기 큐 크기 (가득 차면 이번 재로드는 건너뛰고 기존 값 유지) */
+        private int queueCapacity = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+
+        /** 노드 간 무효화 전파 사용 여부 (다중 인스턴스 배포 시 활성화) */
+        private boolean enabled = false;
+
+        /** 노드 식별자 (미지정 시 기동마다 임의 생성) */
+        private String nodeId = UUID.randomUUID().toString();
+
+        /** 발행 대기열을 비우는 주기 (이 시간 동안의 무효화가 한 번에 발행됨) */
+        private Duration publishInterval = Duration.ofMillis(200);
+
+        /** 다른 노드 메시지 수신 주기 */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /** 늦게 커밋된 메시지를 다시 조회하는 유예 기간 (발행 트랜잭션 시간 + 노드 간 시계 오차보다 길게) */
+        private Duration visibilityGrace = Duration.ofSeconds(30);
+
+        /** 메시지 보관 기간 */
+        private Duration retention = Duration.ofMinutes(5);
+
+        /** 보관 기간이 지난 메시지 정리 주기 */
+        private Duration purgeInterval = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class L2 {
+
+        /** 공유 캐시(L2) 사용 여부 */
+        private boolean enabled = false;
+
+        /** 저장소 종류: redis(운영) | in-memory(테스트/로컬 대체) */
+        private String store = "redis";
+
+        /** 공유 세대 카운터의 로컬 보관 시간 (목록 요청마다 공유 저장소를 왕복하지 않도록) */
+        private Duration generationTtl = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class JsonBody {
+
+        /** 캐시 적중 응답에 미리 직렬화된 JSON 바이트 사용 여부 */
+        private boolean enabled = false;
+
+        /** 직렬화된 본문 보관 예산 (바이트) */
+        private DataSize maximumWeight = DataSize.ofMegabytes(16);
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /** 종료 시 캐시 스냅샷 저장 / 기동 시 복원 사용 여부 */
+        private boolean enabled = false;
+
+        /** 스냅샷 파일 경로 */
+        private String path = "./data/cache-snapshot.bin";
+
+        /** 캐시별 저장 항목 수 상한 (접근 빈도 높은 순) */
+        private int maxEntriesPerCache = 1000;
+
+        /** 이 시간보다 오래된 스냅샷은 적재하지 않음 */
+        private Duration maxAge = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /** 로그인 후 첫 페이지 / 상위 태그 페이지 예열 사용 여부 */
+        private boolean enabled = false;
+
+        /** 동시에 진행할 수 있는 예열 수 (초과 시 건너뜀, 예열이 점유하는 DB 커넥션 상한) */
+        private int maxConcurrent = 4;
+
+        /** 예열할 상위 태그 수 (사용 횟수 기준) */
+        private int topTags = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class SearchCandidates {
+
+        /** 검색어별로 기억할 전체 결과 후보 수 상한 (초과하면 후보를 기억하지 않고 LIKE 검색 사용, 0이면 비활성화) */
+        private int maxCandidates = 500;
+
+        /** 재사용할 짧은 검색어의 최소 길이 (검색 캐시 조건과 동일) */
+        private int minPrefixLength = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        /** 적중률 기반 최대 크기 / TTL 자동 조정 사용 여부 */
+        private boolean enabled = false;
+
+        /** 조정 주기 (통계 변화량을 보는 구간) */
+        private Duration interval = Duration.ofMinutes(1);
+
+        /** 조정 대상 캐시 (off-heap 캐시는 제외됨) */
+        private List<String> caches = new ArrayList<>();
+
+        /** 목표 적중률 */
+        private double targetHitRate = 0.8;
+
+        /** 목표 + 이 값을 넘어야 축소 (경계에서 반복 조정 방지) */
+        private double hysteresis = 0.05;
+
+        /** 구간 요청 수가 이보다 적으면 조정하지 않음 */
+        private long minRequests = 200;
+
+        /** 1회 조정 비율 (0.25 = 25% 증감) */
+        private double step = 0.25;
+
+        /** 가중치 합이 최대 크기의 이 비율 이상이면 용량 부족으로 판단 (미만이면 TTL 부족으로 판단) */
+        private double fullRatio = 0.9;
+
+        /** 최대 크기 범위 (spec 값 대비 배수) */
+        private double minFactor = 0.5;
+        private double maxFactor = 4.0;
+
+        /** TTL 범위 (spec 값 대비 배수) */
+        private double minExpireFactor = 0.5;
+        private double maxExpireFactor = 2.0;
+
+        /** 바이트 예산(maximum-weight) 캐시들의 최대 크기 합 상한 */
+        private DataSize heapBudget = DataSize.ofMegabytes(128);
+    }
+
+    @Getter
+    @Setter
+    public static class Precompute {
+
+        /** 자주 조회되는 목록 페이지의 만료 전 재적재 사용 여부 */
+        private boolean enabled = false;
+
+        /** 재적재 주기 */
+        private Duration interval = Duration.ofSeconds(5);
+
+        /** 조회 빈도를 추적할 캐시 (BookmarkPageKey 캐시) */
+        private List<String> caches = new ArrayList<>(List.of("bookmarksSearch", "bookmarksByTag"));
+
+        /** 재적재 후보로 유지할 상위 키 수 */
+        private int topK = 100;
+
+        /** 추정 조회 수가 이보다 적은 키는 재적재하지 않음 */
+        private int minFrequency = 4;
+
+        /** 남은 TTL이 이보다 짧거나 항목이 없으면 재적재 */
+        private Duration leadTime = Duration.ofSeconds(5);
+
+        /** 주기당 최대 DB 로드 수 (초과분은 다음 주기로 미룸) */
+        private int maxLoadsPerCycle = 20;
+
+        /** count-min sketch 행당 카운터 수 (2의 거듭제곱으로 올림) */
+        private int sketchWidth = 4096;
+
+        /** count-min sketch 행 수 (해시 함수 수) */
+        private int sketchDepth = 4;
+
+        /** 이 횟수만큼 기록할 때마다 빈도를 절반으로 줄임 (오래된 인기 키 퇴출) */
+        private long sampleSize = 50_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Jwt {
+
+        /** 검증된 JWT 디코딩 결과 캐시 사용 여부 (기본 비활성 - 키 교체/토큰 폐기가 max-ttl 동안 반영되지 않음) */
+        private boolean enabled = false;
+
+        /** 최대 보관 토큰 수 */
+        private long maximumSize = 10_000;
+
+        /** 최대 보관 시간 (토큰 exp가 더 이르면 exp까지) */
+        private Duration maxTtl = Duration.ofMinutes(10);
+    }
+}
@@ -1,76 +1,243 @@
 package io.github.minjoon98.bookmark.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.minjoon98.bookmark.cache.CacheAccessListener;
+import io.github.minjoon98.bookmark.cache.CacheEntryWeigher;
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.CoalescingCache;
+import io.github.minjoon98.bookmark.cache.EntryExpiry;
+import io.github.minjoon98.bookmark.cache.ExpiringCaffeineCache;
+import io.github.minjoon98.bookmark.cache.NegativeLookupCache;
+import io.github.minjoon98.bookmark.cache.OffHeapCache;
+import io.github.minjoon98.bookmark.cache.OffHeapSlabStore;
+import io.github.minjoon98.bookmark.cache.PopularPageTracker;
+import io.github.minjoon98.bookmark.cache.RefreshAheadCacheLoader;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
+import io.github.minjoon98.bookmark.cache.SharedCacheGenerations;
+import io.github.minjoon98.bookmark.cache.SharedCacheStore;
+import io.github.minjoon98.bookmark.cache.TwoTierCache;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
 public class CacheConfig {
 
     /**
      * Caffeine 기반 캐시 매니저 구성
      *
-     * <p>각 캐시별로 TTL과 최대 크기를 개별 설정하여 메모리 사용 최적화
+     * <p>각 캐시별 TTL과 최대 크기는 {@code bookmark.cache.specs}에서 개별 설정
+     * <p>maximum-weight가 설정된 캐시는 항목 수 대신 추정 바이트 합으로 제한 ({@link CacheEntryWeigher})
+     * <p>off-heap이 설정된 캐시는 값을 힙 밖에 저장 ({@link OffHeapCache})
+     * <p>refreshAfterWrite가 설정된 캐시는 만료 전에 백그라운드로 재로드 (refresh-ahead)
      * <p>recordStats()로 캐시 통계 수집 활성화 (Micrometer 연동 가능)
+     * <p>모든 캐시를 {@link CoalescingCache}로 감싸 동시 미스 시 DB 로드를 키당 1회로 병합
+     * <p>bookmarkById는 {@link TransactionAwareCacheDecorator}로 감싸 쓰기 경로의 put/evict를
+     * 트랜잭션 커밋 이후로 미룸 (롤백된 상태를 캐시하지 않음)
+     * <p>인기 페이지 재적재가 활성화되면 목록 캐시 조회를 {@link PopularPageTracker}에 전달 (조회 빈도 추적)
+     * <p>공유 캐시(L2)가 활성화되면 각 Caffeine 캐시를 {@link TwoTierCache}로 감싸 L1 미스 시 L2를 먼저 조회
+     * <p>{@link NegativeLookupCache}용 notFound 캐시와 {@link SearchCandidateCache}용 searchCandidates 캐시는
+     * 로드가 없으므로 병합/L2 없이 Caffeine만 사용
+     * <p>bookmarkCount는 노드마다 커밋 후 재계산하므로 L2 없이 사용
      */
     @Bean
-    public CacheManager cacheManager() {
-        // 단건 조회: 긴 TTL, 큰 용량 (재조회 이득 큼)
-        CaffeineCache bookmarkById = new CaffeineCache(
-            "bookmarkById",
-            Caffeine.newBuilder()
-                .maximumSize(5_000)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .recordStats()
-                .build()
-        );
-
-        // 전체 목록 첫 페이지: 중간 TTL (홈 화면 체감 성능 개선)
-        CaffeineCache bookmarksFirstPage = new CaffeineCache(
-            "bookmarksFirstPage",
-            Caffeine.newBuilder()
-                .maximumSize(1_000)
-                .expireAfterWrite(60, TimeUnit.SECONDS)
-                .recordStats()
-                .build()
-        );
-
-        // 검색 결과: 짧은 TTL (변동성 높음, 키 폭발 방지)
-        CaffeineCache bookmarksSearch = new CaffeineCache(
-            "bookmarksSearch",
-            Caffeine.newBuilder()
-                .maximumSize(1_000)
-                .expireAfterWrite(30, TimeUnit.SECONDS)
-                .recordStats()
-                .build()
-        );
-
-        // 태그별 조회: 중간 TTL (특정 태그 반복 조회 최적화)
-        CaffeineCache bookmarksByTag = new CaffeineCache(
-            "bookmarksByTag",
-            Caffeine.newBuilder()
-                .maximumSize(1_000)
-                .expireAfterWrite(60, TimeUnit.SECONDS)
-                .recordStats()
-                .build()
-        );
+    public CacheManager cacheManager(
+        MeterRegistry meterRegistry,
+        BookmarkCacheProperties properties,
+        ObjectProvider<BookmarkService> bookmarkService,
+        ObjectProvider<SharedCacheStore> sharedCacheStore,
+        ObjectProvider<PopularPageTracker> popularPageTracker,
+        @Qualifier("refreshAheadExecutor") ExecutorService refreshAheadExecutor
+    ) {
+        CacheAccessListener accessListener = popularPageTracker.getIfAvailable();
+        CacheFactory factory = new CacheFactory(
+            properties, bookmarkService, refreshAheadExecutor, sharedCacheStore.getIfAvailable(), meterRegistry);
 
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         cacheManager.setCaches(List.of(
-            bookmarkById,
-            bookmarksFirstPage,
-            bookmarksSearch,
-            bookmarksByTag
+            // 단건 조회: 긴 TTL, 큰 용량 (재조회 이득 큼), 쓰기 시 커밋 후 write-through
+            new TransactionAwareCacheDecorator(
+                new CoalescingCache(factory.build("bookmarkById"), meterRegistry)),
+            // 전체 목록 첫 페이지: 중간 TTL + refresh-ahead (홈 화면 체감 성능 개선)
+            new CoalescingCache(factory.build("bookmarksFirstPage"), meterRegistry),
+            // 검색 결과: 짧은 TTL (변동성 높음, 키 폭발 방지)
+            new CoalescingCache(factory.build("bookmarksSearch"), meterRegistry, accessListener),
+            // 태그별 조회: 중간 TTL + refresh-ahead (특정 태그 반복 조회 최적화)
+            new CoalescingCache(factory.build("bookmarksByTag"), meterRegistry, accessListener),
+            // 없는 북마크 ID / 결과 0건 태그: 짧은 TTL, 노드 로컬 (L2 공유 안 함)
+            factory.buildLocal(NegativeLookupCache.CACHE_NAME),
+            // 검색어별 전체 결과 후보: 검색 결과와 같은 짧은 TTL, 노드 로컬 (L2 공유 안 함)
+            factory.buildLocal(SearchCandidateCache.CACHE_NAME),
+            // 사용자별 전체 북마크 수: 긴 TTL + refresh-ahead, 쓰기 후 백그라운드 재계산, 노드 로컬 (L2 공유 안 함)
+            new CoalescingCache(factory.buildLocal("bookmarkCount"), meterRegistry)
         ));
 
         return cacheManager;
     }
+
+    /**
+     * refresh-ahead 재로드 전용 실행기
+     *
+     * <p>스레드 수와 대기 큐를 제한하여 재로드가 DB 커넥션을 과점하지 않도록 함.
+     * 큐가 가득 차면 재로드를 건너뛰고 기존 값을 유지 (expireAfterWrite가 최대 staleness 보장)
+     */
+    @Bean(name = "refreshAheadExecutor", destroyMethod = "shutdown")
+    public ExecutorService refreshAheadExecutor(BookmarkCacheProperties properties) {
+        BookmarkCacheProperties.RefreshExecutor config = properties.getRefreshExecutor();
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(
+            config.getThreads(),
+            config.getThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(config.getQueueCapacity()),
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 목록 조회 캐시 선택
+     *
+     * <p>검색어가 없으면 bookmarksFirstPage, 있으면 bookmarksSearch를 사용.
+     * sync=true는 단일 캐시만 허용하므로 두 캐시를 하나의 @Cacheable로 묶기 위해 사용
+     */
+    @Bean("bookmarkListCacheResolver")
+    public CacheResolver bookmarkListCacheResolver(CacheManager cacheManager) {
+        return context -> {
+            Object q = context.getArgs()[0];
+            Cache cache = cacheManager.getCache(q == null ? "bookmarksFirstPage" : "bookmarksSearch");
+            return List.of(cache);
+        };
+    }
+
+    /**
+     * 사용자별 목록 캐시 세대 카운터
+     *
+     * <p>목록 캐시 키 생성과 무효화에서 공유 (Caffeine 맵, 마지막 접근 후 캐시 최장 TTL보다 길게 보관)
+     * <p>공유 캐시(L2) 사용 시 목록 항목을 노드 간 공유하므로 세대도 공유 저장소 카운터로 관리
+     * (조회한 세대는 {@code l2.generation-ttl} 동안 로컬에 보관)
+     */
+    @Bean
+    public CacheGenerations cacheGenerations(
+        BookmarkCacheProperties properties,
+        ObjectProvider<SharedCacheStore> sharedCacheStore
+    ) {
+        SharedCacheStore store = sharedCacheStore.getIfAvailable();
+        return store == null
+            ? new CacheGenerations(generationRetention(properties), CacheGenerations.DEFAULT_MAXIMUM_SIZE)
+            : new SharedCacheGenerations(store, properties.getL2().getGenerationTtl(), Ticker.systemTicker());
+    }
+
+    /**
+     * 세대 카운터 보관 시간 - 가장 긴 캐시 TTL(TTL 자동 조정 시 최대 배수 적용) + 1분
+     * (카운터가 제거될 때는 그 세대로 만든 목록 항목이 모두 만료된 뒤)
+     */
+    private static Duration generationRetention(BookmarkCacheProperties properties) {
+        double factor = properties.getAdaptive().isEnabled()
+            ? Math.max(1.0, properties.getAdaptive().getMaxExpireFactor())
+            : 1.0;
+        Duration longest = properties.getSpecs().values().stream()
+            .map(BookmarkCacheProperties.Spec::getExpireAfterWrite)
+            .filter(Objects::nonNull)
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+        return Duration.ofMillis((long) (longest.toMillis() * factor)).plusMinutes(1);
+    }
+
+    /**
+     * 캐시 설정(spec)으로 CaffeineCache(L1) 생성, 공유 저장소가 있으면 L2와 묶음
+     */
+    private record CacheFactory(
+        BookmarkCacheProperties properties,
+        ObjectProvider<BookmarkService> bookmarkService,
+        ExecutorService refreshAheadExecutor,
+        SharedCacheStore sharedCacheStore,
+        MeterRegistry meterRegistry
+    ) {
+
+        Cache build(String name) {
+            Cache local = properties.spec(name).isOffHeap() ? buildOffHeap(name) : buildLocal(name);
+            if (sharedCacheStore == null) {
+                return local;
+            }
+            return new TwoTierCache(local, sharedCacheStore, properties.spec(name).getExpireAfterWrite(), meterRegistry);
+        }
+
+        private OffHeapCache buildOffHeap(String name) {
+            BookmarkCacheProperties.Spec spec = properties.spec(name);
+            if (spec.getMaximumWeight() == null || spec.getRefreshAfterWrite() != null) {
+                throw new IllegalStateException(
+                    "off-heap 캐시는 maximum-weight가 필요하고 refresh-after-write를 지원하지 않습니다: " + name);
+            }
+            OffHeapCache cache = new OffHeapCache(
+                name, new OffHeapSlabStore(spec.getMaximumWeight().toBytes()), spec.getExpireAfterWrite(), meterRegistry);
+            registerWeightedSize(name, cache.getIndex());
+            return cache;
+        }
+
+        private CaffeineCache buildLocal(String name) {
+            BookmarkCacheProperties.Spec spec = properties.spec(name);
+            EntryExpiry expiry = new EntryExpiry(spec.getExpireAfterWrite());
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfter(expiry)
+                .recordStats();
+            if (spec.getMaximumWeight() != null) {
+                builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher(new CacheEntryWeigher());
+            } else {
+                builder.maximumSize(spec.getMaximumSize());
+            }
+
+            CaffeineCache cache = spec.getRefreshAfterWrite() == null
+                ? new ExpiringCaffeineCache(name, builder.build(), expiry)
+                : new ExpiringCaffeineCache(name, builder
+                    .refreshAfterWrite(spec.getRefreshAfterWrite())
+                    .build(new RefreshAheadCacheLoader(name, bookmarkService, refreshAheadExecutor)), expiry);
+            registerWeightedSize(name, cache.getNativeCache());
+            return cache;
+        }
+
+        /**
+         * 현재 가중치 합 게이지 - 바이트 예산 대비 사용량 확인용
+         */
+        private void registerWeightedSize(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            Gauge.builder("bookmark.cache.weighted.size", cache, nativeCache -> nativeCache.policy()
+                    .eviction()
+                    .map(eviction -> eviction.weightedSize().orElse(nativeCache.estimatedSize()))
+                    .orElseGet(nativeCache::estimatedSize))
+                .description("캐시 항목 가중치 합 (maximum-weight 사용 시 추정 바이트, 아니면 항목 수)")
+                .tag("cache", name)
+                .register(meterRegistry);
+        }
+    }
 }
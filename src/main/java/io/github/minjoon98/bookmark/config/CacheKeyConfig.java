@@ -1,5 +1,12 @@
 package io.github.minjoon98.bookmark.config;
 
+import io.github.minjoon98.bookmark.cache.BookmarkCountKey;
+import io.github.minjoon98.bookmark.cache.BookmarkKey;
+import io.github.minjoon98.bookmark.cache.BookmarkPageKey;
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
+import io.github.minjoon98.bookmark.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,22 +14,26 @@ import org.springframework.data.domain.Pageable;
 
 /**
  * 캐시 키 생성 전략 설정
+ *
+ * <p>모든 키에 현재 사용자 ID를 포함하여 사용자별 캐시 파티션을 구성
+ * <p>목록 키에는 사용자별 캐시 세대를 포함하여 쓰기 시 세대 증가만으로 무효화
  */
 @Configuration
+@RequiredArgsConstructor
 public class CacheKeyConfig {
 
+    private final CacheGenerations cacheGenerations;
+
     /**
-     * Pageable 파라미터를 직렬화 가능한 캐시 키로 변환
-     * 형식: "pageNumber|pageSize|sort"
+     * 현재 사용자 + Pageable 조합 캐시 키 생성
+     * 형식: BookmarkPageKey(userId, generation, null, pageNumber, pageSize, sort)
      */
     @Bean("pageableKeyGenerator")
     public KeyGenerator pageableKeyGenerator() {
         return (target, method, params) -> {
             for (Object param : params) {
                 if (param instanceof Pageable pageable) {
-                    return pageable.getPageNumber() + "|" +
-                           pageable.getPageSize() + "|" +
-                           pageable.getSort().toString();
+                    return pageKey(null, pageable);
                 }
             }
             return "no-pageable";
@@ -30,8 +41,9 @@ public class CacheKeyConfig {
     }
 
     /**
-     * 검색어 + Pageable 조합 캐시 키 생성
-     * 형식: "keyword|pageNumber|pageSize|sort"
+     * 현재 사용자 + 검색어 + Pageable 조합 캐시 키 생성
+     * 형식: BookmarkPageKey(userId, generation, keyword, pageNumber, pageSize, sort)
+     * 검색어는 정규화(대소문자/공백)하여 같은 검색이 같은 키를 사용
      */
     @Bean("searchKeyGenerator")
     public KeyGenerator searchKeyGenerator() {
@@ -48,16 +60,15 @@ public class CacheKeyConfig {
             }
 
             if (keyword != null && pageable != null) {
-                return keyword + "|" + pageable.getPageNumber() + "|" +
-                       pageable.getPageSize() + "|" + pageable.getSort().toString();
+                return pageKey(SearchCandidateCache.normalize(keyword), pageable);
             }
             return "no-search-params";
         };
     }
 
     /**
-     * 태그명 + Pageable 조합 캐시 키 생성
-     * 형식: "tagName|pageNumber|pageSize|sort"
+     * 현재 사용자 + 태그명 + Pageable 조합 캐시 키 생성
+     * 형식: BookmarkPageKey(userId, generation, tagName, pageNumber, pageSize, sort)
      */
     @Bean("tagSearchKeyGenerator")
     public KeyGenerator tagSearchKeyGenerator() {
@@ -74,10 +85,52 @@ public class CacheKeyConfig {
             }
 
             if (tagName != null && pageable != null) {
-                return tagName + "|" + pageable.getPageNumber() + "|" +
-                       pageable.getPageSize() + "|" + pageable.getSort().toString();
+                return pageKey(tagName, pageable);
             }
             return "no-tag-params";
         };
     }
+
+    /**
+     * 목록 조회(getBookmarks) 캐시 키 생성
+     * 검색어가 없으면 pageableKeyGenerator, 있으면 searchKeyGenerator 형식을 사용
+     */
+    @Bean("bookmarkListKeyGenerator")
+    public KeyGenerator bookmarkListKeyGenerator() {
+        KeyGenerator pageableKeyGenerator = pageableKeyGenerator();
+        KeyGenerator searchKeyGenerator = searchKeyGenerator();
+        return (target, method, params) -> params.length > 0 && params[0] instanceof String
+            ? searchKeyGenerator.generate(target, method, params)
+            : pageableKeyGenerator.generate(target, method, params);
+    }
+
+    /**
+     * 현재 사용자 + 북마크 ID 조합 단건 캐시 키 생성
+     * 형식: BookmarkKey(userId, bookmarkId) - 첫 번째 Long 파라미터를 북마크 ID로 사용
+     */
+    @Bean("bookmarkKeyGenerator")
+    public KeyGenerator bookmarkKeyGenerator() {
+        return (target, method, params) -> {
+            for (Object param : params) {
+                if (param instanceof Long bookmarkId) {
+                    return new BookmarkKey(SecurityUtil.currentUserId(), bookmarkId);
+                }
+            }
+            return "no-bookmark-id";
+        };
+    }
+
+    /**
+     * 현재 사용자 전체 북마크 수 캐시 키 생성
+     * 형식: BookmarkCountKey(userId) - 세대 미포함 (쓰기 후 백그라운드 재계산)
+     */
+    @Bean("bookmarkCountKeyGenerator")
+    public KeyGenerator bookmarkCountKeyGenerator() {
+        return (target, method, params) -> new BookmarkCountKey(SecurityUtil.currentUserId());
+    }
+
+    private BookmarkPageKey pageKey(String term, Pageable pageable) {
+        Long userId = SecurityUtil.currentUserId();
+        return BookmarkPageKey.of(userId, cacheGenerations.current(userId), term, pageable);
+    }
 }
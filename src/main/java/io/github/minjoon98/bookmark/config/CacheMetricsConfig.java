@@ -0,0 +1,29 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.CacheLayers;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 통계 Micrometer 연동
+ *
+ * <p>Spring Boot 기본 바인더는 CaffeineCache 타입만 인식하므로, 데코레이터(CoalescingCache, TwoTierCache)로
+ * 감싼 캐시는 통계가 수집되지 않는다. 가장 안쪽 Caffeine 캐시(off-heap 캐시는 인덱스)를 꺼내 {@link CaffeineCacheMetrics}로 등록한다.
+ *
+ * <p>등록 메트릭(태그 cache, cache.manager): {@code cache.gets}(result=hit|miss), {@code cache.puts},
+ * {@code cache.evictions}, {@code cache.eviction.weight}, {@code cache.size}, {@code cache.load.duration}
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public CacheMeterBinderProvider<Cache> decoratedCaffeineCacheMeterBinderProvider() {
+        return (cache, tags) -> {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = CacheLayers.caffeine(cache);
+            return nativeCache == null ? null : new CaffeineCacheMetrics<>(nativeCache, cache.getName(), tags);
+        };
+    }
+}
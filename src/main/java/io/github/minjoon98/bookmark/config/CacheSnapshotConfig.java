@@ -0,0 +1,76 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.CacheSnapshotter;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 캐시 스냅샷(재기동 예열) 설정
+ *
+ * <p>{@code bookmark.cache.snapshot.enabled=true}일 때만 활성화
+ * <p>종료 시 빈 소멸 단계에서 저장하고, 기동 시 ApplicationRunner 단계(readiness 전)에서 복원
+ * <p>클러스터 모드에서는 내려가 있는 동안 다른 노드의 쓰기를 알 수 없으므로 복원하지 않음
+ * <p>스냅샷에는 DB 식별자(최초 마이그레이션 적용 시각)를 기록하여, 재기동 시 새로 만들어진 DB(인메모리 등)에서는 복원하지 않음
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.snapshot", name = "enabled", havingValue = "true")
+public class CacheSnapshotConfig {
+
+    @Bean(destroyMethod = "save")
+    public CacheSnapshotter cacheSnapshotter(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkCacheProperties properties,
+        ObjectProvider<Flyway> flyway
+    ) {
+        BookmarkCacheProperties.Snapshot snapshot = properties.getSnapshot();
+        return new CacheSnapshotter(
+            cacheManager,
+            cacheGenerations,
+            name -> properties.spec(name).getExpireAfterWrite(),
+            Path.of(snapshot.getPath()),
+            snapshot.getMaxEntriesPerCache(),
+            snapshot.getMaxAge(),
+            System::currentTimeMillis,
+            () -> databaseIdentity(flyway.getIfAvailable())
+        );
+    }
+
+    /**
+     * 최초 마이그레이션 적용 시각 - DB를 새로 만들면 달라짐 (Flyway가 없거나 이력이 없으면 null → 복원하지 않음)
+     */
+    private static String databaseIdentity(Flyway flyway) {
+        if (flyway == null) {
+            return null;
+        }
+        MigrationInfo[] applied = flyway.info().applied();
+        if (applied.length == 0 || applied[0].getInstalledOn() == null) {
+            return null;
+        }
+        return "flyway:" + applied[0].getVersion() + "@" + applied[0].getInstalledOn().getTime();
+    }
+
+    @Bean
+    public ApplicationRunner cacheSnapshotLoader(CacheSnapshotter cacheSnapshotter, BookmarkCacheProperties properties) {
+        return args -> {
+            if (properties.getCluster().isEnabled()) {
+                log.info("클러스터 모드에서는 캐시 스냅샷을 복원하지 않음");
+                return;
+            }
+            cacheSnapshotter.load();
+        };
+    }
+}
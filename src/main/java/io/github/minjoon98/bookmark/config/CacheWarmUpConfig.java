@@ -0,0 +1,56 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.CacheWarmer;
+import io.github.minjoon98.bookmark.repository.TagRepository;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로그인 후 캐시 예열 설정
+ *
+ * <p>{@code bookmark.cache.warm-up.enabled=true}일 때만 활성화
+ * <p>예열은 DB 대기가 대부분이므로 가상 스레드에서 실행하고, 동시 예열 수는 {@link CacheWarmer}의 세마포어로 제한
+ */
+@Configuration
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.warm-up", name = "enabled", havingValue = "true")
+public class CacheWarmUpConfig {
+
+    @Bean(name = "cacheWarmUpExecutor", destroyMethod = "shutdown")
+    public ExecutorService cacheWarmUpExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-warmup-", 1).factory());
+    }
+
+    @Bean
+    public CacheWarmer cacheWarmer(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkService bookmarkService,
+        TagRepository tagRepository,
+        @Qualifier("cacheWarmUpExecutor") ExecutorService cacheWarmUpExecutor,
+        BookmarkCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        BookmarkCacheProperties.WarmUp warmUp = properties.getWarmUp();
+        return new CacheWarmer(
+            cacheManager,
+            cacheGenerations,
+            bookmarkService,
+            tagRepository,
+            cacheWarmUpExecutor,
+            warmUp.getMaxConcurrent(),
+            warmUp.getTopTags(),
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.BookmarkCacheEvictor;
+import io.github.minjoon98.bookmark.cache.CacheInvalidationTransport;
+import io.github.minjoon98.bookmark.cache.ClusterCacheInvalidationBus;
+import io.github.minjoon98.bookmark.cache.JdbcCacheInvalidationTransport;
+import io.github.minjoon98.bookmark.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 다중 인스턴스 캐시 무효화 전파 설정
+ *
+ * <p>{@code bookmark.cache.cluster.enabled=true}일 때만 활성화
+ * <p>기본 전달 방식은 DB 테이블 폴링, {@link CacheInvalidationTransport} 빈을 직접 등록하면 교체 가능
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "bookmark.cache.cluster", name = "enabled", havingValue = "true")
+public class ClusterCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationTransport.class)
+    public CacheInvalidationTransport cacheInvalidationTransport(
+        BookmarkCacheProperties properties,
+        CacheInvalidationRepository repository
+    ) {
+        return new JdbcCacheInvalidationTransport(repository, properties.getCluster().getVisibilityGrace());
+    }
+
+    @Bean
+    public ClusterCacheInvalidationBus clusterCacheInvalidationBus(
+        BookmarkCacheProperties properties,
+        CacheInvalidationTransport transport,
+        BookmarkCacheEvictor bookmarkCacheEvictor,
+        MeterRegistry meterRegistry
+    ) {
+        BookmarkCacheProperties.Cluster cluster = properties.getCluster();
+        return new ClusterCacheInvalidationBus(
+            cluster.getNodeId(), transport, bookmarkCacheEvictor, cluster.getRetention(), meterRegistry);
+    }
+}
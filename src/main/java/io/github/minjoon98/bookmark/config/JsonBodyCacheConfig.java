@@ -0,0 +1,67 @@
+package io.github.minjoon98.bookmark.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.minjoon98.bookmark.cache.JsonBodyCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.List;
+
+/**
+ * 캐시 응답 JSON 바이트 재사용 설정
+ *
+ * <p>{@code bookmark.cache.json-body.enabled=true}일 때만 활성화, 비활성 시 컨트롤러는 일반 직렬화 경로 사용
+ * <p>응답 인스턴스 기준으로 재사용하므로, 적중마다 새 인스턴스를 디코딩하는 저장소(L2, off-heap)를 쓰면 활성화하지 않음
+ */
+@Configuration
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.json-body", name = "enabled", havingValue = "true")
+@Conditional(JsonBodyCacheConfig.OnHeapResponseCaches.class)
+public class JsonBodyCacheConfig {
+
+    @Bean
+    public JsonBodyCache jsonBodyCache(ObjectMapper objectMapper, BookmarkCacheProperties properties) {
+        return new JsonBodyCache(objectMapper, properties.getJsonBody().getMaximumWeight().toBytes());
+    }
+
+    /**
+     * JSON 바이트를 재사용하는 응답 캐시(단건, 첫 페이지)가 모두 힙에 같은 인스턴스를 보관할 때만 일치
+     */
+    @Slf4j
+    static class OnHeapResponseCaches extends SpringBootCondition {
+
+        private static final List<String> RESPONSE_CACHES = List.of("bookmarkById", "bookmarksFirstPage");
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            BookmarkCacheProperties properties = Binder.get(context.getEnvironment())
+                .bindOrCreate("bookmark.cache", BookmarkCacheProperties.class);
+            String reason = properties.getL2().isEnabled() ? "공유 캐시(L2) 사용" : offHeapResponseCache(properties);
+            if (reason == null) {
+                return ConditionOutcome.match("응답 캐시가 힙에 인스턴스를 보관");
+            }
+            log.warn("json-body 재사용을 비활성화합니다 ({}) - 적중마다 새 응답 인스턴스가 만들어져 재사용되지 않음", reason);
+            return ConditionOutcome.noMatch(reason);
+        }
+
+        private String offHeapResponseCache(BookmarkCacheProperties properties) {
+            return RESPONSE_CACHES.stream()
+                .filter(name -> {
+                    BookmarkCacheProperties.Spec spec = properties.getSpecs().get(name);
+                    return spec != null && spec.isOffHeap();
+                })
+                .findFirst()
+                .map(name -> "off-heap 캐시 사용: " + name)
+                .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.minjoon98.bookmark.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.minjoon98.bookmark.cache.CachingJwtDecoder;
+import io.github.minjoon98.bookmark.util.JwtDecoderProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 검증된 JWT 디코딩 결과 캐시 설정
+ *
+ * <p>{@code bookmark.cache.jwt.enabled=true}일 때만 활성화, 비활성 시 매 요청 Nimbus 디코더로 검증
+ */
+@Configuration
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.jwt", name = "enabled", havingValue = "true")
+public class JwtDecodeCacheConfig {
+
+    @Bean
+    public CachingJwtDecoder cachingJwtDecoder(
+        JwtDecoderProvider jwtDecoderProvider,
+        BookmarkCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        BookmarkCacheProperties.Jwt jwt = properties.getJwt();
+        return new CachingJwtDecoder(
+            jwtDecoderProvider.getDecoder(),
+            jwt.getMaximumSize(),
+            jwt.getMaxTtl(),
+            meterRegistry,
+            Ticker.systemTicker(),
+            System::currentTimeMillis);
+    }
+}
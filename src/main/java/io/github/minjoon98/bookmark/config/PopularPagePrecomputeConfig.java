@@ -0,0 +1,66 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.PopularPagePrecomputer;
+import io.github.minjoon98.bookmark.cache.PopularPageTracker;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.HashSet;
+
+/**
+ * 인기 목록 페이지 만료 전 재적재 설정
+ *
+ * <p>{@code bookmark.cache.precompute.enabled=true}일 때만 활성화
+ * <p>조회 빈도 추적기({@link PopularPageTracker})는 캐시 매니저가 {@code CoalescingCache}의 조회 관찰자로 연결하므로
+ * 캐시 매니저에 의존하지 않는 별도 빈으로 둔다.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookmarkCacheProperties.class)
+@ConditionalOnProperty(prefix = "bookmark.cache.precompute", name = "enabled", havingValue = "true")
+public class PopularPagePrecomputeConfig {
+
+    @Bean
+    public PopularPageTracker popularPageTracker(BookmarkCacheProperties properties, MeterRegistry meterRegistry) {
+        BookmarkCacheProperties.Precompute precompute = properties.getPrecompute();
+        return new PopularPageTracker(
+            new HashSet<>(precompute.getCaches()),
+            precompute.getTopK(),
+            precompute.getSketchWidth(),
+            precompute.getSketchDepth(),
+            precompute.getSampleSize(),
+            meterRegistry,
+            System::currentTimeMillis
+        );
+    }
+
+    @Bean
+    public PopularPagePrecomputer popularPagePrecomputer(
+        CacheManager cacheManager,
+        CacheGenerations cacheGenerations,
+        BookmarkService bookmarkService,
+        PopularPageTracker popularPageTracker,
+        BookmarkCacheProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        BookmarkCacheProperties.Precompute precompute = properties.getPrecompute();
+        return new PopularPagePrecomputer(
+            cacheManager,
+            cacheGenerations,
+            bookmarkService,
+            popularPageTracker,
+            precompute.getMinFrequency(),
+            precompute.getLeadTime(),
+            precompute.getMaxLoadsPerCycle(),
+            meterRegistry,
+            System::currentTimeMillis
+        );
+    }
+}
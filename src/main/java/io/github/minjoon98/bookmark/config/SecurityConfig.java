@@ -1,7 +1,9 @@
 package io.github.minjoon98.bookmark.config;
 
+import io.github.minjoon98.bookmark.cache.CachingJwtDecoder;
 import io.github.minjoon98.bookmark.util.JwtDecoderProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,6 +14,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -20,6 +23,7 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     private final JwtDecoderProvider jwtDecoderProvider;
+    private final ObjectProvider<CachingJwtDecoder> cachingJwtDecoder;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -30,7 +34,9 @@ public class SecurityConfig {
         http.formLogin(AbstractHttpConfigurer::disable);
         http.httpBasic(AbstractHttpConfigurer::disable);
 
-        http.oauth2ResourceServer(request -> request.jwt(jwt -> jwt.decoder(jwtDecoderProvider.getDecoder())));
+        // bookmark.cache.jwt.enabled=true면 검증 결과를 캐시하는 디코더 사용
+        JwtDecoder decoder = cachingJwtDecoder.getIfAvailable(jwtDecoderProvider::getDecoder);
+        http.oauth2ResourceServer(request -> request.jwt(jwt -> jwt.decoder(decoder)));
 
         http.authorizeHttpRequests(request ->
                 request.requestMatchers(
@@ -0,0 +1,32 @@
+package io.github.minjoon98.bookmark.config;
+
+import io.github.minjoon98.bookmark.cache.InMemorySharedCacheStore;
+import io.github.minjoon98.bookmark.cache.RedisSharedCacheStore;
+import io.github.minjoon98.bookmark.cache.SharedCacheStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * 공유 캐시(L2) 저장소 설정
+ *
+ * <p>{@code bookmark.cache.l2.enabled=true}일 때만 활성화
+ * <p>{@code bookmark.cache.l2.store}로 Redis 또는 프로세스 내 대체 저장소 선택
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "bookmark.cache.l2", name = "enabled", havingValue = "true")
+public class SharedCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bookmark.cache.l2", name = "store", havingValue = "redis", matchIfMissing = true)
+    public SharedCacheStore redisSharedCacheStore(RedisConnectionFactory connectionFactory) {
+        return new RedisSharedCacheStore(connectionFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bookmark.cache.l2", name = "store", havingValue = "in-memory")
+    public SharedCacheStore inMemorySharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+}
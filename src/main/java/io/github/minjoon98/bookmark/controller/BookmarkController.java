@@ -1,16 +1,22 @@
 package io.github.minjoon98.bookmark.controller;
 
+import io.github.minjoon98.bookmark.cache.JsonBodyCache;
 import io.github.minjoon98.bookmark.docs.BookmarkApiDoc;
 import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
+import io.github.minjoon98.bookmark.dto.response.BookmarkCountResponse;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
 import io.github.minjoon98.bookmark.dto.response.MessageResponse;
 import io.github.minjoon98.bookmark.service.BookmarkService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookmarkController implements BookmarkApiDoc {
 
     private final BookmarkService bookmarkService;
+    private final ObjectProvider<JsonBodyCache> jsonBodyCache;
 
     @PostMapping
     public ResponseEntity<?> createBookmark(@Valid @RequestBody BookmarkCreateRequest request) {
@@ -30,13 +37,34 @@ public class BookmarkController implements BookmarkApiDoc {
     @GetMapping
     public ResponseEntity<?> getBookmarks(
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(bookmarkService.getBookmarks(search, pageable));
+        // count=false: 전체 개수 없이 다음 페이지 존재 여부만 (COUNT 쿼리 생략)
+        if (!count) {
+            return ResponseEntity.ok(bookmarkService.getBookmarkSlice(search, pageable));
+        }
+        Page<BookmarkResponse> page = bookmarkService.getBookmarks(search, pageable);
+        // 검색어 없는 첫 페이지만 항상 캐시 적중 대상 (bookmarksFirstPage)
+        return search == null && pageable.getPageNumber() == 0 ? cachedJson(page) : ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<?> getBookmarkCount() {
+        return ResponseEntity.ok(BookmarkCountResponse.of(bookmarkService.getBookmarkCount()));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollBookmarks(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookmarkService.scrollBookmarks(search, cursor, sort, size));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getBookmarkById(@PathVariable Long id) {
-        return ResponseEntity.ok(bookmarkService.getBookmarkById(id));
+        return cachedJson(bookmarkService.getBookmarkById(id));
     }
 
     @PutMapping("/{id}")
@@ -55,10 +83,23 @@ public class BookmarkController implements BookmarkApiDoc {
     @GetMapping("/by-tag")
     public ResponseEntity<?> getBookmarksByTag(
             @RequestParam String name,
+            @RequestParam(defaultValue = "true") boolean count,
             @PageableDefault(size = 20) Pageable pageable) {
+        if (!count) {
+            return ResponseEntity.ok(bookmarkService.getBookmarkSliceByTag(name, pageable));
+        }
         return ResponseEntity.ok(bookmarkService.getBookmarksByTag(name, pageable));
     }
 
+    @GetMapping("/by-tag/scroll")
+    public ResponseEntity<?> scrollBookmarksByTag(
+            @RequestParam String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookmarkService.scrollBookmarksByTag(name, cursor, sort, size));
+    }
+
     @PostMapping("/{id}/tags")
     public ResponseEntity<?> addTags(
             @PathVariable Long id,
@@ -72,4 +113,20 @@ public class BookmarkController implements BookmarkApiDoc {
             @PathVariable String tagName) {
         return ResponseEntity.ok(bookmarkService.removeTag(id, tagName));
     }
+
+    /**
+     * 캐시된 응답은 미리 직렬화된 JSON 바이트와 ETag로 응답 (If-None-Match 일치 시 304)
+     * <p>JsonBodyCache가 비활성이면 일반 직렬화 경로 사용
+     */
+    private ResponseEntity<?> cachedJson(Object body) {
+        JsonBodyCache cache = jsonBodyCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.ok(body);
+        }
+        JsonBodyCache.JsonBody json = cache.render(body);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(json.etag())
+                .body(json.bytes());
+    }
 }
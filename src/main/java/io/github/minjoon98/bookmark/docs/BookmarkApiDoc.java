@@ -3,7 +3,9 @@ package io.github.minjoon98.bookmark.docs;
 import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
+import io.github.minjoon98.bookmark.dto.response.BookmarkCountResponse;
 import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.dto.response.BookmarkScrollResponse;
 import io.github.minjoon98.bookmark.dto.response.MessageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,17 +33,44 @@ public interface BookmarkApiDoc {
         throw new UnsupportedOperationException("Doc only");
     }
 
-    @Operation(summary = "북마크 목록 조회", description = "본인의 북마크 목록을 조회합니다. 검색, 페이지네이션, 정렬을 지원합니다.")
+    @Operation(summary = "북마크 목록 조회", description = "본인의 북마크 목록을 조회합니다. 검색, 페이지네이션, 정렬을 지원합니다. count=false이면 전체 개수 없이 다음 페이지 존재 여부(Slice)만 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
     default ResponseEntity<?> getBookmarks(
             @Parameter(description = "검색 키워드 (제목, URL)") String search,
+            @Parameter(description = "전체 개수 포함 여부 (false면 COUNT 쿼리 생략)", example = "true") boolean count,
             @Parameter(description = "페이지 정보") Pageable pageable) {
         throw new UnsupportedOperationException("Doc only");
     }
 
+    @Operation(summary = "북마크 전체 개수 조회", description = "본인의 전체 북마크 수를 조회합니다. 캐시된 값이며 쓰기 직후 잠시 이전 값일 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BookmarkCountResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    default ResponseEntity<?> getBookmarkCount() {
+        throw new UnsupportedOperationException("Doc only");
+    }
+
+    @Operation(summary = "북마크 커서 기반 목록 조회",
+            description = "본인의 북마크를 커서 기반(키셋)으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 위치와 무관하게 일정한 속도로 조회되며 전체 개수는 계산하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BookmarkScrollResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 정렬 기준"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    default ResponseEntity<?> scrollBookmarks(
+            @Parameter(description = "검색 키워드 (제목, URL)") String search,
+            @Parameter(description = "이전 응답의 nextCursor (첫 요청은 생략)") String cursor,
+            @Parameter(description = "정렬 기준 (createdAt, updatedAt, title 중 하나, 방향 asc|desc)", example = "createdAt,desc") String sort,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20") int size) {
+        throw new UnsupportedOperationException("Doc only");
+    }
+
     @Operation(summary = "북마크 상세 조회", description = "특정 북마크의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -90,10 +119,27 @@ public interface BookmarkApiDoc {
     })
     default ResponseEntity<?> getBookmarksByTag(
             @Parameter(description = "태그 이름") String name,
+            @Parameter(description = "전체 개수 포함 여부 (false면 COUNT 쿼리 생략)", example = "true") boolean count,
             @Parameter(description = "페이지 정보") Pageable pageable) {
         throw new UnsupportedOperationException("Doc only");
     }
 
+    @Operation(summary = "태그별 북마크 커서 기반 조회",
+            description = "특정 태그가 포함된 북마크를 커서 기반(키셋)으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BookmarkScrollResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 정렬 기준"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    default ResponseEntity<?> scrollBookmarksByTag(
+            @Parameter(description = "태그 이름") String name,
+            @Parameter(description = "이전 응답의 nextCursor (첫 요청은 생략)") String cursor,
+            @Parameter(description = "정렬 기준 (createdAt, updatedAt, title 중 하나, 방향 asc|desc)", example = "createdAt,desc") String sort,
+            @Parameter(description = "조회 개수 (최대 100)", example = "20") int size) {
+        throw new UnsupportedOperationException("Doc only");
+    }
+
     @Operation(summary = "태그 추가", description = "북마크에 태그를 추가합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "추가 성공",
@@ -0,0 +1,18 @@
+package io.github.minjoon98.bookmark.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "북마크 전체 개수 응답")
+@Getter
+@AllArgsConstructor
+public class BookmarkCountResponse {
+
+    @Schema(description = "전체 북마크 수 (캐시된 값, 쓰기 직후에는 잠시 이전 값일 수 있음)", example = "128")
+    private long total;
+
+    public static BookmarkCountResponse of(long total) {
+        return new BookmarkCountResponse(total);
+    }
+}
@@ -1,7 +1,7 @@
 package io.github.minjoon98.bookmark.dto.response;
 
 import io.github.minjoon98.bookmark.entity.Bookmark;
-import io.github.minjoon98.bookmark.entity.Tag;
+import io.github.minjoon98.bookmark.repository.BookmarkRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -37,6 +37,10 @@ public class BookmarkResponse {
     @Schema(description = "태그 목록", example = "[\"spring\",\"java\"]")
     private List<String> tags;
 
+    /**
+     * 엔티티 → 응답 변환 (쓰기/스크롤 경로, 조회 트랜잭션 안에서 호출)
+     * <p>태그 연결/태그는 지연 로딩이지만 default_batch_fetch_size로 페이지 단위 IN 조회로 일괄 적재
+     */
     public static BookmarkResponse from(Bookmark bookmark) {
         return BookmarkResponse.builder()
             .id(bookmark.getId())
@@ -54,4 +58,21 @@ public class BookmarkResponse {
             )
             .build();
     }
+
+    /**
+     * 프로젝션 → 응답 변환 (목록/태그/단건 조회 경로)
+     *
+     * @param tags 이름순 태그명 (태그 조회 쿼리에서 정렬됨)
+     */
+    public static BookmarkResponse of(BookmarkRow row, List<String> tags) {
+        return BookmarkResponse.builder()
+            .id(row.id())
+            .title(row.title())
+            .url(row.url())
+            .memo(row.memo())
+            .createdAt(row.createdAt())
+            .updatedAt(row.updatedAt())
+            .tags(tags)
+            .build();
+    }
 }
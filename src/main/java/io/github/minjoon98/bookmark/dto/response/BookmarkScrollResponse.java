@@ -0,0 +1,24 @@
+package io.github.minjoon98.bookmark.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "북마크 커서 기반 목록 응답")
+@Getter
+@Builder
+@AllArgsConstructor
+public class BookmarkScrollResponse {
+
+    @Schema(description = "북마크 목록")
+    private List<BookmarkResponse> content;
+
+    @Schema(description = "다음 목록 조회용 커서 (마지막이면 null)", example = "Y3JlYXRlZEF0fGRlc2N8NDJ8MjAyNS0wMS0xNVQxMDozMA")
+    private String nextCursor;
+
+    @Schema(description = "다음 목록 존재 여부", example = "true")
+    private boolean hasNext;
+}
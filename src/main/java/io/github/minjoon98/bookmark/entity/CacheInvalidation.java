@@ -0,0 +1,54 @@
+package io.github.minjoon98.bookmark.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 메시지 (클러스터 모드 전용)
+ *
+ * <p>한 행이 무효화 대상 하나를 나타냄
+ * <ul>
+ *   <li>invalidateAll = true: 전체 캐시</li>
+ *   <li>bookmarkId != null: 단건 캐시 키 (userId, bookmarkId)</li>
+ *   <li>그 외: 사용자 목록 캐시 (userId)</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "cache_invalidations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 발행 노드 (자신이 발행한 메시지는 수신하지 않음)
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    private Long userId;
+
+    private Long bookmarkId;
+
+    @Column(nullable = false)
+    private boolean invalidateAll;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public CacheInvalidation(String nodeId, Long userId, Long bookmarkId, boolean invalidateAll) {
+        this.nodeId = nodeId;
+        this.userId = userId;
+        this.bookmarkId = bookmarkId;
+        this.invalidateAll = invalidateAll;
+    }
+}
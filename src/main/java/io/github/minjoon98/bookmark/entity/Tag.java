@@ -3,6 +3,7 @@ package io.github.minjoon98.bookmark.entity;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
@@ -34,7 +35,8 @@ public class Tag {
         this.name = normalize(name);
     }
 
+    // 로케일과 무관하게 변환 (DB의 LOWER, 소문자 CHECK 제약과 같은 결과가 되도록)
     public static String normalize(String raw) {
-        return raw == null ? null : raw.trim().toLowerCase();
+        return raw == null ? null : raw.trim().toLowerCase(Locale.ROOT);
     }
 }
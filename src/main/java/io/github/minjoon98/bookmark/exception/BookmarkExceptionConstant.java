@@ -9,6 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum BookmarkExceptionConstant {
 
     BOOKMARK_NOT_FOUND("해당 북마크를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_CURSOR("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    UNSUPPORTED_SORT("지원하지 않는 정렬 기준입니다.", HttpStatus.BAD_REQUEST),
     ;
 
     private final String message;
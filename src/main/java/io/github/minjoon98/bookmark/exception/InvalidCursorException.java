@@ -0,0 +1,21 @@
+package io.github.minjoon98.bookmark.exception;
+
+import org.springframework.http.HttpStatus;
+
+import io.github.minjoon98.bookmark.global.exception.BookmarkException;
+
+import static io.github.minjoon98.bookmark.exception.BookmarkExceptionConstant.INVALID_CURSOR;
+
+public class InvalidCursorException extends BookmarkException {
+
+    private static final BookmarkExceptionConstant constant = INVALID_CURSOR;
+
+    public InvalidCursorException() {
+        super(constant.getMessage());
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return constant.getHttpStatus();
+    }
+}
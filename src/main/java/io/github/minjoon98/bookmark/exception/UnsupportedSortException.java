@@ -0,0 +1,21 @@
+package io.github.minjoon98.bookmark.exception;
+
+import org.springframework.http.HttpStatus;
+
+import io.github.minjoon98.bookmark.global.exception.BookmarkException;
+
+import static io.github.minjoon98.bookmark.exception.BookmarkExceptionConstant.UNSUPPORTED_SORT;
+
+public class UnsupportedSortException extends BookmarkException {
+
+    private static final BookmarkExceptionConstant constant = UNSUPPORTED_SORT;
+
+    public UnsupportedSortException(String sort) {
+        super(constant.getMessage() + " (sort: " + sort + ")");
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return constant.getHttpStatus();
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.minjoon98.bookmark.repository;
+
+/**
+ * 북마크 ID + 소유자 ID 프로젝션 - 태그 변경 시 무효화할 사용자/단건 캐시 조회
+ */
+public record BookmarkOwner(Long bookmarkId, Long userId) {
+}
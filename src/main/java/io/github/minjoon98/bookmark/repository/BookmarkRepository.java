@@ -2,27 +2,135 @@ package io.github.minjoon98.bookmark.repository;
 
 import io.github.minjoon98.bookmark.entity.Bookmark;
 import io.github.minjoon98.bookmark.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, JpaSpecificationExecutor<Bookmark> {
+
+    /*
+     * 검색 조건 - 제목 또는 URL에 검색어 포함 (keyword는 SearchCandidateCache.normalize로 소문자 변환된 값)
+     * LIKE 대신 LOCATE로 비교하여 '%', '_'도 일반 문자로 취급 (검색 후보 메모리 필터링과 같은 결과)
+     * 모든 검색 경로(후보/페이지/Slice/스크롤)가 같은 조건을 사용
+     */
+    String KEYWORD_MATCH = "(LOCATE(:keyword, LOWER(b.title)) > 0 OR LOCATE(:keyword, LOWER(b.url)) > 0)";
+
+    // 사용자별 검색 후보 (ID, 제목, URL만 조회, 최대 limit건)
+    @Query("SELECT new io.github.minjoon98.bookmark.repository.SearchCandidate(b.id, b.title, b.url) " +
+           "FROM Bookmark b WHERE b.user = :user AND " + KEYWORD_MATCH)
+    List<SearchCandidate> findCandidatesByUserAndKeyword(
+            @Param("user") User user, @Param("keyword") String keyword, Limit limit);
+
+    /*
+     * 조회 응답 프로젝션 (응답 컬럼만 조회, 엔티티 적재 없음)
+     * 태그는 페이지의 북마크 ID로 findTagNamesByBookmarkIdIn 1회 조회
+     */
 
     // 사용자별 전체 목록
-    Page<Bookmark> findByUser(User user, Pageable pageable);
+    @Query(value = BookmarkRow.SELECT + "WHERE b.user = :user",
+           countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.user = :user")
+    Page<BookmarkRow> findRowsByUser(@Param("user") User user, Pageable pageable);
+
+    // 사용자별 검색 (제목 또는 URL, keyword는 소문자로 정규화된 값 - LIKE 와일드카드 이스케이프 불필요)
+    @Query(value = BookmarkRow.SELECT + "WHERE b.user = :user AND " + KEYWORD_MATCH,
+           countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.user = :user AND " + KEYWORD_MATCH)
+    Page<BookmarkRow> findRowsByUserAndKeyword(@Param("user") User user, @Param("keyword") String keyword, Pageable pageable);
+
+    // 사용자별 ID 목록 조회 (검색 후보 필터링 결과 페이징)
+    @Query(value = BookmarkRow.SELECT + "WHERE b.user = :user AND b.id IN :ids",
+           countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.user = :user AND b.id IN :ids")
+    Page<BookmarkRow> findRowsByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids, Pageable pageable);
+
+    // 사용자별 태그 조회 (태그명, (북마크, 태그) 쌍이 유일하므로 DISTINCT 없이 중복 없음)
+    // 태그명은 소문자로 저장되므로 컬럼을 감싸지 않고 비교 (uk_tags_name → idx_bookmark_tags_tag_bookmark 순 탐색)
+    @Query(value = BookmarkRow.SELECT +
+           "JOIN b.bookmarkTags bt JOIN bt.tag t " +
+           "WHERE b.user = :user AND t.name = LOWER(:tagName)",
+           countQuery = "SELECT COUNT(b) FROM Bookmark b JOIN b.bookmarkTags bt JOIN bt.tag t " +
+           "WHERE b.user = :user AND t.name = LOWER(:tagName)")
+    Page<BookmarkRow> findRowsByUserAndTagName(@Param("user") User user, @Param("tagName") String tagName, Pageable pageable);
+
+    // 단건 조회 (소유자 검증은 userId로)
+    @Query(BookmarkRow.SELECT + "WHERE b.id = :id")
+    Optional<BookmarkRow> findRowById(@Param("id") Long id);
+
+    // 북마크 ID 목록의 태그명 (이름순)
+    @Query("SELECT new io.github.minjoon98.bookmark.repository.BookmarkTagName(bt.bookmark.id, t.name) " +
+           "FROM BookmarkTag bt JOIN bt.tag t " +
+           "WHERE bt.bookmark.id IN :bookmarkIds ORDER BY t.name")
+    List<BookmarkTagName> findTagNamesByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+    // 태그가 연결된 북마크와 소유자 (태그 변경 시 캐시 무효화 대상)
+    @Query("SELECT new io.github.minjoon98.bookmark.repository.BookmarkOwner(b.id, b.user.id) " +
+           "FROM BookmarkTag bt JOIN bt.bookmark b " +
+           "WHERE bt.tag.id = :tagId")
+    List<BookmarkOwner> findOwnersByTagId(@Param("tagId") Long tagId);
+
+    // 사용자별 전체 개수 (bookmarkCount 캐시 적재/재계산)
+    long countByUser(User user);
+
+    /*
+     * COUNT 없는 조회 (size + 1건을 읽어 다음 페이지 존재 여부만 확인)
+     */
+
+    // 사용자별 전체 목록
+    Slice<Bookmark> findSliceByUser(User user, Pageable pageable);
 
     // 사용자별 검색 (제목 또는 URL)
-    Page<Bookmark> findByUserAndTitleContainingIgnoreCaseOrUserAndUrlContainingIgnoreCase(
-            User user1, String title, User user2, String url, Pageable pageable);
+    @Query("SELECT b FROM Bookmark b WHERE b.user = :user AND " + KEYWORD_MATCH)
+    Slice<Bookmark> findSliceByUserAndKeyword(
+            @Param("user") User user, @Param("keyword") String keyword, Pageable pageable);
+
+    // 사용자별 ID 목록 조회 (검색 후보 필터링 결과)
+    Slice<Bookmark> findSliceByUserAndIdIn(User user, Collection<Long> ids, Pageable pageable);
 
     // 사용자별 태그 조회 (중복 제거)
     @Query("SELECT DISTINCT b FROM Bookmark b " +
            "JOIN b.bookmarkTags bt " +
            "JOIN bt.tag t " +
-           "WHERE b.user = :user AND LOWER(t.name) = LOWER(:tagName)")
-    Page<Bookmark> findDistinctByUserAndTagName(@Param("user") User user, @Param("tagName") String tagName, Pageable pageable);
+           "WHERE b.user = :user AND t.name = LOWER(:tagName)")
+    Slice<Bookmark> findDistinctSliceByUserAndTagName(@Param("user") User user, @Param("tagName") String tagName, Pageable pageable);
+
+    /*
+     * 키셋 스크롤 (정렬 값 + ID 다음부터 조회, COUNT 없음)
+     * 문자열 @Query는 키셋 스크롤을 지원하지 않으므로 태그 조회도 파생 쿼리로 선언
+     */
+
+    // 사용자별 전체 목록
+    Window<Bookmark> findByUser(User user, ScrollPosition position, Sort sort, Limit limit);
+
+    // 사용자별 검색 (제목 또는 URL) - 문자열 @Query 대신 KEYWORD_MATCH와 같은 조건의 Specification으로 스크롤
+    default Window<Bookmark> scrollByUserAndKeyword(
+            User user, String keyword, ScrollPosition position, Sort sort, Limit limit) {
+        return findBy(userAndKeyword(user, keyword),
+            query -> query.sortBy(sort).limit(limit.max()).scroll(position));
+    }
+
+    // KEYWORD_MATCH의 Criteria 표현 (LOCATE(keyword, LOWER(column)) > 0)
+    static Specification<Bookmark> userAndKeyword(User user, String keyword) {
+        return (root, query, cb) -> cb.and(
+            cb.equal(root.get("user"), user),
+            cb.or(
+                cb.gt(cb.locate(cb.lower(root.get("title")), keyword), 0),
+                cb.gt(cb.locate(cb.lower(root.get("url")), keyword), 0)));
+    }
+
+    // 사용자별 태그 조회 (중복 제거, tagName은 소문자로 정규화된 값)
+    Window<Bookmark> findDistinctByUserAndBookmarkTags_Tag_Name(
+            User user, String tagName, ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,27 @@
+package io.github.minjoon98.bookmark.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 응답 프로젝션 - 응답 컬럼 + 소유자 FK만 조회 (엔티티/스냅샷/지연 로딩 프록시 없음)
+ *
+ * <p>태그는 페이지 단위로 {@link BookmarkTagName}을 한 번 더 조회하여 채움
+ *
+ * @see io.github.minjoon98.bookmark.dto.response.BookmarkResponse#of(BookmarkRow, java.util.List)
+ */
+public record BookmarkRow(
+    Long id,
+    Long userId,
+    String title,
+    String url,
+    String memo,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * 생성자 표현식 조회절 (별칭 b, 사용자 FK는 조인 없이 컬럼 값 사용)
+     */
+    static final String SELECT = "SELECT new io.github.minjoon98.bookmark.repository.BookmarkRow("
+        + "b.id, b.user.id, b.title, b.url, b.memo, b.createdAt, b.updatedAt) FROM Bookmark b ";
+}
@@ -0,0 +1,7 @@
+package io.github.minjoon98.bookmark.repository;
+
+/**
+ * 북마크 ID + 태그명 프로젝션 - 페이지의 모든 북마크 태그를 한 번에 조회
+ */
+public record BookmarkTagName(Long bookmarkId, String name) {
+}
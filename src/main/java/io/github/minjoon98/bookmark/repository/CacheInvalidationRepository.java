@@ -0,0 +1,36 @@
+package io.github.minjoon98.bookmark.repository;
+
+import io.github.minjoon98.bookmark.entity.CacheInvalidation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // 다른 노드가 발행한 메시지 중 마지막 수신 ID 이후 또는 유예 기간 안에 생성된 메시지 (afterId 이후, ID 순)
+    @Query("SELECT c FROM CacheInvalidation c WHERE c.nodeId <> :nodeId AND c.id > :afterId " +
+           "AND (c.id > :lastSeenId OR c.createdAt >= :since) ORDER BY c.id")
+    List<CacheInvalidation> findUnseen(@Param("afterId") Long afterId,
+                                       @Param("lastSeenId") Long lastSeenId,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("nodeId") String nodeId,
+                                       Limit limit);
+
+    // 현재 마지막 메시지 ID (시작 시점 기준점)
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    Long findMaxId();
+
+    // 보관 기간이 지난 메시지 일괄 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
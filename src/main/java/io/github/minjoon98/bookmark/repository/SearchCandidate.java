@@ -0,0 +1,11 @@
+package io.github.minjoon98.bookmark.repository;
+
+import java.io.Serializable;
+
+/**
+ * 검색 후보 프로젝션 - 검색어 필터링에 필요한 컬럼(ID, 제목, URL)만 조회
+ *
+ * @see io.github.minjoon98.bookmark.cache.SearchCandidateCache
+ */
+public record SearchCandidate(Long id, String title, String url) implements Serializable {
+}
@@ -1,11 +1,27 @@
 package io.github.minjoon98.bookmark.repository;
 
 import io.github.minjoon98.bookmark.entity.Tag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
-    Optional<Tag> findByNameIgnoreCase(String name);
-    boolean existsByNameIgnoreCase(String name);
+    // 태그명은 소문자로 저장되므로 컬럼 대신 인자를 소문자로 변환 (uk_tags_name 인덱스 사용)
+    @Query("SELECT t FROM Tag t WHERE t.name = LOWER(:name)")
+    Optional<Tag> findByNameIgnoreCase(@Param("name") String name);
+
+    @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Tag t WHERE t.name = LOWER(:name)")
+    boolean existsByNameIgnoreCase(@Param("name") String name);
+
+    // 사용자가 가장 많이 사용한 태그명 (사용 횟수 내림차순, 개수는 Pageable로 제한)
+    @Query("SELECT t.name FROM BookmarkTag bt " +
+           "JOIN bt.tag t " +
+           "WHERE bt.bookmark.user.id = :userId " +
+           "GROUP BY t.name " +
+           "ORDER BY COUNT(bt) DESC, t.name ASC")
+    List<String> findTopNamesByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.CacheWarmer;
 import io.github.minjoon98.bookmark.dto.request.LoginRequest;
 import io.github.minjoon98.bookmark.dto.request.SignUpRequest;
 import io.github.minjoon98.bookmark.dto.response.LoginResponse;
@@ -9,6 +10,7 @@ import io.github.minjoon98.bookmark.exception.InvalidCredentialsException;
 import io.github.minjoon98.bookmark.repository.UserRepository;
 import io.github.minjoon98.bookmark.util.IssueTokenResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final IssueTokenResolver issueTokenResolver;
+    private final ObjectProvider<CacheWarmer> cacheWarmer;
 
     @Transactional
     public void signUp(SignUpRequest request) {
@@ -46,6 +49,8 @@ public class AuthServiceImpl implements AuthService {
         }
 
         String token = issueTokenResolver.issueToken(user);
+        // 로그인 직후 조회할 첫 페이지 / 상위 태그 페이지를 비동기로 예열 (응답 지연 없음)
+        cacheWarmer.ifAvailable(warmer -> warmer.warmUp(user.getId()));
         return new LoginResponse(token, user.getEmail());
     }
 }
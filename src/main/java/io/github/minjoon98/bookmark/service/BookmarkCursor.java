@@ -0,0 +1,137 @@
+package io.github.minjoon98.bookmark.service;
+
+import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.exception.InvalidCursorException;
+import io.github.minjoon98.bookmark.exception.UnsupportedSortException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 키셋 스크롤 정렬 기준 + 커서 인코딩
+ *
+ * <p>offset 페이지는 앞 페이지 행을 모두 읽고 버리므로 뒤 페이지일수록 느려진다.
+ * 키셋 스크롤은 마지막 항목의 (정렬 값, ID) 다음부터 읽어 위치와 무관하게 일정한 비용으로 조회한다.
+ * <ul>
+ *   <li>정렬 기준은 허용 목록만 사용 (createdAt, updatedAt, title) - ID를 보조 정렬로 붙여 순서를 유일하게 만듦</li>
+ *   <li>커서: {@code 정렬키|방향|ID|정렬값}을 Base64 URL 인코딩한 불투명 문자열</li>
+ *   <li>커서의 정렬 기준이 요청과 다르거나 형식이 잘못되면 {@link InvalidCursorException}</li>
+ * </ul>
+ */
+public final class BookmarkCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private BookmarkCursor() {
+    }
+
+    /**
+     * {@code 정렬키[,asc|desc]} 형식의 정렬 파라미터 해석 (기본 방향 desc)
+     */
+    public static Ordering ordering(String sort) {
+        String[] parts = sort.split(",", -1);
+        if (parts.length > 2) {
+            throw new UnsupportedSortException(sort);
+        }
+        SortKey key = SortKey.of(parts[0].strip());
+        if (key == null) {
+            throw new UnsupportedSortException(sort);
+        }
+        if (parts.length == 1) {
+            return new Ordering(key, Sort.Direction.DESC);
+        }
+        return Sort.Direction.fromOptionalString(parts[1].strip())
+            .map(direction -> new Ordering(key, direction))
+            .orElseThrow(() -> new UnsupportedSortException(sort));
+    }
+
+    /**
+     * 커서를 스크롤 위치로 변환 (커서가 없으면 처음부터)
+     */
+    public static ScrollPosition decode(String cursor, Ordering ordering) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException();
+        }
+        if (parts.length != 4
+            || !parts[0].equals(ordering.key().property)
+            || !parts[1].equals(ordering.direction().name())) {
+            throw new InvalidCursorException();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(ordering.key().property, ordering.key().parser.apply(parts[3]));
+            keys.put("id", Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException();
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * 마지막 항목 다음부터 조회하는 커서
+     */
+    public static String encode(Ordering ordering, Bookmark last) {
+        String raw = ordering.key().property + SEPARATOR
+            + ordering.direction().name() + SEPARATOR
+            + last.getId() + SEPARATOR
+            + ordering.key().extractor.apply(last);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 허용된 정렬 기준과 방향
+     */
+    public record Ordering(SortKey key, Sort.Direction direction) {
+
+        /**
+         * 정렬 기준 + ID 보조 정렬 (같은 방향)
+         */
+        public Sort toSort() {
+            return Sort.by(direction, key.property).and(Sort.by(direction, "id"));
+        }
+    }
+
+    /**
+     * 키셋 정렬 허용 목록 (모두 NOT NULL 컬럼)
+     */
+    public enum SortKey {
+        CREATED_AT("createdAt", Bookmark::getCreatedAt, LocalDateTime::parse),
+        UPDATED_AT("updatedAt", Bookmark::getUpdatedAt, LocalDateTime::parse),
+        TITLE("title", Bookmark::getTitle, value -> value);
+
+        private final String property;
+        private final Function<Bookmark, Object> extractor;
+        private final Function<String, Object> parser;
+
+        SortKey(String property, Function<Bookmark, Object> extractor, Function<String, Object> parser) {
+            this.property = property;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        private static SortKey of(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
 import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.dto.response.BookmarkScrollResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface BookmarkService {
 
@@ -19,9 +21,32 @@ public interface BookmarkService {
 
     Page<BookmarkResponse> getBookmarksByTag(String tagName, Pageable pageable);
 
+    Slice<BookmarkResponse> getBookmarkSlice(String q, Pageable pageable);
+
+    Slice<BookmarkResponse> getBookmarkSliceByTag(String tagName, Pageable pageable);
+
+    long getBookmarkCount();
+
+    BookmarkScrollResponse scrollBookmarks(String q, String cursor, String sort, int size);
+
+    BookmarkScrollResponse scrollBookmarksByTag(String tagName, String cursor, String sort, int size);
+
     BookmarkResponse getBookmarkById(Long id);
 
     BookmarkResponse updateBookmark(Long id, BookmarkUpdateRequest request);
 
     void deleteBookmark(Long id);
+
+    /*
+     * 지정 사용자 기준 조회 (인증 컨텍스트 불필요, 캐시 미적용)
+     * 캐시 키만으로 값을 다시 계산하는 refresh-ahead 재로드에서 사용
+     */
+
+    Page<BookmarkResponse> loadBookmarks(Long userId, String q, Pageable pageable);
+
+    Page<BookmarkResponse> loadBookmarksByTag(Long userId, String tagName, Pageable pageable);
+
+    BookmarkResponse loadBookmark(Long userId, Long id);
+
+    long loadBookmarkCount(Long userId);
 }
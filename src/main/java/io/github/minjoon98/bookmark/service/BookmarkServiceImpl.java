@@ -1,5 +1,7 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.NegativeLookupCache;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
 import io.github.minjoon98.bookmark.entity.Bookmark;
 import io.github.minjoon98.bookmark.entity.Tag;
 import io.github.minjoon98.bookmark.entity.User;
@@ -7,62 +9,81 @@ import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
 import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.dto.response.BookmarkScrollResponse;
 import io.github.minjoon98.bookmark.exception.BookmarkNotFoundException;
-import io.github.minjoon98.bookmark.exception.UserNotFoundException;
 import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.BookmarkRow;
+import io.github.minjoon98.bookmark.repository.BookmarkTagName;
 import io.github.minjoon98.bookmark.repository.TagRepository;
 import io.github.minjoon98.bookmark.repository.UserRepository;
+import io.github.minjoon98.bookmark.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookmarkServiceImpl implements BookmarkService {
 
+    /** 키셋 스크롤 1회 최대 항목 수 */
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final BookmarkRepository bookmarkRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
+    private final NegativeLookupCache negativeLookupCache;
+    private final SearchCandidateCache searchCandidateCache;
 
     /**
      * 현재 인증된 사용자 가져오기
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Long userId = Long.parseLong(authentication.getName());
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        return getUser(SecurityUtil.currentUserId());
     }
 
     /**
-     * 북마크 소유자 검증
+     * 사용자 참조 (ID만 가진 프록시, SQL 없음)
+     * 연관관계 설정과 조회 조건에는 ID만 필요하므로 엔티티를 조회하지 않음
+     * (JWT가 유효한 사용자는 존재한다고 보고, 탈퇴 등으로 없으면 조회는 빈 결과, 생성은 FK 제약으로 실패)
+     */
+    private User getUser(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * 북마크 소유자 검증 - 현재 사용자 ID(JWT subject)와 북마크의 사용자 FK 비교
      */
     private void validateBookmarkOwner(Bookmark bookmark) {
-        User currentUser = getCurrentUser();
-        if (!bookmark.getUser().getId().equals(currentUser.getId())) {
+        validateBookmarkOwner(bookmark.getUser().getId(), SecurityUtil.currentUserId());
+    }
+
+    private void validateBookmarkOwner(Long ownerId, Long userId) {
+        if (!ownerId.equals(userId)) {
             throw new AccessDeniedException("해당 북마크에 대한 접근 권한이 없습니다");
         }
     }
 
     /**
-     * 북마크 생성 - 목록 캐시 전체 무효화
-     * 새 항목이 목록에 포함되므로 모든 목록 캐시 제거
+     * 북마크 생성
+     * 목록 캐시 무효화는 엔티티 이벤트 기반으로 커밋 후 처리 (EntityCacheInvalidationListener)
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "bookmarksFirstPage", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksSearch", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksByTag", allEntries = true)
-    })
     @Override
     @Transactional
     public BookmarkResponse createBookmark(BookmarkCreateRequest request) {
@@ -81,40 +102,117 @@ public class BookmarkServiceImpl implements BookmarkService {
      * 목록 조회 - 조건부 캐싱
      * - 검색어 없고 page=0: 첫 페이지 캐싱 (홈 화면 체감 성능 개선, TTL 60초)
      * - 검색어 있고 len≥2, page≤2: 검색 결과 초기 페이지 캐싱 (TTL 30초)
+     * - sync=true: 같은 키의 동시 미스는 DB 조회 1회로 병합
      */
-    @Caching(cacheable = {
-        @Cacheable(
-            cacheNames = "bookmarksFirstPage",
-            keyGenerator = "pageableKeyGenerator",
-            condition = "#q == null && #pageable.pageNumber == 0"
-        ),
-        @Cacheable(
-            cacheNames = "bookmarksSearch",
-            keyGenerator = "searchKeyGenerator",
-            condition = "#q != null && #q.length() >= 2 && #pageable.pageNumber <= 2"
-        )
-    })
+    @Cacheable(
+        cacheResolver = "bookmarkListCacheResolver",
+        keyGenerator = "bookmarkListKeyGenerator",
+        condition = "(#q == null && #pageable.pageNumber == 0)"
+            + " || (#q != null && #q.length() >= 2 && #pageable.pageNumber <= 2)",
+        sync = true
+    )
     @Override
     public Page<BookmarkResponse> getBookmarks(String q, Pageable pageable) {
-        User currentUser = getCurrentUser();
+        return loadBookmarks(SecurityUtil.currentUserId(), q, pageable);
+    }
 
-        Page<Bookmark> page = StringUtils.hasText(q)
-            ? bookmarkRepository.findByUserAndTitleContainingIgnoreCaseOrUserAndUrlContainingIgnoreCase(
-                currentUser, q, currentUser, q, pageable)
-            : bookmarkRepository.findByUser(currentUser, pageable);
-        return page.map(BookmarkResponse::from);
+    /**
+     * 검색어는 정규화 후 검색 후보(ID, 제목, URL)를 재사용 (입력 중 검색의 짧은 검색어 결과를 메모리에서 걸러냄)
+     * 후보가 많은 검색어는 기존 부분 문자열 검색, 후보가 있으면 ID 목록으로 페이지 조회
+     * 엔티티 대신 응답 컬럼 프로젝션 + 페이지 태그 일괄 조회
+     */
+    @Override
+    public Page<BookmarkResponse> loadBookmarks(Long userId, String q, Pageable pageable) {
+        User user = getUser(userId);
+        if (!StringUtils.hasText(q)) {
+            return toResponses(bookmarkRepository.findRowsByUser(user, pageable));
+        }
+
+        String term = SearchCandidateCache.normalize(q);
+        Optional<List<Long>> ids = candidateIds(userId, user, term);
+        if (ids.isPresent() && ids.get().isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Page<BookmarkRow> rows = ids.isPresent()
+            ? bookmarkRepository.findRowsByUserAndIdIn(user, ids.get(), pageable)
+            : bookmarkRepository.findRowsByUserAndKeyword(user, term, pageable);
+        return toResponses(rows);
+    }
+
+    /**
+     * 프로젝션 페이지 → 응답 페이지 (페이지의 태그는 쿼리 1회로 채움)
+     */
+    private Page<BookmarkResponse> toResponses(Page<BookmarkRow> rows) {
+        Map<Long, List<String>> tags = tagNames(rows.getContent());
+        return rows.map(row -> BookmarkResponse.of(row, tags.getOrDefault(row.id(), List.of())));
     }
 
     /**
-     * 태그 추가 - 단건 캐시 + 목록 캐시 무효화
-     * 태그 변경으로 태그별 조회 결과 변경
+     * 북마크 ID별 태그명 (이름순)
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "bookmarkById", key = "#bookmarkId"),
-        @CacheEvict(cacheNames = "bookmarksFirstPage", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksSearch", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksByTag", allEntries = true)
-    })
+    private Map<Long, List<String>> tagNames(List<BookmarkRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> bookmarkIds = rows.stream().map(BookmarkRow::id).toList();
+        return bookmarkRepository.findTagNamesByBookmarkIdIn(bookmarkIds).stream()
+            .collect(Collectors.groupingBy(BookmarkTagName::bookmarkId,
+                Collectors.mapping(BookmarkTagName::name, Collectors.toUnmodifiableList())));
+    }
+
+    /**
+     * 목록/검색 COUNT 없는 조회 - 캐싱하지 않음 (size + 1건으로 다음 페이지 존재 여부만 확인)
+     * 검색은 목록 조회와 같은 검색 후보 재사용 경로를 사용
+     */
+    @Override
+    public Slice<BookmarkResponse> getBookmarkSlice(String q, Pageable pageable) {
+        Long userId = SecurityUtil.currentUserId();
+        User user = getUser(userId);
+        if (!StringUtils.hasText(q)) {
+            return bookmarkRepository.findSliceByUser(user, pageable).map(BookmarkResponse::from);
+        }
+
+        String term = SearchCandidateCache.normalize(q);
+        Optional<List<Long>> ids = candidateIds(userId, user, term);
+        if (ids.isPresent() && ids.get().isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Slice<Bookmark> slice = ids.isPresent()
+            ? bookmarkRepository.findSliceByUserAndIdIn(user, ids.get(), pageable)
+            : bookmarkRepository.findSliceByUserAndKeyword(user, term, pageable);
+        return slice.map(BookmarkResponse::from);
+    }
+
+    /**
+     * 정규화된 검색어의 검색 후보 ID (후보가 너무 많으면 empty)
+     */
+    private Optional<List<Long>> candidateIds(Long userId, User user, String term) {
+        return searchCandidateCache.matchingIds(userId, term, limit -> bookmarkRepository
+            .findCandidatesByUserAndKeyword(user, term, Limit.of(limit)));
+    }
+
+    /**
+     * 전체 북마크 수 - 사용자별 캐싱 (refresh-ahead)
+     * 쓰기 후에는 이전 값을 반환하면서 커밋 후 백그라운드로 재계산 (BookmarkCacheEvictor)
+     */
+    @Cacheable(cacheNames = "bookmarkCount", keyGenerator = "bookmarkCountKeyGenerator", sync = true)
+    @Override
+    public long getBookmarkCount() {
+        return loadBookmarkCount(SecurityUtil.currentUserId());
+    }
+
+    @Override
+    public long loadBookmarkCount(Long userId) {
+        return bookmarkRepository.countByUser(getUser(userId));
+    }
+
+    /**
+     * 태그 추가 - 단건 캐시 갱신(write-through)
+     * 단건 캐시는 커밋 후 새 응답으로 교체, 목록 캐시는 엔티티 이벤트 기반으로 무효화
+     */
+    @CachePut(cacheNames = "bookmarkById", keyGenerator = "bookmarkKeyGenerator")
     @Override
     @Transactional
     public BookmarkResponse addTags(Long bookmarkId, TagUpsertRequest request) {
@@ -135,15 +233,10 @@ public class BookmarkServiceImpl implements BookmarkService {
     }
 
     /**
-     * 태그 제거 - 단건 캐시 + 목록 캐시 무효화
-     * 태그 변경으로 태그별 조회 결과 변경, 고아 태그 자동 정리
+     * 태그 제거 - 단건 캐시 갱신(write-through), 고아 태그 자동 정리
+     * 단건 캐시는 커밋 후 새 응답으로 교체, 목록 캐시는 엔티티 이벤트 기반으로 무효화
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "bookmarkById", key = "#bookmarkId"),
-        @CacheEvict(cacheNames = "bookmarksFirstPage", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksSearch", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksByTag", allEntries = true)
-    })
+    @CachePut(cacheNames = "bookmarkById", keyGenerator = "bookmarkKeyGenerator")
     @Override
     @Transactional
     public BookmarkResponse removeTag(Long bookmarkId, String tagName) {
@@ -166,44 +259,142 @@ public class BookmarkServiceImpl implements BookmarkService {
 
     /**
      * 태그별 조회 - 초기 페이지만 캐싱 (page≤2, TTL 60초)
-     * 특정 인기 태그에 대한 반복 조회 최적화
+     * 특정 인기 태그에 대한 반복 조회 최적화, 동시 미스는 DB 조회 1회로 병합
      */
     @Cacheable(
         cacheNames = "bookmarksByTag",
         keyGenerator = "tagSearchKeyGenerator",
-        condition = "#pageable.pageNumber <= 2"
+        condition = "#pageable.pageNumber <= 2",
+        sync = true
     )
     @Override
     public Page<BookmarkResponse> getBookmarksByTag(String tagName, Pageable pageable) {
-        User currentUser = getCurrentUser();
-        Page<Bookmark> page = bookmarkRepository.findDistinctByUserAndTagName(
-            currentUser, Tag.normalize(tagName), pageable);
-        return page.map(BookmarkResponse::from);
+        return loadBookmarksByTag(SecurityUtil.currentUserId(), tagName, pageable);
+    }
+
+    /**
+     * 결과가 0건인 태그는 짧은 TTL로 기억하여 모든 페이지를 DB 조회 없이 빈 페이지로 응답
+     * (해당 사용자의 쓰기가 커밋되면 세대 증가로 무효화)
+     */
+    @Override
+    public Page<BookmarkResponse> loadBookmarksByTag(Long userId, String tagName, Pageable pageable) {
+        String normalized = Tag.normalize(tagName);
+        Object emptyTagKey = negativeLookupCache.tagKey(userId, normalized);
+        if (negativeLookupCache.contains(emptyTagKey)) {
+            return Page.empty(pageable);
+        }
+
+        User user = getUser(userId);
+        Page<BookmarkRow> rows = bookmarkRepository.findRowsByUserAndTagName(user, normalized, pageable);
+        if (rows.getTotalElements() == 0) {
+            negativeLookupCache.mark(emptyTagKey);
+        }
+        return toResponses(rows);
+    }
+
+    /**
+     * 태그별 COUNT 없는 조회 - 결과가 0건인 태그는 목록 조회와 같이 기억 (첫 페이지가 비어 있으면 0건)
+     */
+    @Override
+    public Slice<BookmarkResponse> getBookmarkSliceByTag(String tagName, Pageable pageable) {
+        Long userId = SecurityUtil.currentUserId();
+        String normalized = Tag.normalize(tagName);
+        Object emptyTagKey = negativeLookupCache.tagKey(userId, normalized);
+        if (negativeLookupCache.contains(emptyTagKey)) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        Slice<Bookmark> slice = bookmarkRepository.findDistinctSliceByUserAndTagName(getUser(userId), normalized, pageable);
+        if (pageable.getPageNumber() == 0 && !slice.hasContent()) {
+            negativeLookupCache.mark(emptyTagKey);
+        }
+        return slice.map(BookmarkResponse::from);
+    }
+
+    /**
+     * 목록/검색 키셋 스크롤 - 캐싱하지 않음 (깊은 위치도 정렬 인덱스 탐색으로 일정한 비용)
+     * 검색어는 목록 검색과 같은 방식으로 정규화
+     */
+    @Override
+    public BookmarkScrollResponse scrollBookmarks(String q, String cursor, String sort, int size) {
+        User user = getCurrentUser();
+        BookmarkCursor.Ordering ordering = BookmarkCursor.ordering(sort);
+        ScrollPosition position = BookmarkCursor.decode(cursor, ordering);
+        Limit limit = Limit.of(Math.clamp(size, 1, MAX_SCROLL_SIZE));
+
+        if (!StringUtils.hasText(q)) {
+            return toScrollResponse(
+                bookmarkRepository.findByUser(user, position, ordering.toSort(), limit), ordering);
+        }
+        String term = SearchCandidateCache.normalize(q);
+        return toScrollResponse(
+            bookmarkRepository.scrollByUserAndKeyword(user, term, position, ordering.toSort(), limit),
+            ordering);
+    }
+
+    /**
+     * 태그별 키셋 스크롤 - 결과가 0건으로 기억된 태그는 DB 조회 없이 빈 목록
+     */
+    @Override
+    public BookmarkScrollResponse scrollBookmarksByTag(String tagName, String cursor, String sort, int size) {
+        Long userId = SecurityUtil.currentUserId();
+        BookmarkCursor.Ordering ordering = BookmarkCursor.ordering(sort);
+        ScrollPosition position = BookmarkCursor.decode(cursor, ordering);
+        String normalized = Tag.normalize(tagName);
+        if (negativeLookupCache.contains(negativeLookupCache.tagKey(userId, normalized))) {
+            return BookmarkScrollResponse.builder().content(List.of()).hasNext(false).build();
+        }
+
+        Window<Bookmark> window = bookmarkRepository.findDistinctByUserAndBookmarkTags_Tag_Name(
+            getUser(userId), normalized, position, ordering.toSort(), Limit.of(Math.clamp(size, 1, MAX_SCROLL_SIZE)));
+        return toScrollResponse(window, ordering);
+    }
+
+    private BookmarkScrollResponse toScrollResponse(Window<Bookmark> window, BookmarkCursor.Ordering ordering) {
+        List<Bookmark> content = window.getContent();
+        String nextCursor = window.hasNext() && !content.isEmpty()
+            ? BookmarkCursor.encode(ordering, content.get(content.size() - 1))
+            : null;
+        return BookmarkScrollResponse.builder()
+            .content(content.stream().map(BookmarkResponse::from).toList())
+            .nextCursor(nextCursor)
+            .hasNext(nextCursor != null)
+            .build();
     }
 
     /**
      * 단건 조회 - 항상 캐싱 (TTL 10분)
-     * 반복 조회가 많은 상세 페이지 최적화
+     * 반복 조회가 많은 상세 페이지 최적화, 동시 미스는 DB 조회 1회로 병합
      */
-    @Cacheable(cacheNames = "bookmarkById", key = "#id")
+    @Cacheable(cacheNames = "bookmarkById", keyGenerator = "bookmarkKeyGenerator", sync = true)
     @Override
     public BookmarkResponse getBookmarkById(Long id) {
-        Bookmark bookmark = bookmarkRepository.findById(id)
-            .orElseThrow(() -> new BookmarkNotFoundException(id));
-        validateBookmarkOwner(bookmark);
-        return BookmarkResponse.from(bookmark);
+        return loadBookmark(SecurityUtil.currentUserId(), id);
+    }
+
+    /**
+     * 없는 ID는 짧은 TTL로 기억하여 반복 조회 시 DB 조회 없이 404 (해당 ID의 북마크가 생성되면 커밋 후 삭제)
+     */
+    @Override
+    public BookmarkResponse loadBookmark(Long userId, Long id) {
+        Object missingKey = negativeLookupCache.bookmarkKey(id);
+        if (negativeLookupCache.contains(missingKey)) {
+            throw new BookmarkNotFoundException(id);
+        }
+        BookmarkRow row = bookmarkRepository.findRowById(id)
+            .orElseThrow(() -> {
+                negativeLookupCache.mark(missingKey);
+                return new BookmarkNotFoundException(id);
+            });
+        validateBookmarkOwner(row.userId(), userId);
+        return BookmarkResponse.of(row, tagNames(List.of(row)).getOrDefault(id, List.of()));
     }
 
     /**
-     * 북마크 수정 - 단건 캐시 + 목록 캐시 무효화
-     * 제목/URL 변경 시 검색 결과에 영향
+     * 북마크 수정 - 단건 캐시 갱신(write-through)
+     * 단건 캐시는 커밋 후 새 응답으로 교체, 목록 캐시는 엔티티 이벤트 기반으로 무효화
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "bookmarkById", key = "#id"),
-        @CacheEvict(cacheNames = "bookmarksFirstPage", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksSearch", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksByTag", allEntries = true)
-    })
+    @CachePut(cacheNames = "bookmarkById", keyGenerator = "bookmarkKeyGenerator")
     @Override
     @Transactional
     public BookmarkResponse updateBookmark(Long id, BookmarkUpdateRequest request) {
@@ -211,19 +402,15 @@ public class BookmarkServiceImpl implements BookmarkService {
             .orElseThrow(() -> new BookmarkNotFoundException(id));
         validateBookmarkOwner(bookmark);
         bookmark.update(request.getTitle(), request.getUrl(), request.getMemo());
+        // 캐시에 넣을 응답의 updatedAt(@UpdateTimestamp)이 DB 값과 같도록 먼저 flush
+        bookmarkRepository.flush();
         return BookmarkResponse.from(bookmark);
     }
 
     /**
-     * 북마크 삭제 - 단건 캐시 + 목록 캐시 무효화
-     * 목록에서 제거되므로 모든 캐시 갱신 필요
+     * 북마크 삭제
+     * 단건 캐시 + 소유자 목록 캐시 무효화는 엔티티 이벤트 기반으로 커밋 후 처리
      */
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "bookmarkById", key = "#id"),
-        @CacheEvict(cacheNames = "bookmarksFirstPage", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksSearch", allEntries = true),
-        @CacheEvict(cacheNames = "bookmarksByTag", allEntries = true)
-    })
     @Override
     @Transactional
     public void deleteBookmark(Long id) {
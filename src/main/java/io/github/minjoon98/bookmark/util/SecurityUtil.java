@@ -0,0 +1,18 @@
+package io.github.minjoon98.bookmark.util;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public final class SecurityUtil {
+
+    private SecurityUtil() {
+    }
+
+    /**
+     * 현재 인증된 사용자 ID (JWT subject)
+     */
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return Long.parseLong(authentication.getName());
+    }
+}
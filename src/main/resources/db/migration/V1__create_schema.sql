@@ -0,0 +1,72 @@
+-- 초기 스키마 (엔티티 매핑과 일치, spring.jpa.hibernate.ddl-auto=validate로 검증)
+-- 인덱스를 먼저 만들고 FK를 나중에 추가하여 FK가 별도 인덱스를 만들지 않고 아래 복합 인덱스를 재사용하도록 함
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE bookmarks (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title      VARCHAR(200)  NOT NULL,
+    url        VARCHAR(2048) NOT NULL,
+    memo       VARCHAR(1000),
+    created_at TIMESTAMP(6)  NOT NULL,
+    updated_at TIMESTAMP(6)  NOT NULL,
+    user_id    BIGINT        NOT NULL
+);
+
+-- 태그명은 소문자로 정규화하여 저장 (Tag.normalize) - 대소문자 무시 조회는 name = LOWER(:name)으로 인덱스 사용
+CREATE TABLE tags (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(50)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT ck_tags_name_lowercase CHECK (name = LOWER(name))
+);
+
+CREATE TABLE bookmark_tags (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    bookmark_id BIGINT       NOT NULL,
+    tag_id      BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- 노드 간 캐시 무효화 메시지 (클러스터 모드 전용, ID 순 폴링 + 보관 기간 경과 삭제)
+CREATE TABLE cache_invalidations (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id        VARCHAR(64)  NOT NULL,
+    user_id        BIGINT,
+    bookmark_id    BIGINT,
+    invalidate_all BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL
+);
+
+-- 로그인 이메일 조회
+CREATE UNIQUE INDEX uk_users_email ON users (email);
+
+-- 사용자별 목록 (WHERE user_id = ? ORDER BY created_at DESC) + bookmarks.user_id FK
+CREATE INDEX idx_bookmarks_user_created_at ON bookmarks (user_id, created_at);
+
+-- 태그명 조회 (소문자 정규화 값의 유일 인덱스)
+CREATE UNIQUE INDEX uk_tags_name ON tags (name);
+
+-- 북마크의 태그 목록 + 중복 연결 방지 + bookmark_tags.bookmark_id FK
+CREATE UNIQUE INDEX uk_bookmark_tags_bookmark_tag ON bookmark_tags (bookmark_id, tag_id);
+
+-- 태그별 북마크 조회 (태그 → 북마크) + bookmark_tags.tag_id FK
+CREATE INDEX idx_bookmark_tags_tag_bookmark ON bookmark_tags (tag_id, bookmark_id);
+
+-- 보관 기간이 지난 무효화 메시지 삭제
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
+
+ALTER TABLE bookmarks
+    ADD CONSTRAINT fk_bookmarks_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+ALTER TABLE bookmark_tags
+    ADD CONSTRAINT fk_bookmark_tags_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmarks (id);
+
+ALTER TABLE bookmark_tags
+    ADD CONSTRAINT fk_bookmark_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id);
@@ -0,0 +1,185 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.config.BookmarkCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveCacheTunerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BookmarkCacheProperties properties;
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private AdaptiveCacheTuner tuner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookmarkCacheProperties();
+        properties.getAdaptive().setCaches(List.of("test"));
+        properties.getAdaptive().setMinRequests(100);
+    }
+
+    @Test
+    @DisplayName("적중률이 낮고 용량이 찼으면 최대 크기를 한 단계 늘린다")
+    void full_cache_with_low_hit_rate_grows_maximum() {
+        // given
+        build(spec(100, null));
+        fill(100);
+        miss(200);
+
+        // when
+        tuner.tune();
+
+        // then
+        assertThat(maximum()).isEqualTo(125);
+        assertThat(expiresAfter()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(adjustments("maximum", "up")).isEqualTo(1);
+        assertThat(meterRegistry.get("bookmark.cache.adaptive.maximum").tag("cache", "test").gauge().value())
+            .isEqualTo(125);
+        // 조정 카운터는 생성 시 설정/방향별로 한 번만 등록
+        assertThat(meterRegistry.find("bookmark.cache.adaptive.adjustments").tag("cache", "test").counters()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("적중률이 낮고 용량이 남으면 TTL을 늘리되 상한을 넘지 않는다")
+    void underfilled_cache_with_low_hit_rate_extends_expiry() {
+        // given
+        build(spec(100, null));
+        fill(10);
+
+        // when - 4회 연속 저조 (60s → 75s → 93.75s → 117.19s → 120s 상한)
+        for (int i = 0; i < 4; i++) {
+            miss(200);
+            tuner.tune();
+        }
+
+        // then
+        assertThat(expiresAfter()).isEqualTo(Duration.ofSeconds(120));
+        assertThat(maximum()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("적중률이 목표보다 충분히 높으면 TTL과 최대 크기를 줄이되 하한을 넘지 않는다")
+    void high_hit_rate_shrinks_within_bounds() {
+        // given
+        build(spec(100, null));
+        fill(10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            hit(200);
+            tuner.tune();
+        }
+
+        // then - 하한: 최대 크기 50, TTL 30초
+        assertThat(maximum()).isEqualTo(50);
+        assertThat(expiresAfter()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(adjustments("expiry", "down")).isPositive();
+    }
+
+    @Test
+    @DisplayName("바이트 예산 캐시의 최대 크기 합은 힙 예산을 넘지 않는다")
+    void growth_is_capped_by_heap_budget() {
+        // given
+        properties.getAdaptive().setHeapBudget(DataSize.ofBytes(1100));
+        build(spec(0, DataSize.ofBytes(1000)));
+        fill(100);
+        miss(200);
+
+        // when
+        tuner.tune();
+        miss(200);
+        tuner.tune();
+
+        // then
+        assertThat(maximum()).isEqualTo(1100);
+        assertThat(adjustments("maximum", "up")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 수가 적은 구간은 조정하지 않는다")
+    void quiet_window_is_ignored() {
+        // given
+        build(spec(100, null));
+        fill(100);
+        miss(50);
+
+        // when
+        tuner.tune();
+
+        // then
+        assertThat(maximum()).isEqualTo(100);
+        assertThat(expiresAfter()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    private BookmarkCacheProperties.Spec spec(long maximumSize, DataSize maximumWeight) {
+        BookmarkCacheProperties.Spec spec = new BookmarkCacheProperties.Spec();
+        spec.setExpireAfterWrite(Duration.ofSeconds(60));
+        spec.setMaximumSize(maximumSize);
+        spec.setMaximumWeight(maximumWeight);
+        return spec;
+    }
+
+    private void build(BookmarkCacheProperties.Spec spec) {
+        properties.getSpecs().put("test", spec);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .expireAfterWrite(spec.getExpireAfterWrite())
+            .executor(Runnable::run)
+            .recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher((key, value) -> 10);
+        } else {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        nativeCache = builder.build();
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache("test", nativeCache)));
+        cacheManager.initializeCaches();
+        tuner = new AdaptiveCacheTuner(cacheManager, properties, meterRegistry);
+    }
+
+    private void fill(int entries) {
+        for (int i = 0; i < entries; i++) {
+            nativeCache.put(i, "value");
+        }
+    }
+
+    private void hit(int requests) {
+        for (int i = 0; i < requests; i++) {
+            nativeCache.getIfPresent(0);
+        }
+    }
+
+    private void miss(int requests) {
+        for (int i = 0; i < requests; i++) {
+            nativeCache.getIfPresent("absent-" + i);
+        }
+    }
+
+    private long maximum() {
+        return nativeCache.policy().eviction().orElseThrow().getMaximum();
+    }
+
+    private Duration expiresAfter() {
+        return Duration.ofMillis(nativeCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.MILLISECONDS));
+    }
+
+    private double adjustments(String setting, String direction) {
+        var counter = meterRegistry.find("bookmark.cache.adaptive.adjustments")
+            .tags("cache", "test", "setting", setting, "direction", direction)
+            .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
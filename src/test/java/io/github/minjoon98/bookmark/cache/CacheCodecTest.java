@@ -0,0 +1,77 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheCodecTest {
+
+    @Test
+    @DisplayName("북마크 응답은 모든 필드가 그대로 복원된다")
+    void bookmark_round_trip() {
+        BookmarkResponse bookmark = bookmark(1L, List.of("java", "spring"));
+
+        BookmarkResponse decoded = (BookmarkResponse) CacheCodec.decodeValue(CacheCodec.encodeValue(bookmark));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(bookmark);
+    }
+
+    @Test
+    @DisplayName("페이지는 내용, 페이지 정보, 정렬, 전체 건수가 복원된다")
+    void page_round_trip() {
+        PageRequest pageable = PageRequest.of(1, 2, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.asc("title")));
+        Page<BookmarkResponse> page = new PageImpl<>(
+            List.of(bookmark(3L, List.of()), bookmark(4L, List.of("tag"))), pageable, 7);
+
+        @SuppressWarnings("unchecked")
+        Page<BookmarkResponse> decoded = (Page<BookmarkResponse>) CacheCodec.decodeValue(CacheCodec.encodeValue(page));
+
+        assertThat(decoded.getPageable()).isEqualTo(pageable);
+        assertThat(decoded.getTotalElements()).isEqualTo(7);
+        assertThat(decoded.getContent()).usingRecursiveFieldByFieldElementComparator().isEqualTo(page.getContent());
+    }
+
+    @Test
+    @DisplayName("캐시 키는 같은 값으로 복원된다")
+    void key_round_trip() {
+        BookmarkKey bookmarkKey = new BookmarkKey(1L, 2L);
+        BookmarkPageKey pageKey = BookmarkPageKey.of(1L, 3L, "git", PageRequest.of(0, 20, Sort.by("createdAt")));
+        BookmarkPageKey firstPageKey = BookmarkPageKey.of(1L, 0L, null, PageRequest.of(0, 20));
+
+        assertThat(CacheCodec.decodeKey(CacheCodec.encodeKey(bookmarkKey))).isEqualTo(bookmarkKey);
+        assertThat(CacheCodec.decodeKey(CacheCodec.encodeKey(pageKey))).isEqualTo(pageKey);
+        assertThat(CacheCodec.decodeKey(CacheCodec.encodeKey(firstPageKey))).isEqualTo(firstPageKey);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 포맷 버전은 거부한다")
+    void unknown_version_is_rejected() {
+        byte[] encoded = CacheCodec.encodeValue(bookmark(1L, List.of()));
+        encoded[0] = 99;
+
+        assertThatThrownBy(() -> CacheCodec.decodeValue(encoded))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BookmarkResponse bookmark(Long id, List<String> tags) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Title " + id)
+            .url("https://example.com/" + id)
+            .memo(null)
+            .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000))
+            .updatedAt(LocalDateTime.of(2025, 1, 16, 8, 0))
+            .tags(tags)
+            .build();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheEntryWeigherTest {
+
+    private final CacheEntryWeigher weigher = new CacheEntryWeigher();
+
+    @Test
+    @DisplayName("URL, 메모, 태그가 길수록 가중치가 커진다")
+    void weight_grows_with_content() {
+        BookmarkKey key = new BookmarkKey(1L, 1L);
+        int small = weigher.weigh(key, bookmark(1L, 10, 0, List.of()));
+        int large = weigher.weigh(key, bookmark(1L, 2000, 1000, List.of("spring", "java")));
+
+        assertThat(large - small).isGreaterThan(3000);
+    }
+
+    @Test
+    @DisplayName("한글 문자열은 문자당 2바이트로 계산한다")
+    void non_latin_strings_use_two_bytes_per_char() {
+        assertThat(CacheEntryWeigher.weighString("가".repeat(100)))
+            .isGreaterThan(CacheEntryWeigher.weighString("a".repeat(100)) + 90);
+    }
+
+    @Test
+    @DisplayName("100건 페이지는 1건 페이지보다 약 100배 무겁다")
+    void page_weight_scales_with_content() {
+        BookmarkPageKey key = BookmarkPageKey.of(1L, 0L, null, PageRequest.of(0, 100));
+        int one = weigher.weigh(key, page(1));
+        int hundred = weigher.weigh(key, page(100));
+
+        assertThat(hundred).isGreaterThan(one * 50);
+    }
+
+    @Test
+    @DisplayName("바이트 예산을 넘으면 항목 수와 무관하게 제거된다")
+    void maximum_weight_bounds_cache_by_bytes() {
+        // given - 1건 페이지 약 30개 분량 예산
+        BookmarkPageKey smallKey = BookmarkPageKey.of(1L, 0L, null, PageRequest.of(0, 1));
+        long budget = weigher.weigh(smallKey, page(1)) * 30L;
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+            .executor(Runnable::run)
+            .maximumWeight(budget)
+            .weigher(weigher)
+            .build();
+
+        // when - 100건 페이지 3개 적재
+        for (int i = 0; i < 3; i++) {
+            cache.put(BookmarkPageKey.of(1L, 0L, "q" + i, PageRequest.of(0, 100)), page(100));
+        }
+        cache.cleanUp();
+
+        // then
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(budget);
+        assertThat(cache.estimatedSize()).isLessThan(3);
+    }
+
+    private Page<BookmarkResponse> page(int size) {
+        List<BookmarkResponse> content = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> bookmark(id, 2000, 1000, List.of("tag")))
+            .toList();
+        return new PageImpl<>(content, PageRequest.of(0, Math.max(size, 1)), size);
+    }
+
+    private BookmarkResponse bookmark(Long id, int urlLength, int memoLength, List<String> tags) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Title " + id)
+            .url("https://example.com/" + "a".repeat(urlLength))
+            .memo("m".repeat(memoLength))
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .tags(tags)
+            .build();
+    }
+}
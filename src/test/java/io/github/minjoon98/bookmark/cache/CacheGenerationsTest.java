@@ -0,0 +1,39 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheGenerationsTest {
+
+    @Test
+    @DisplayName("만료된 카운터가 다시 만들어져도 이전에 발급한 세대 값을 재사용하지 않는다")
+    void expired_counter_never_reuses_generation() throws InterruptedException {
+        // given
+        CacheGenerations generations = new CacheGenerations(Duration.ofMillis(1), 10);
+        long first = generations.current(1L);
+        long bumped = generations.bump(1L);
+
+        // when
+        Thread.sleep(20);
+        long recreated = generations.current(1L);
+
+        // then
+        assertThat(recreated).isNotIn(first, bumped).isGreaterThan(bumped);
+    }
+
+    @Test
+    @DisplayName("새 인스턴스의 세대는 0에서 시작하고 증가 시 1씩 올라간다")
+    void starts_at_zero_and_bumps_by_one() {
+        // given
+        CacheGenerations generations = new CacheGenerations();
+
+        // when & then
+        assertThat(generations.current(1L)).isZero();
+        assertThat(generations.bump(1L)).isEqualTo(1L);
+        assertThat(generations.bump(2L)).isNotIn(0L, 1L);
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheSnapshotterTest {
+
+    private static final Duration BY_ID_TTL = Duration.ofMinutes(10);
+    private static final Duration LIST_TTL = Duration.ofSeconds(60);
+
+    @TempDir
+    Path dir;
+
+    private static final String DATABASE = "flyway:1@1700000000000";
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("cache-snapshot.bin");
+    }
+
+    @Test
+    @DisplayName("저장한 단건/목록 항목이 재기동 후 L1에 복원되고 스냅샷 파일은 삭제된다")
+    void round_trip_restores_entries() {
+        // given
+        CacheGenerations generations = new CacheGenerations();
+        SimpleCacheManager before = cacheManager();
+        BookmarkKey bookmarkKey = new BookmarkKey(1L, 10L);
+        BookmarkPageKey pageKey = BookmarkPageKey.of(1L, 0L, null, PageRequest.of(0, 20));
+        before.getCache("bookmarkById").put(bookmarkKey, bookmark(10L));
+        before.getCache("bookmarksFirstPage").put(pageKey, new PageImpl<>(List.of(bookmark(10L)), PageRequest.of(0, 20), 1));
+
+        // when
+        int saved = snapshotter(before, generations).save();
+        SimpleCacheManager after = cacheManager();
+        int loaded = snapshotter(after, new CacheGenerations()).load();
+
+        // then
+        assertThat(saved).isEqualTo(2);
+        assertThat(loaded).isEqualTo(2);
+        assertThat(((BookmarkResponse) after.getCache("bookmarkById").get(bookmarkKey).get()).getTitle())
+            .isEqualTo("Title 10");
+        assertThat(after.getCache("bookmarksFirstPage").get(pageKey)).isNotNull();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이전 세대 목록 키는 저장하지 않고, 복원 시 목록 키는 현재 세대로 매핑된다")
+    void page_keys_follow_current_generation() {
+        // given - 세대 1에서 저장, 세대 0 키는 이미 무효화된 상태
+        CacheGenerations generations = new CacheGenerations();
+        SimpleCacheManager before = cacheManager();
+        PageRequest pageable = PageRequest.of(0, 20);
+        before.getCache("bookmarksFirstPage").put(BookmarkPageKey.of(1L, 0L, null, pageable), new PageImpl<>(List.of()));
+        generations.bump(1L);
+        BookmarkPageKey current = BookmarkPageKey.of(1L, 1L, null, pageable);
+        before.getCache("bookmarksFirstPage").put(current, new PageImpl<>(List.of(bookmark(1L))));
+
+        // when - 재기동 후 세대 카운터는 0부터 시작
+        int saved = snapshotter(before, generations).save();
+        SimpleCacheManager after = cacheManager();
+        snapshotter(after, new CacheGenerations()).load();
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        assertThat(after.getCache("bookmarksFirstPage").get(BookmarkPageKey.of(1L, 0L, null, pageable))).isNotNull();
+        assertThat(after.getCache("bookmarksFirstPage").get(current)).isNull();
+    }
+
+    @Test
+    @DisplayName("복원 시점에 TTL이 지난 항목은 적재하지 않는다")
+    void expired_entries_are_skipped() {
+        // given
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(new BookmarkKey(1L, 10L), bookmark(10L));
+        before.getCache("bookmarksFirstPage")
+            .put(BookmarkPageKey.of(1L, 0L, null, PageRequest.of(0, 20)), new PageImpl<>(List.of()));
+        snapshotter(before, new CacheGenerations()).save();
+
+        // when - 목록 TTL(60초)은 지났고 단건 TTL(10분)은 남음
+        millis.addAndGet(Duration.ofSeconds(90).toMillis());
+        SimpleCacheManager after = cacheManager();
+        int loaded = snapshotter(after, new CacheGenerations()).load();
+
+        // then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(after.getCache("bookmarkById").get(new BookmarkKey(1L, 10L))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("복원한 항목은 남은 수명만큼만 보관되어 재기동으로 수명이 늘어나지 않는다")
+    void restored_entries_keep_remaining_lifetime() {
+        // given - 단건 TTL(10분) 중 8분이 지난 항목을 저장
+        BookmarkKey key = new BookmarkKey(1L, 10L);
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(key, bookmark(10L));
+        millis.addAndGet(Duration.ofMinutes(8).toMillis());
+        snapshotter(before, new CacheGenerations()).save();
+
+        // when
+        SimpleCacheManager after = cacheManager();
+        snapshotter(after, new CacheGenerations()).load();
+
+        // then - 남은 2분만 보관되고, 최초 적재 후 TTL이 지나면 만료
+        ExpiringCache restored = (ExpiringCache) CacheLayers.local(after.getCache("bookmarkById"));
+        assertThat(restored.remainingTtl(key)).hasValue(Duration.ofMinutes(2));
+        millis.addAndGet(Duration.ofMinutes(2).toMillis());
+        assertThat(after.getCache("bookmarkById").get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("포맷 버전이 다른 스냅샷은 적재하지 않고 삭제한다")
+    void version_mismatch_is_discarded() throws IOException {
+        // given
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(new BookmarkKey(1L, 10L), bookmark(10L));
+        snapshotter(before, new CacheGenerations()).save();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[5] = 99; // 스냅샷 포맷 버전 (매직 넘버 4바이트 다음 short)
+        Files.write(path, bytes);
+
+        // when
+        SimpleCacheManager after = cacheManager();
+        int loaded = snapshotter(after, new CacheGenerations()).load();
+
+        // then
+        assertThat(loaded).isZero();
+        assertThat(after.getCache("bookmarkById").get(new BookmarkKey(1L, 10L))).isNull();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 예외 없이 무시하고 삭제한다")
+    void truncated_snapshot_is_discarded() throws IOException {
+        // given
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(new BookmarkKey(1L, 10L), bookmark(10L));
+        snapshotter(before, new CacheGenerations()).save();
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 10));
+
+        // when & then
+        assertThat(snapshotter(cacheManager(), new CacheGenerations()).load()).isZero();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("길이 필드가 손상된 스냅샷도 기동을 막지 않고 무시한 뒤 삭제한다")
+    void corrupt_length_prefix_is_discarded() throws IOException {
+        // given - 첫 항목의 키 길이를 음수로 변조
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(new BookmarkKey(1L, 10L), bookmark(10L));
+        snapshotter(before, new CacheGenerations()).save();
+        int keyLengthOffset = 4 + 2 + 1 + 8 + 2 + DATABASE.length() + 2 + "bookmarkById".length() + 8;
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(keyLengthOffset, -1);
+        Files.write(path, bytes);
+
+        // when & then
+        assertThat(snapshotter(cacheManager(), new CacheGenerations()).load()).isZero();
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("다른 DB(재기동으로 새로 만들어진 인메모리 DB 등)에서 만든 스냅샷은 적재하지 않는다")
+    void snapshot_from_other_database_is_discarded() {
+        // given
+        SimpleCacheManager before = cacheManager();
+        before.getCache("bookmarkById").put(new BookmarkKey(1L, 10L), bookmark(10L));
+        snapshotter(before, new CacheGenerations()).save();
+
+        // when - 같은 사용자 ID가 다른 사용자를 가리킬 수 있는 새 DB
+        SimpleCacheManager after = cacheManager();
+        int loaded = snapshotter(after, new CacheGenerations(), "flyway:1@1800000000000").load();
+
+        // then
+        assertThat(loaded).isZero();
+        assertThat(after.getCache("bookmarkById").get(new BookmarkKey(1L, 10L))).isNull();
+        assertThat(path).doesNotExist();
+        // DB를 식별할 수 없어도 적재하지 않음
+        snapshotter(before, new CacheGenerations()).save();
+        assertThat(snapshotter(cacheManager(), new CacheGenerations(), null).load()).isZero();
+    }
+
+    private CacheSnapshotter snapshotter(SimpleCacheManager cacheManager, CacheGenerations generations) {
+        return snapshotter(cacheManager, generations, DATABASE);
+    }
+
+    private CacheSnapshotter snapshotter(SimpleCacheManager cacheManager, CacheGenerations generations, String database) {
+        return new CacheSnapshotter(
+            cacheManager,
+            generations,
+            name -> name.equals("bookmarkById") ? BY_ID_TTL : LIST_TTL,
+            path,
+            100,
+            Duration.ofHours(1),
+            millis::get,
+            () -> database
+        );
+    }
+
+    private SimpleCacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.<Cache>of(
+            new CoalescingCache(caffeine("bookmarkById", BY_ID_TTL), new SimpleMeterRegistry()),
+            caffeine("bookmarksFirstPage", LIST_TTL)
+        ));
+        cacheManager.initializeCaches();
+        return cacheManager;
+    }
+
+    private CaffeineCache caffeine(String name, Duration ttl) {
+        EntryExpiry expiry = new EntryExpiry(ttl);
+        return new ExpiringCaffeineCache(name, Caffeine.newBuilder()
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(millis.get()))
+            .expireAfter(expiry)
+            .maximumSize(100)
+            .build(), expiry);
+    }
+
+    private BookmarkResponse bookmark(Long id) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Title " + id)
+            .url("https://example.com/" + id)
+            .tags(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데코레이터로 감싼 캐시의 통계가 Micrometer와 cachestats 엔드포인트에 노출되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheStatsEndpointTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheStatsEndpoint cacheStatsEndpoint;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCache("bookmarkById").invalidate();
+    }
+
+    @Test
+    @DisplayName("감싼 캐시도 Caffeine 통계가 캐시 이름별 메트릭으로 등록된다")
+    void decorated_caches_are_bound_to_registry() {
+        // given
+        Cache cache = cacheManager.getCache("bookmarkById");
+        double hitsBefore = gets("bookmarkById", "hit");
+        double missesBefore = gets("bookmarkById", "miss");
+
+        // when
+        cache.put(new BookmarkKey(1L, 1L), "value");
+        cache.get(new BookmarkKey(1L, 1L));
+        cache.get(new BookmarkKey(1L, 2L));
+
+        // then
+        assertThat(gets("bookmarkById", "hit") - hitsBefore).isEqualTo(1);
+        assertThat(gets("bookmarkById", "miss") - missesBefore).isEqualTo(1);
+        for (String name : cacheManager.getCacheNames()) {
+            assertThat(meterRegistry.find("cache.size").tag("cache", name).gauge()).isNotNull();
+            assertThat(meterRegistry.find("cache.evictions").tag("cache", name).functionCounter()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("cachestats 엔드포인트는 캐시 이름별 통계와 설정값을 제공한다")
+    void endpoint_reports_per_cache_stats() {
+        // given
+        Cache cache = cacheManager.getCache("bookmarkById");
+        CacheStatsEndpoint.CacheStatsDescriptor before = cacheStatsEndpoint.cache("bookmarkById");
+        cache.get(new BookmarkKey(2L, 1L), () -> "loaded");
+        cache.get(new BookmarkKey(2L, 1L));
+
+        // when
+        CacheStatsEndpoint.CacheStatsDescriptor after = cacheStatsEndpoint.cache("bookmarkById");
+
+        // then
+        assertThat(cacheStatsEndpoint.caches())
+            .containsOnlyKeys("bookmarkById", "bookmarksFirstPage", "bookmarksSearch", "bookmarksByTag", "notFound",
+                "searchCandidates", "bookmarkCount");
+        assertThat(after.hitCount() - before.hitCount()).isEqualTo(1);
+        assertThat(after.loadCount() - before.loadCount()).isEqualTo(1);
+        assertThat(after.size()).isPositive();
+        assertThat(after.weightedSize()).isPositive();
+        assertThat(after.maximumWeightBytes()).isEqualTo(DataSize.ofMegabytes(8).toBytes());
+        assertThat(after.expireAfterWrite()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(cacheStatsEndpoint.cache("unknown")).isNull();
+    }
+
+    private double gets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.repository.TagRepository;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CacheWarmerTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final BookmarkService bookmarkService = mock(BookmarkService.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final CacheGenerations generations = new CacheGenerations();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SimpleCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.<Cache>of(
+            new CaffeineCache("bookmarksFirstPage", Caffeine.newBuilder().build()),
+            new CaffeineCache("bookmarksByTag", Caffeine.newBuilder().build())
+        ));
+        cacheManager.initializeCaches();
+    }
+
+    @Test
+    @DisplayName("첫 페이지와 상위 태그 페이지를 컨트롤러 기본 페이지 키로 적재한다")
+    void warms_first_page_and_top_tags() {
+        // given
+        generations.bump(7L);
+        Page<BookmarkResponse> firstPage = new PageImpl<>(List.of(), FIRST_PAGE, 0);
+        Page<BookmarkResponse> javaPage = new PageImpl<>(List.of(), FIRST_PAGE, 0);
+        given(bookmarkService.loadBookmarks(7L, null, FIRST_PAGE)).willReturn(firstPage);
+        given(bookmarkService.loadBookmarksByTag(7L, "java", FIRST_PAGE)).willReturn(javaPage);
+        given(tagRepository.findTopNamesByUserId(7L, PageRequest.of(0, 3))).willReturn(List.of("java"));
+
+        // when
+        boolean started = warmer(Runnable::run, 2).warmUp(7L);
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(cacheManager.getCache("bookmarksFirstPage").get(BookmarkPageKey.of(7L, 1L, null, FIRST_PAGE)).get())
+            .isSameAs(firstPage);
+        assertThat(cacheManager.getCache("bookmarksByTag").get(BookmarkPageKey.of(7L, 1L, "java", FIRST_PAGE)).get())
+            .isSameAs(javaPage);
+        assertThat(counter("completed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 캐시된 페이지는 다시 조회하지 않는다")
+    void cached_pages_are_not_reloaded() {
+        // given
+        cacheManager.getCache("bookmarksFirstPage")
+            .put(BookmarkPageKey.of(7L, 0L, null, FIRST_PAGE), new PageImpl<>(List.of(), FIRST_PAGE, 0));
+        given(tagRepository.findTopNamesByUserId(anyLong(), any())).willReturn(List.of());
+
+        // when
+        warmer(Runnable::run, 2).warmUp(7L);
+
+        // then
+        verify(bookmarkService, never()).loadBookmarks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 예열 수를 넘는 요청은 대기하지 않고 건너뛴다")
+    void excess_warm_ups_are_skipped() {
+        // given - 실행되지 않고 쌓이는 실행기 (예열이 끝나지 않은 상태)
+        List<Runnable> pending = new ArrayList<>();
+        CacheWarmer warmer = warmer(pending::add, 2);
+        given(tagRepository.findTopNamesByUserId(anyLong(), any())).willReturn(List.of());
+
+        // when
+        boolean first = warmer.warmUp(1L);
+        boolean second = warmer.warmUp(2L);
+        boolean third = warmer.warmUp(3L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(counter("skipped")).isEqualTo(1);
+
+        // when - 하나가 끝나면 자리가 생김
+        pending.get(0).run();
+
+        // then
+        assertThat(warmer.warmUp(3L)).isTrue();
+        verify(bookmarkService, times(1)).loadBookmarks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예열 실패는 로그인에 영향을 주지 않고 실패 메트릭만 남긴다")
+    void failure_is_recorded() {
+        // given
+        given(bookmarkService.loadBookmarks(7L, null, FIRST_PAGE)).willThrow(new IllegalStateException("db down"));
+        CacheWarmer warmer = warmer(Runnable::run, 1);
+
+        // when
+        boolean started = warmer.warmUp(7L);
+
+        // then - 실패 후 자리가 반환되어 다음 예열 가능
+        assertThat(started).isTrue();
+        assertThat(counter("failed")).isEqualTo(1);
+        assertThat(warmer.warmUp(8L)).isTrue();
+    }
+
+    private CacheWarmer warmer(Executor executor, int maxConcurrent) {
+        return new CacheWarmer(
+            cacheManager, generations, bookmarkService, tagRepository, executor, maxConcurrent, 3, meterRegistry);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("bookmark.cache.warmup").tag("result", result).counter().count();
+    }
+}
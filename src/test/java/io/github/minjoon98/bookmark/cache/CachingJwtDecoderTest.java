@@ -0,0 +1,106 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingJwtDecoderTest {
+
+    private static final SecretKey KEY =
+        new SecretKeySpec("test-jwt-secret-key-for-caching-decoder-test".getBytes(), "HmacSHA256");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong(System.currentTimeMillis());
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final JwtDecoder nimbus = NimbusJwtDecoder.withSecretKey(KEY).build();
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(token -> {
+        decodes.incrementAndGet();
+        return nimbus.decode(token);
+    }, 100, Duration.ofMinutes(10), meterRegistry, nanos::get, millis::get);
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 같은 Jwt를 반환한다")
+    void same_token_is_verified_once() {
+        String token = token(null);
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(decodes).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 exp가 max-ttl보다 이르면 exp 이후에는 캐시에서 꺼내지 않는다")
+    void entry_expires_with_token() {
+        String token = token(Duration.ofSeconds(30));
+        decoder.decode(token);
+
+        elapse(Duration.ofSeconds(29));
+        decoder.decode(token);
+        assertThat(decodes).hasValue(1);
+
+        elapse(Duration.ofSeconds(2));
+        decoder.decode(token);
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("exp가 없는 토큰은 max-ttl까지만 보관한다")
+    void entry_without_exp_expires_after_max_ttl() {
+        String token = token(null);
+        decoder.decode(token);
+
+        elapse(Duration.ofMinutes(10));
+        decoder.decode(token);
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 저장하지 않는다")
+    void invalid_token_is_not_cached() {
+        String tampered = token(null) + "x";
+
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(JwtException.class);
+
+        assertThat(decodes).hasValue(2);
+    }
+
+    private String token(Duration expiresIn) {
+        var builder = Jwts.builder().subject("1").claim("email", "test@example.com");
+        if (expiresIn != null) {
+            builder.expiration(new Date(millis.get() + expiresIn.toMillis()));
+        }
+        return builder.signWith(KEY).compact();
+    }
+
+    private void elapse(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+        millis.addAndGet(duration.toMillis());
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("bookmark.cache.jwt.decode").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ClusterCacheInvalidationBusTest {
+
+    private final List<CacheInvalidationBatch> published = new ArrayList<>();
+    private final BookmarkCacheEvictor evictor = mock(BookmarkCacheEvictor.class);
+    private CacheInvalidationBatch incoming;
+    private boolean failPublish;
+    private ClusterCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationTransport transport = new CacheInvalidationTransport() {
+            @Override
+            public void publish(String nodeId, CacheInvalidationBatch batch) {
+                if (failPublish) {
+                    throw new IllegalStateException("transport down");
+                }
+                published.add(batch);
+            }
+
+            @Override
+            public CacheInvalidationBatch poll(String nodeId) {
+                CacheInvalidationBatch batch = incoming;
+                incoming = new CacheInvalidationBatch();
+                return batch;
+            }
+        };
+        incoming = new CacheInvalidationBatch();
+        bus = new ClusterCacheInvalidationBus("node-a", transport, evictor, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("발행 주기 동안 쌓인 무효화는 중복 제거되어 한 번에 발행된다")
+    void pending_batches_are_deduplicated_and_published_once() {
+        // given - 같은 북마크에 대한 연속 쓰기 + 다른 사용자 쓰기
+        bus.enqueue(changed(1L, 10L));
+        bus.enqueue(changed(1L, 10L));
+        bus.enqueue(changed(2L, 20L));
+
+        // when
+        bus.publishPending();
+        bus.publishPending(); // 대기열이 비어 있으면 발행하지 않음
+
+        // then
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getUserIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(published.get(0).getBookmarkKeys())
+            .containsExactlyInAnyOrder(new BookmarkKey(1L, 10L), new BookmarkKey(2L, 20L));
+    }
+
+    @Test
+    @DisplayName("발행에 실패한 무효화는 다음 주기에 다시 발행된다")
+    void failed_publish_is_retried() {
+        // given
+        bus.enqueue(changed(1L, 10L));
+        failPublish = true;
+        bus.publishPending();
+
+        // when
+        failPublish = false;
+        bus.publishPending();
+
+        // then
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).getBookmarkKeys()).containsExactly(new BookmarkKey(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화는 다시 발행하지 않고 로컬 캐시에만 반영된다")
+    void received_batch_is_applied_locally_only() {
+        // given
+        incoming = changed(3L, 30L);
+
+        // when
+        bus.pollPeers();
+        bus.pollPeers(); // 새 메시지가 없으면 적용하지 않음
+
+        // then
+        verify(evictor).applyLocally(any(CacheInvalidationBatch.class));
+        verify(evictor, never()).apply(any(CacheInvalidationBatch.class));
+    }
+
+    private CacheInvalidationBatch changed(Long userId, Long bookmarkId) {
+        CacheInvalidationBatch batch = new CacheInvalidationBatch();
+        batch.bookmarkChanged(userId, bookmarkId);
+        return batch;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.BookmarkApplication;
+import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
+import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
+import io.github.minjoon98.bookmark.entity.User;
+import io.github.minjoon98.bookmark.repository.UserRepository;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 간 캐시 무효화 전파 통합 테스트
+ *
+ * <p>같은 JVM에서 DB를 공유하는 애플리케이션 컨텍스트 2개를 띄워 다중 인스턴스 배포를 재현합니다.
+ */
+class ClusterCacheInvalidationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("한 노드의 수정은 다른 노드의 단건 캐시를 무효화한다")
+    void update_on_one_node_evicts_peer_bookmark_cache() {
+        // given - 노드 B에 단건 캐시 적재
+        authenticateAs(createUser("cluster-update@example.com"));
+        BookmarkService serviceA = nodeA.getBean(BookmarkService.class);
+        BookmarkService serviceB = nodeB.getBean(BookmarkService.class);
+        Long id = serviceA.createBookmark(
+            new BookmarkCreateRequest("Original", "https://original.com", "")).getId();
+        assertThat(serviceB.getBookmarkById(id).getTitle()).isEqualTo("Original");
+
+        // when - 노드 A에서 수정
+        serviceA.updateBookmark(id, new BookmarkUpdateRequest("Updated", null, null));
+
+        // then - 노드 B가 무효화를 수신한 뒤 새 값을 조회
+        awaitUntil(() -> "Updated".equals(serviceB.getBookmarkById(id).getTitle()));
+    }
+
+    @Test
+    @DisplayName("한 노드의 생성은 다른 노드의 목록 캐시 세대를 증가시킨다")
+    void create_on_one_node_bumps_peer_generation() {
+        // given - 노드 B에 목록 캐시 적재
+        User user = createUser("cluster-create@example.com");
+        authenticateAs(user);
+        nodeB.getBean(BookmarkService.class).getBookmarks(null, PageRequest.of(0, 20));
+        CacheGenerations generationsB = nodeB.getBean(CacheGenerations.class);
+        long before = generationsB.current(user.getId());
+
+        // when - 노드 A에서 생성
+        nodeA.getBean(BookmarkService.class).createBookmark(
+            new BookmarkCreateRequest("New", "https://new.com", ""));
+
+        // then
+        awaitUntil(() -> generationsB.current(user.getId()) > before);
+        assertThat(nodeB.getBean(BookmarkService.class)
+            .getBookmarks(null, PageRequest.of(0, 20)).getTotalElements()).isEqualTo(1);
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(BookmarkApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:cluster-test;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.org.hibernate.SQL=info",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info",
+                "bookmark.cache.cluster.enabled=true",
+                "bookmark.cache.cluster.node-id=" + nodeId,
+                "bookmark.cache.cluster.publish-interval=50ms",
+                "bookmark.cache.cluster.poll-interval=50ms"
+            )
+            .run();
+    }
+
+    private User createUser(String email) {
+        return nodeA.getBean(UserRepository.class).save(User.builder()
+                .email(email)
+                .password("password")
+                .build());
+    }
+
+    private void authenticateAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user.getId().toString(), null, List.of()));
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("전파 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
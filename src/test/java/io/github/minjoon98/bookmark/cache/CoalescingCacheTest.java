@@ -0,0 +1,158 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CoalescingCache(new ConcurrentMapCache("test"), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로드 1회로 병합되고 병합 수가 메트릭에 기록된다")
+    void concurrent_misses_share_one_load() throws Exception {
+        // given - 로드가 진행 중인 동안 나머지 요청이 모두 도착하도록 대기
+        int requests = 8;
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("key", () -> {
+                loaderCalls.incrementAndGet();
+                loadStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "value";
+            })));
+            loadStarted.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < requests; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    loaderCalls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            awaitCoalesced(requests - 1);
+
+            // when
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            assertThat(counter("bookmark.cache.loads")).isEqualTo(1);
+            assertThat(counter("bookmark.cache.loads.coalesced")).isEqualTo(requests - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 조회 직후 다른 로드가 끝나 저장했다면 로드 권한을 얻어도 로더를 호출하지 않는다")
+    void load_finished_between_lookup_and_claim_is_reused() {
+        // given - 첫 조회는 미스, 그 직후 선행 로드가 완료되어 값을 저장하고 in-flight 항목을 제거한 상황
+        AtomicInteger lookups = new AtomicInteger();
+        ConcurrentMapCache delegate = new ConcurrentMapCache("test") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper value = super.get(key);
+                if (lookups.getAndIncrement() == 0) {
+                    put(key, "loaded-by-other");
+                }
+                return value;
+            }
+        };
+        CoalescingCache racing = new CoalescingCache(delegate, new SimpleMeterRegistry());
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        // when
+        String value = racing.get("key", () -> {
+            loaderCalls.incrementAndGet();
+            return "reloaded";
+        });
+
+        // then
+        assertThat(value).isEqualTo("loaded-by-other");
+        assertThat(loaderCalls.get()).isZero();
+        assertThat(racing.get("key", () -> "again")).isEqualTo("loaded-by-other");
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시에는 로더를 호출하지 않는다")
+    void hit_skips_loader() {
+        cache.put("key", "cached");
+
+        String value = cache.get("key", () -> "loaded");
+
+        assertThat(value).isEqualTo("cached");
+        assertThat(counter("bookmark.cache.loads")).isZero();
+    }
+
+    @Test
+    @DisplayName("로드 실패 시 예외가 전달되고 결과는 캐싱되지 않는다")
+    void failed_load_is_not_cached() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("boom");
+        }))
+            .isInstanceOf(Cache.ValueRetrievalException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+        assertThat(loadTimer("failure")).isEqualTo(1);
+        assertThat(loadTimer("success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 관찰자는 적중/미스와 무관하게 조회마다 호출된다")
+    void access_listener_sees_every_lookup() {
+        List<Object> accessed = new ArrayList<>();
+        CoalescingCache observed = new CoalescingCache(
+            new ConcurrentMapCache("test"), meterRegistry, (name, key) -> accessed.add(name + ":" + key));
+
+        observed.get("key", () -> "loaded");
+        observed.get("key", () -> "other");
+
+        assertThat(accessed).containsExactly("test:key", "test:key");
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter("bookmark.cache.loads.coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private long loadTimer(String result) {
+        return meterRegistry.get("bookmark.cache.load.duration").tag("cache", "test").tag("result", result).timer().count();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("cache", "test").counter().count();
+    }
+}
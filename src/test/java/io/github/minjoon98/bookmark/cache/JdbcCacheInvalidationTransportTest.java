@@ -0,0 +1,87 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 폴링 전달의 커밋 순서 역전 처리 검증
+ *
+ * <p>발행 트랜잭션을 직접 열고 닫아야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcCacheInvalidationTransportTest {
+
+    @Autowired
+    private CacheInvalidationRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("ID 순서와 다르게 늦게 커밋된 무효화도 다음 수신에서 한 번만 적용된다")
+    void late_commit_with_smaller_id_is_not_lost() throws Exception {
+        // given
+        JdbcCacheInvalidationTransport receiver = new JdbcCacheInvalidationTransport(repository, Duration.ofSeconds(30));
+        JdbcCacheInvalidationTransport publisher = new JdbcCacheInvalidationTransport(repository, Duration.ofSeconds(30));
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        // 노드 A: 작은 ID로 INSERT 후 커밋 대기
+        CompletableFuture<Void> nodeA = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                publisher.publish("node-a", changed(1L, 10L));
+                inserted.countDown();
+                await(commit);
+            }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 노드 B: 큰 ID로 INSERT 후 먼저 커밋
+        publisher.publish("node-b", changed(2L, 20L));
+
+        // when & then - 먼저 커밋된 B만 보임
+        assertThat(receiver.poll("node-c").getBookmarkKeys()).containsExactly(new BookmarkKey(2L, 20L));
+
+        // when & then - A 커밋 후 마지막 수신 ID보다 작은 A도 수신
+        commit.countDown();
+        nodeA.get(5, TimeUnit.SECONDS);
+        assertThat(receiver.poll("node-c").getBookmarkKeys()).containsExactly(new BookmarkKey(1L, 10L));
+
+        // when & then - 유예 기간 안에 다시 조회되어도 이미 적용한 메시지는 건너뜀
+        assertThat(receiver.poll("node-c").isEmpty()).isTrue();
+    }
+
+    private CacheInvalidationBatch changed(Long userId, Long bookmarkId) {
+        CacheInvalidationBatch batch = new CacheInvalidationBatch();
+        batch.addBookmark(new BookmarkKey(userId, bookmarkId));
+        return batch;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
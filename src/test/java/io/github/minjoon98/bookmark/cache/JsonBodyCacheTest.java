@@ -0,0 +1,76 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.minjoon98.bookmark.config.JsonBodyCacheConfig;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JsonBodyCacheTest {
+
+    private final ObjectMapper objectMapper = spy(Jackson2ObjectMapperBuilder.json().build());
+    private final JsonBodyCache jsonBodyCache = new JsonBodyCache(objectMapper, 1024 * 1024);
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(JsonBodyCacheConfig.class)
+        .withBean(ObjectMapper.class, () -> Jackson2ObjectMapperBuilder.json().build())
+        .withPropertyValues("bookmark.cache.json-body.enabled=true");
+
+    @Test
+    @DisplayName("같은 응답 인스턴스는 한 번만 직렬화하고 이후에는 같은 바이트를 반환한다")
+    void same_instance_is_serialized_once() throws Exception {
+        BookmarkResponse bookmark = bookmark("Google");
+
+        JsonBodyCache.JsonBody first = jsonBodyCache.render(bookmark);
+        JsonBodyCache.JsonBody second = jsonBodyCache.render(bookmark);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.bytes()).isEqualTo(Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(bookmark));
+        verify(objectMapper, times(1)).writeValueAsBytes(bookmark);
+    }
+
+    @Test
+    @DisplayName("새 응답 인스턴스(캐시 교체)는 다시 직렬화되고 내용이 바뀌면 ETag도 바뀐다")
+    void new_instance_gets_new_body_and_etag() {
+        JsonBodyCache.JsonBody original = jsonBodyCache.render(bookmark("Google"));
+        JsonBodyCache.JsonBody sameContent = jsonBodyCache.render(bookmark("Google"));
+        JsonBodyCache.JsonBody updated = jsonBodyCache.render(bookmark("Updated"));
+
+        assertThat(sameContent).isNotSameAs(original);
+        assertThat(sameContent.etag()).isEqualTo(original.etag());
+        assertThat(updated.etag()).isNotEqualTo(original.etag());
+        assertThat(original.etag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    @DisplayName("적중마다 새 인스턴스를 디코딩하는 저장소(L2, off-heap)를 쓰면 활성화하지 않는다")
+    void disabled_when_hits_decode_new_instances() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(JsonBodyCache.class));
+        contextRunner
+            .withPropertyValues("bookmark.cache.l2.enabled=true")
+            .run(context -> assertThat(context).doesNotHaveBean(JsonBodyCache.class));
+        contextRunner
+            .withPropertyValues("bookmark.cache.specs[bookmarkById].off-heap=true")
+            .run(context -> assertThat(context).doesNotHaveBean(JsonBodyCache.class));
+    }
+
+    private BookmarkResponse bookmark(String title) {
+        return BookmarkResponse.builder()
+            .id(1L)
+            .title(title)
+            .url("https://google.com")
+            .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .tags(List.of("search"))
+            .build();
+    }
+}
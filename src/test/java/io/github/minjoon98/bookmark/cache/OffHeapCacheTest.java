@@ -0,0 +1,148 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapCacheTest {
+
+    private static final long CAPACITY = 2L * OffHeapSlabStore.SLAB_SIZE;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapSlabStore store;
+    private OffHeapCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new OffHeapSlabStore(CAPACITY);
+        cache = new OffHeapCache("bookmarkById", store, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("저장한 응답은 힙 밖에서 읽어 같은 내용으로 복원된다")
+    void round_trip() {
+        BookmarkResponse bookmark = bookmark(1L, "메모");
+        cache.put(new BookmarkKey(1L, 1L), bookmark);
+
+        BookmarkResponse cached = cache.get(new BookmarkKey(1L, 1L), BookmarkResponse.class);
+
+        assertThat(cached).usingRecursiveComparison().isEqualTo(bookmark);
+        assertThat(store.reservedBytes()).isEqualTo(OffHeapSlabStore.SLAB_SIZE);
+    }
+
+    @Test
+    @DisplayName("해제된 청크는 이전 핸들로 읽히지 않고 다음 저장에 재사용된다")
+    void freed_slot_is_versioned_and_reused() {
+        OffHeapSlabStore.Slot first = store.write(new byte[100]);
+        store.free(first);
+        OffHeapSlabStore.Slot second = store.write(new byte[100]);
+
+        assertThat(second.offset()).isEqualTo(first.offset());
+        assertThat(second.version()).isEqualTo(first.version() + 1);
+        assertThat(store.read(first)).isNull();
+        assertThat(store.read(second)).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("모든 청크가 해제된 슬랩은 공용 용량으로 반환되어 다른 크기 등급이 사용한다")
+    void empty_slabs_return_to_shared_budget() {
+        // given - 작은 값으로 용량을 모두 채움
+        List<OffHeapSlabStore.Slot> small = new ArrayList<>();
+        OffHeapSlabStore.Slot slot;
+        while ((slot = store.write(new byte[100])) != null) {
+            small.add(slot);
+        }
+        assertThat(store.reservedBytes()).isEqualTo(CAPACITY);
+        assertThat(store.write(new byte[10_000])).isNull();
+
+        // when
+        small.forEach(store::free);
+
+        // then - 큰 값 저장 가능, 반환된 슬랩의 이전 핸들은 읽히지 않음
+        assertThat(store.reservedBytes()).isZero();
+        OffHeapSlabStore.Slot large = store.write(new byte[10_000]);
+        assertThat(large).isNotNull();
+        assertThat(store.read(large)).hasSize(10_000);
+        assertThat(store.read(small.getFirst())).isNull();
+    }
+
+    @Test
+    @DisplayName("용량이 부족하면 다른 등급의 분할 중인 빈 슬랩을 회수한다")
+    void idle_carving_slab_is_reclaimed_when_budget_is_exhausted() {
+        // given - 작은 값 등급의 분할 중인 슬랩이 비어 있고, 큰 값 등급이 나머지 슬랩을 채움
+        store.free(store.write(new byte[100]));
+        for (int i = 0; i < OffHeapSlabStore.SLAB_SIZE / (16 * 1024); i++) {
+            assertThat(store.write(new byte[10_000])).isNotNull();
+        }
+        assertThat(store.reservedBytes()).isEqualTo(CAPACITY);
+
+        // when
+        OffHeapSlabStore.Slot large = store.write(new byte[10_000]);
+
+        // then
+        assertThat(large).isNotNull();
+        assertThat(store.reservedBytes()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("덮어쓰기와 삭제는 이전 청크를 해제한다")
+    void replace_and_evict_free_chunks() {
+        BookmarkKey key = new BookmarkKey(1L, 1L);
+        cache.put(key, bookmark(1L, "old"));
+        OffHeapSlabStore.Slot old = (OffHeapSlabStore.Slot) cache.getIndex().getIfPresent(key);
+
+        cache.put(key, bookmark(1L, "new"));
+        assertThat(store.read(old)).isNull();
+        assertThat(cache.get(key, BookmarkResponse.class).getMemo()).isEqualTo("new");
+
+        cache.evict(key);
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 청크보다 큰 값은 저장하지 않고 기존 값도 제거한다")
+    void oversized_value_is_rejected() {
+        BookmarkKey key = new BookmarkKey(1L, 1L);
+        cache.put(key, bookmark(1L, "small"));
+
+        cache.put(key, bookmark(1L, "m".repeat(store.maxValueSize())));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(meterRegistry.get("bookmark.cache.offheap.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 오래된 항목이 제거되어 최신 항목이 저장되고 슬랩 할당은 예산을 넘지 않는다")
+    void bounded_by_capacity() {
+        for (long id = 1; id <= 20_000; id++) {
+            cache.put(new BookmarkKey(1L, id), bookmark(id, "memo " + id));
+        }
+        cache.getIndex().cleanUp();
+
+        assertThat(store.reservedBytes()).isLessThanOrEqualTo(CAPACITY);
+        assertThat(cache.getIndex().estimatedSize()).isLessThan(20_000);
+        assertThat(cache.get(new BookmarkKey(1L, 20_000L))).isNotNull();
+    }
+
+    private BookmarkResponse bookmark(Long id, String memo) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Title " + id)
+            .url("https://example.com/" + id)
+            .memo(memo)
+            .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .tags(List.of("java"))
+            .build();
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PopularPagePrecomputerTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final BookmarkService bookmarkService = mock(BookmarkService.class);
+    private final CacheGenerations generations = new CacheGenerations();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private final Page<BookmarkResponse> page = new PageImpl<>(List.of(), FIRST_PAGE, 0);
+    private SimpleCacheManager cacheManager;
+    private PopularPageTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.<Cache>of(new CaffeineCache("bookmarksByTag", Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .ticker(nanos::get)
+            .build())));
+        cacheManager.initializeCaches();
+        tracker = new PopularPageTracker(Set.of("bookmarksByTag"), 10, 1024, 4, 10_000, meterRegistry, millis::get);
+        given(bookmarkService.loadBookmarksByTag(anyLong(), anyString(), any())).willReturn(page);
+    }
+
+    @Test
+    @DisplayName("남은 TTL이 lead-time 이하인 인기 페이지만 현재 세대 키로 다시 적재한다")
+    void refreshes_pages_close_to_expiry() {
+        // given - java, spring 모두 인기, 세대 1
+        generations.bump(7L);
+        cache().put(key(1, "java"), page);
+        cache().put(key(1, "spring"), page);
+        access("java", 4);
+        access("spring", 4);
+
+        // when - java만 만료 직전이 되도록 spring을 늦게 적재
+        elapse(Duration.ofSeconds(30));
+        cache().put(key(1, "spring"), page);
+        elapse(Duration.ofSeconds(27));
+        int loaded = precomputer(10).precompute();
+
+        // then
+        assertThat(loaded).isEqualTo(1);
+        verify(bookmarkService).loadBookmarksByTag(7L, "java", FIRST_PAGE);
+        verify(bookmarkService, never()).loadBookmarksByTag(7L, "spring", FIRST_PAGE);
+        assertThat(counter("refreshed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주기당 DB 로드 수를 넘는 페이지는 다음 주기로 미룬다")
+    void respects_db_budget() {
+        // given - 캐시에 없는 인기 페이지 3개
+        access("java", 6);
+        access("spring", 5);
+        access("kotlin", 4);
+
+        // when
+        int loaded = precomputer(2).precompute();
+
+        // then - 빈도가 높은 2개만 적재
+        assertThat(loaded).isEqualTo(2);
+        assertThat(cache().get(key(0, "java"))).isNotNull();
+        assertThat(cache().get(key(0, "spring"))).isNotNull();
+        assertThat(cache().get(key(0, "kotlin"))).isNull();
+        assertThat(counter("deferred")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("미리 적재한 뒤 조회되지 않은 페이지는 다시 적재하지 않는다")
+    void pending_pages_are_not_reloaded() {
+        // given
+        access("java", 4);
+        PopularPagePrecomputer precomputer = precomputer(10);
+        precomputer.precompute();
+
+        // when - 조회 없이 만료
+        elapse(Duration.ofSeconds(61));
+        cache().get(key(0, "java"));
+        int idle = precomputer.precompute();
+
+        // then
+        assertThat(idle).isZero();
+
+        // when - 다시 조회되면 재적재 대상
+        access("java", 1);
+        int afterAccess = precomputer.precompute();
+
+        // then
+        assertThat(afterAccess).isEqualTo(1);
+        verify(bookmarkService, times(2)).loadBookmarksByTag(7L, "java", FIRST_PAGE);
+    }
+
+    @Test
+    @DisplayName("재적재 결과 카운터는 생성 시 캐시별로 한 번 등록된다")
+    void registers_load_counters_once() {
+        // when
+        precomputer(10);
+
+        // then
+        assertThat(meterRegistry.find("bookmark.cache.precompute.loads").counters()).hasSize(3);
+        assertThat(counter("refreshed")).isZero();
+        assertThat(counter("deferred")).isZero();
+        assertThat(counter("failed")).isZero();
+    }
+
+    private PopularPagePrecomputer precomputer(int maxLoadsPerCycle) {
+        return new PopularPagePrecomputer(
+            cacheManager, generations, bookmarkService, tracker,
+            4, Duration.ofSeconds(5), maxLoadsPerCycle, meterRegistry, millis::get);
+    }
+
+    private void access(String tag, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.onAccess("bookmarksByTag", key(generations.current(7L), tag));
+        }
+    }
+
+    private void elapse(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+        millis.addAndGet(duration.toMillis());
+    }
+
+    private BookmarkPageKey key(long generation, String tag) {
+        return BookmarkPageKey.of(7L, generation, tag, FIRST_PAGE);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache("bookmarksByTag");
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("bookmark.cache.precompute.loads")
+            .tag("cache", "bookmarksByTag").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopularPageTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("count-min sketch 추정치는 실제 빈도보다 작지 않다")
+    void sketch_never_underestimates() {
+        // given - 키 수보다 훨씬 작은 sketch (충돌 발생)
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+        for (int key = 0; key < 1000; key++) {
+            for (int i = 0; i < key % 7; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        // then
+        for (int key = 0; key < 1000; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key % 7);
+        }
+    }
+
+    @Test
+    @DisplayName("세대가 달라도 같은 페이지로 세고, 빈도 순으로 상위 K개만 유지한다")
+    void keeps_top_k_across_generations() {
+        // given
+        PopularPageTracker tracker = tracker(2, 1_000);
+
+        // when - java 5회(세대 변경 포함), spring 3회, kotlin 1회
+        for (int i = 0; i < 5; i++) {
+            tracker.onAccess("bookmarksByTag", key(i, "java"));
+        }
+        for (int i = 0; i < 3; i++) {
+            tracker.onAccess("bookmarksByTag", key(0, "spring"));
+        }
+        tracker.onAccess("bookmarksByTag", key(0, "kotlin"));
+        tracker.onAccess("bookmarkById", new BookmarkKey(1L, 1L));
+
+        // then
+        assertThat(tracker.topPages(1))
+            .extracting(page -> page.key().term())
+            .containsExactly("java", "spring");
+        assertThat(tracker.topPages(4)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("sample-size마다 빈도를 절반으로 줄여 조회가 끊긴 키를 밀어낸다")
+    void aging_halves_frequencies() {
+        // given - 4번 기록마다 aging
+        PopularPageTracker tracker = tracker(10, 4);
+        tracker.onAccess("bookmarksByTag", key(0, "java"));
+        tracker.onAccess("bookmarksByTag", key(0, "java"));
+        tracker.onAccess("bookmarksByTag", key(0, "java"));
+
+        // when - 4번째 기록에서 aging: java 3 → 1, spring 1 → 0 (제거)
+        tracker.onAccess("bookmarksByTag", key(0, "spring"));
+
+        // then
+        assertThat(tracker.topPages(1)).extracting(page -> page.key().term()).containsExactly("java");
+    }
+
+    @Test
+    @DisplayName("동시에 조회해도 상위 키는 K개를 넘지 않는다")
+    void concurrent_access_keeps_top_k_bounded() throws InterruptedException {
+        // given - 상위 3개, 키 20개를 8개 스레드가 번갈아 조회 (밀려난 키 갱신과 교체가 겹침)
+        PopularPageTracker tracker = tracker(3, 1_000);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    tracker.onAccess("bookmarksByTag", key(0, "tag" + (i + offset) % 20));
+                }
+            }));
+        }
+
+        // when
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(tracker.topPages(0)).hasSizeLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("미리 적재한 항목이 원래 만료 시점 이후 처음 조회되면 절약한 미스로 센다")
+    void counts_saved_requests_after_original_expiry() {
+        // given
+        PopularPageTracker tracker = tracker(10, 1_000);
+        BookmarkPageKey key = key(2, "java");
+        tracker.onAccess("bookmarksByTag", key);
+        PopularPageTracker.HotPage page = tracker.topPages(1).get(0);
+        long now = millis.get();
+        tracker.markPrecomputed(page, key, now + 5_000, now + 60_000);
+
+        // when - 원래 만료 전 조회는 절약이 아님 (대기 해제만)
+        millis.addAndGet(1_000);
+        tracker.onAccess("bookmarksByTag", key);
+
+        // then
+        assertThat(tracker.isPending(page)).isFalse();
+        assertThat(saved()).isZero();
+
+        // when - 다시 적재 후 원래 만료 이후 조회
+        tracker.markPrecomputed(page, key, millis.get(), millis.get() + 60_000);
+        millis.addAndGet(1_000);
+        tracker.onAccess("bookmarksByTag", key);
+
+        // then
+        assertThat(saved()).isEqualTo(1);
+    }
+
+    private PopularPageTracker tracker(int topK, long sampleSize) {
+        return new PopularPageTracker(
+            Set.of("bookmarksByTag", "bookmarksSearch"), topK, 1024, 4, sampleSize, meterRegistry, millis::get);
+    }
+
+    private BookmarkPageKey key(long generation, String term) {
+        return BookmarkPageKey.of(7L, generation, term, PageRequest.of(0, 20));
+    }
+
+    private double saved() {
+        return meterRegistry.get("bookmark.cache.precompute.saved").counter().count();
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RefreshAheadCacheLoaderTest {
+
+    private final BookmarkService bookmarkService = mock(BookmarkService.class);
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<BookmarkService> provider() {
+        ObjectProvider<BookmarkService> provider = mock(ObjectProvider.class);
+        given(provider.getObject()).willReturn(bookmarkService);
+        return provider;
+    }
+
+    @Test
+    @DisplayName("refreshAfterWrite가 지난 항목은 기존 값을 반환하고 키의 사용자 기준으로 재로드된다")
+    void stale_entry_is_served_and_reloaded_from_key() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        Pageable pageable = PageRequest.of(0, 20);
+        BookmarkPageKey key = BookmarkPageKey.of(7L, 0L, null, pageable);
+        Page<BookmarkResponse> oldPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<BookmarkResponse> newPage = new PageImpl<>(List.of(), pageable, 1);
+        given(bookmarkService.loadBookmarks(7L, null, pageable)).willReturn(newPage);
+
+        Executor direct = Runnable::run;
+        LoadingCache<Object, Object> cache = Caffeine.newBuilder()
+            .ticker(ticker)
+            .executor(direct)
+            .refreshAfterWrite(Duration.ofSeconds(45))
+            .build(new RefreshAheadCacheLoader("bookmarksFirstPage", provider(), direct));
+        cache.put(key, oldPage);
+
+        // when - refresh 시점 경과 후 조회
+        nanos.addAndGet(Duration.ofSeconds(46).toNanos());
+        Object served = cache.get(key);
+
+        // then - 이번 조회는 기존 값, 이후 조회는 재로드된 값
+        assertThat(served).isSameAs(oldPage);
+        assertThat(cache.getIfPresent(key)).isSameAs(newPage);
+    }
+
+    @Test
+    @DisplayName("태그 캐시 키는 태그 조회로 재로드된다")
+    void tag_cache_key_reloads_by_tag() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10);
+        BookmarkPageKey key = BookmarkPageKey.of(3L, 2L, "java", pageable);
+        Page<BookmarkResponse> page = new PageImpl<>(List.of(), pageable, 0);
+        given(bookmarkService.loadBookmarksByTag(3L, "java", pageable)).willReturn(page);
+
+        RefreshAheadCacheLoader loader = new RefreshAheadCacheLoader("bookmarksByTag", provider(), Runnable::run);
+
+        // when & then
+        assertThat(loader.reload(key, null)).isSameAs(page);
+        verify(bookmarkService, never()).loadBookmarks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일반 조회 미스에서는 로드하지 않는다")
+    void load_does_not_query() {
+        RefreshAheadCacheLoader loader = new RefreshAheadCacheLoader("bookmarkById", provider(), Runnable::run);
+
+        assertThat(loader.load(new BookmarkKey(1L, 1L))).isNull();
+        verify(bookmarkService, never()).loadBookmark(any(), any());
+    }
+
+    @Test
+    @DisplayName("재로드 실행기가 포화 상태면 재로드를 건너뛴다")
+    void saturated_executor_skips_reload() {
+        // given
+        Executor saturated = command -> {
+            throw new RejectedExecutionException("full");
+        };
+        RefreshAheadCacheLoader loader = new RefreshAheadCacheLoader("bookmarkById", provider(), saturated);
+
+        // when
+        CompletableFuture<Object> reload = loader.asyncReload(new BookmarkKey(1L, 1L), "old", Runnable::run);
+
+        // then
+        assertThat(reload).isCancelled();
+        verify(bookmarkService, never()).loadBookmark(any(), any());
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.minjoon98.bookmark.cache;
+
+import io.github.minjoon98.bookmark.config.BookmarkCacheProperties;
+import io.github.minjoon98.bookmark.repository.SearchCandidate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchCandidateCacheTest {
+
+    private final CacheGenerations generations = new CacheGenerations();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SearchCandidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        BookmarkCacheProperties properties = new BookmarkCacheProperties();
+        properties.getSearchCandidates().setMaxCandidates(3);
+        cache = new SearchCandidateCache(
+            new ConcurrentMapCacheManager(SearchCandidateCache.CACHE_NAME), generations, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("검색어는 앞뒤 공백 제거, 소문자로 정규화되고 중간 공백은 유지된다")
+    void normalizes_case_and_whitespace() {
+        assertThat(SearchCandidateCache.normalize("  Spring \t  BOOT ")).isEqualTo("spring \t  boot");
+        assertThat(SearchCandidateCache.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("긴 검색어는 짧은 검색어 후보를 제목/URL 기준으로 걸러서 재사용한다")
+    void longer_term_narrows_cached_prefix() {
+        // given
+        List<SearchCandidate> candidates = List.of(
+            new SearchCandidate(1L, "Spring Boot", "https://spring.io"),
+            new SearchCandidate(2L, "Docs", "https://SPRITES.dev"),
+            new SearchCandidate(3L, "Speed Test", "https://speedtest.net"));
+        cache.matchingIds(1L, "sp", loader(candidates));
+
+        // when
+        Optional<List<Long>> spr = cache.matchingIds(1L, "spr", loader(List.of()));
+        Optional<List<Long>> sprin = cache.matchingIds(1L, "sprin", loader(List.of()));
+
+        // then
+        assertThat(spr).contains(List.of(1L, 2L));
+        assertThat(sprin).contains(List.of(1L));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(counter("prefix")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("후보가 상한을 넘으면 LIKE 검색을 사용하고, 같은 검색어는 후보를 다시 조회하지 않는다")
+    void oversized_result_falls_back() {
+        // given - 상한(3) + 1건
+        List<SearchCandidate> candidates = List.of(
+            new SearchCandidate(1L, "a1", "u"), new SearchCandidate(2L, "a2", "u"),
+            new SearchCandidate(3L, "a3", "u"), new SearchCandidate(4L, "a4", "u"));
+
+        // when
+        Optional<List<Long>> first = cache.matchingIds(1L, "a", loader(candidates));
+        Optional<List<Long>> second = cache.matchingIds(1L, "a", loader(candidates));
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 세대가 바뀌면 이전 후보를 재사용하지 않는다")
+    void generation_bump_invalidates_candidates() {
+        // given
+        cache.matchingIds(1L, "sp", loader(List.of(new SearchCandidate(1L, "Spring", "https://spring.io"))));
+
+        // when
+        generations.bump(1L);
+        Optional<List<Long>> spr = cache.matchingIds(1L, "spr", loader(List.of(
+            new SearchCandidate(1L, "Spring", "https://spring.io"),
+            new SearchCandidate(2L, "Spring Data", "https://spring.io/data"))));
+
+        // then
+        assertThat(spr).contains(List.of(1L, 2L));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private IntFunction<List<SearchCandidate>> loader(List<SearchCandidate> candidates) {
+        return limit -> {
+            loads.incrementAndGet();
+            return candidates.stream().limit(limit).toList();
+        };
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("bookmark.cache.search.candidates").tag("result", result).counter().count();
+    }
+}
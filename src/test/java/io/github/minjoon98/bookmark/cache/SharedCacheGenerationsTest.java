@@ -0,0 +1,69 @@
+package io.github.minjoon98.bookmark.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SharedCacheGenerationsTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SharedCacheStore store = spy(new InMemorySharedCacheStore());
+    private final SharedCacheGenerations generations =
+        new SharedCacheGenerations(store, Duration.ofSeconds(1), nanos::get);
+
+    @Test
+    @DisplayName("조회한 세대는 로컬 보관 시간 동안 공유 저장소를 다시 조회하지 않는다")
+    void current_is_cached_locally() {
+        // when
+        generations.current(1L);
+        generations.current(1L);
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        generations.current(1L);
+
+        // then
+        verify(store, times(2)).counter("bookmark:generation:1");
+    }
+
+    @Test
+    @DisplayName("이 노드의 증가는 로컬 사본에 바로 반영되고, 다른 노드의 증가는 카운터를 다시 증가시키지 않는다")
+    void bump_updates_local_copy_and_peer_bump_only_forgets_it() {
+        // given
+        generations.current(1L);
+
+        // when & then - 로컬 증가
+        assertThat(generations.bump(1L)).isEqualTo(1L);
+        assertThat(generations.current(1L)).isEqualTo(1L);
+
+        // when & then - 다른 노드가 증가시킨 뒤 수신
+        store.increment("bookmark:generation:1");
+        generations.bumpedElsewhere(1L);
+        assertThat(generations.current(1L)).isEqualTo(2L);
+        verify(store, times(2)).increment("bookmark:generation:1");
+    }
+
+    @Test
+    @DisplayName("공유 저장소 장애 시 예외 대신 매번 다른 일회용 세대를 반환한다")
+    void store_failure_bypasses_cache() {
+        // given
+        given(store.counter(anyString())).willThrow(new IllegalStateException("store down"));
+        given(store.increment(anyString())).willThrow(new IllegalStateException("store down"));
+
+        // when
+        long first = generations.current(1L);
+        long second = generations.current(1L);
+
+        // then
+        assertThat(first).isNegative();
+        assertThat(second).isNegative().isNotEqualTo(first);
+        assertThat(generations.bump(1L)).isNegative();
+    }
+}
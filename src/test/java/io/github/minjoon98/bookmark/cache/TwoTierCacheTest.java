@@ -0,0 +1,146 @@
+package io.github.minjoon98.bookmark.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private InMemorySharedCacheStore store;
+    private TwoTierCache nodeA;
+    private TwoTierCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new InMemorySharedCacheStore(nanos::get);
+        nodeA = new TwoTierCache(new ConcurrentMapCache("bookmarkById"), store, Duration.ofMinutes(10), meterRegistry);
+        nodeB = new TwoTierCache(new ConcurrentMapCache("bookmarkById"), store, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("L1이 비어 있는 노드는 다른 노드가 채운 L2에서 값을 가져와 L1에 적재한다")
+    void cold_node_is_served_from_l2() {
+        // given - 노드 A가 적재
+        BookmarkKey key = new BookmarkKey(1L, 10L);
+        nodeA.put(key, bookmark(10L));
+
+        // when - 노드 B 첫 조회(L2 적중), 두 번째 조회(L1 적중)
+        BookmarkResponse first = nodeB.get(key, BookmarkResponse.class);
+        BookmarkResponse second = nodeB.get(key, BookmarkResponse.class);
+
+        // then
+        assertThat(first.getTitle()).isEqualTo("Title 10");
+        assertThat(second).isSameAs(first);
+        assertThat(nodeB.getLocal().get(key)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("단계별 적중/미스가 메트릭에 기록된다")
+    void tier_metrics_are_recorded() {
+        BookmarkKey key = new BookmarkKey(1L, 10L);
+        nodeA.get(key);                  // L1 미스, L2 미스
+        nodeA.put(key, bookmark(10L));
+        nodeA.get(key);                  // L1 적중
+        nodeA.getLocal().evict(key);
+        nodeA.get(key);                  // L1 미스, L2 적중
+
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(2);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제와 전체 비우기는 두 단계 모두에 반영된다")
+    void evict_and_clear_apply_to_both_tiers() {
+        BookmarkKey first = new BookmarkKey(1L, 10L);
+        BookmarkKey second = new BookmarkKey(1L, 11L);
+        nodeA.put(first, bookmark(10L));
+        nodeA.put(second, bookmark(11L));
+
+        nodeA.evict(first);
+        assertThat(nodeB.get(first)).isNull();
+        assertThat(nodeB.get(second)).isNotNull();
+
+        nodeA.clear();
+        nodeB.getLocal().clear();
+        assertThat(nodeB.get(second)).isNull();
+    }
+
+    @Test
+    @DisplayName("L2 항목은 캐시 TTL이 지나면 만료된다")
+    void l2_entries_follow_cache_ttl() {
+        BookmarkKey key = new BookmarkKey(1L, 10L);
+        nodeA.put(key, bookmark(10L));
+
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+
+        assertThat(nodeB.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("L2 적중 값은 L2에 남은 TTL만큼만 L1에 보관된다 (최대 staleness가 TTL을 넘지 않음)")
+    void l2_hit_is_kept_in_l1_only_for_remaining_ttl() {
+        // given - 노드 A가 적재하고 TTL의 80%가 지난 뒤 노드 B가 L2에서 가져옴
+        EntryExpiry expiry = new EntryExpiry(Duration.ofMinutes(10));
+        ExpiringCaffeineCache local = new ExpiringCaffeineCache("bookmarkById",
+            Caffeine.newBuilder().ticker(nanos::get).expireAfter(expiry).build(), expiry);
+        TwoTierCache coldNode = new TwoTierCache(local, store, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        BookmarkKey key = new BookmarkKey(1L, 10L);
+        nodeA.put(key, bookmark(10L));
+        nanos.addAndGet(Duration.ofMinutes(8).toNanos());
+
+        // when
+        assertThat(coldNode.get(key)).isNotNull();
+
+        // then - L1에는 남은 2분만 보관되고, 최초 적재 후 TTL이 지나면 두 단계 모두 만료
+        assertThat(local.remainingTtl(key)).hasValue(Duration.ofMinutes(2));
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertThat(coldNode.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("L2 장애는 요청 실패 대신 미스로 처리된다")
+    void l2_failure_is_treated_as_miss() {
+        SharedCacheStore broken = new InMemorySharedCacheStore() {
+            @Override
+            public StoredValue getWithTtl(String key) {
+                throw new IllegalStateException("connection refused");
+            }
+        };
+        TwoTierCache cache = new TwoTierCache(new ConcurrentMapCache("bookmarkById"), broken, Duration.ofMinutes(10), meterRegistry);
+
+        assertThat(cache.get(new BookmarkKey(1L, 10L))).isNull();
+        assertThat(count("l2", "error")).isEqualTo(1);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("bookmark.cache.tier.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private BookmarkResponse bookmark(Long id) {
+        return BookmarkResponse.builder()
+            .id(id)
+            .title("Title " + id)
+            .url("https://example.com/" + id)
+            .tags(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.minjoon98.bookmark.controller;
+
+import io.github.minjoon98.bookmark.config.JsonBodyCacheConfig;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.service.BookmarkService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 캐시 응답 JSON 바이트 재사용 모드의 컨트롤러 응답 검증
+ */
+@WebMvcTest(controllers = BookmarkController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(JsonBodyCacheConfig.class)
+@TestPropertySource(properties = "bookmark.cache.json-body.enabled=true")
+class BookmarkControllerJsonBodyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BookmarkService bookmarkService;
+
+    private final BookmarkResponse response = BookmarkResponse.builder()
+            .id(1L)
+            .title("Google")
+            .url("https://google.com")
+            .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .updatedAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+            .tags(List.of("search"))
+            .build();
+
+    @Test
+    @DisplayName("단건 조회는 직렬화된 JSON과 ETag를 응답한다")
+    void getBookmarkById_returns_json_with_etag() throws Exception {
+        given(bookmarkService.getBookmarkById(1L)).willReturn(response);
+
+        mockMvc.perform(get("/bookmarks/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.title").value("Google"))
+                .andExpect(jsonPath("$.createdAt").value("2025-01-15T10:30:00"))
+                .andExpect(jsonPath("$.tags[0]").value("search"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다")
+    void matching_etag_returns_not_modified() throws Exception {
+        given(bookmarkService.getBookmarkById(1L)).willReturn(response);
+        String etag = mockMvc.perform(get("/bookmarks/{id}", 1L))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/bookmarks/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("검색어 없는 첫 페이지는 직렬화된 JSON으로, 그 외 목록은 일반 직렬화로 응답한다")
+    void first_page_uses_pre_serialized_body() throws Exception {
+        given(bookmarkService.getBookmarks(eq(null), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 20), 1));
+        given(bookmarkService.getBookmarks(eq("goo"), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/bookmarks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.content[0].title").value("Google"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        mockMvc.perform(get("/bookmarks").param("search", "goo"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.content[0].title").value("Google"));
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -301,4 +302,31 @@ class BookmarkControllerTest {
             .andExpect(jsonPath("$.tags.length()").value(1))
             .andExpect(jsonPath("$.tags[0]").value("spring"));
     }
+
+    @Test
+    @DisplayName("count=false면 전체 개수 없이 Slice로 응답하고, 전체 개수는 별도 API로 조회한다")
+    void getBookmarksWithoutCount() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        BookmarkResponse bookmark = BookmarkResponse.builder()
+            .id(1L)
+            .title("Google")
+            .url("https://google.com")
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        given(bookmarkService.getBookmarkSlice(eq(null), any(Pageable.class)))
+            .willReturn(new SliceImpl<>(List.of(bookmark), PageRequest.of(0, 20), true));
+        given(bookmarkService.getBookmarkCount()).willReturn(42L);
+
+        mockMvc.perform(get("/bookmarks").param("count", "false"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.last").value(false))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+        verify(bookmarkService, never()).getBookmarks(any(), any(Pageable.class));
+
+        mockMvc.perform(get("/bookmarks/count"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(42));
+    }
 }
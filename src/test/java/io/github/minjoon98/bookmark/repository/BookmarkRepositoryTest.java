@@ -1,15 +1,22 @@
 package io.github.minjoon98.bookmark.repository;
 
 import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.entity.Tag;
 import io.github.minjoon98.bookmark.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +30,9 @@ class BookmarkRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
     private User testUser;
 
     @BeforeEach
@@ -95,12 +105,12 @@ class BookmarkRepositoryTest {
                 .build());
 
         // when
-        Page<Bookmark> results = bookmarkRepository.findByUserAndTitleContainingIgnoreCaseOrUserAndUrlContainingIgnoreCase(
-                testUser, "git", testUser, "git", PageRequest.of(0, 10));
+        Page<BookmarkRow> results = bookmarkRepository.findRowsByUserAndKeyword(
+                testUser, "git", PageRequest.of(0, 10));
 
         // then
         assertThat(results.getContent()).hasSize(1);
-        assertThat(results.getContent().get(0).getTitle()).isEqualTo("GitHub");
+        assertThat(results.getContent().get(0).title()).isEqualTo("GitHub");
     }
 
     @Test
@@ -121,4 +131,149 @@ class BookmarkRepositoryTest {
         Optional<Bookmark> found = bookmarkRepository.findById(saved.getId());
         assertThat(found).isEmpty();
     }
+
+    @Test
+    @DisplayName("키셋 스크롤로 (생성일, ID) 순서대로 빠짐없이 이어서 조회할 수 있다")
+    void scrollByUser() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            bookmarkRepository.save(Bookmark.builder()
+                    .title("Bookmark " + i)
+                    .url("https://example.com/" + i)
+                    .user(testUser)
+                    .build());
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<Long> expected = bookmarkRepository.findRowsByUser(testUser, PageRequest.of(0, 10, sort))
+                .map(BookmarkRow::id).getContent();
+
+        // when - 2개씩 마지막 항목 위치부터 이어서 조회
+        List<Long> scrolled = new ArrayList<>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Bookmark> window;
+        do {
+            window = bookmarkRepository.findByUser(testUser, position, sort, Limit.of(2));
+            window.forEach(bookmark -> scrolled.add(bookmark.getId()));
+            if (!window.isEmpty()) {
+                position = window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        // then
+        assertThat(scrolled).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("모든 검색 경로는 '%', '_'를 일반 문자로 비교한다")
+    void keywordSearchPathsTreatWildcardsLiterally() {
+        // given
+        for (String title : List.of("100% Java", "100 Days", "snake_case", "snakeXcase")) {
+            bookmarkRepository.save(Bookmark.builder()
+                    .title(title)
+                    .url("https://example.com")
+                    .user(testUser)
+                    .build());
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, "id");
+
+        for (String keyword : List.of("100%", "snake_")) {
+            // when
+            List<String> candidates = bookmarkRepository.findCandidatesByUserAndKeyword(testUser, keyword, Limit.of(10))
+                    .stream().map(SearchCandidate::title).toList();
+            List<String> rows = bookmarkRepository.findRowsByUserAndKeyword(testUser, keyword, PageRequest.of(0, 10))
+                    .map(BookmarkRow::title).getContent();
+            List<String> slice = bookmarkRepository.findSliceByUserAndKeyword(testUser, keyword, PageRequest.of(0, 10))
+                    .map(Bookmark::getTitle).getContent();
+            List<String> window = bookmarkRepository.scrollByUserAndKeyword(
+                    testUser, keyword, ScrollPosition.keyset(), sort, Limit.of(10)).map(Bookmark::getTitle).getContent();
+
+            // then
+            assertThat(candidates).hasSize(1);
+            assertThat(rows).isEqualTo(candidates);
+            assertThat(slice).isEqualTo(candidates);
+            assertThat(window).isEqualTo(candidates);
+        }
+    }
+
+    @Test
+    @DisplayName("태그명으로 키셋 스크롤할 수 있다 (중복 제거)")
+    void scrollByTagName() {
+        // given
+        Tag java = tagRepository.save(Tag.builder().name("java").build());
+        Tag spring = tagRepository.save(Tag.builder().name("spring").build());
+        for (int i = 0; i < 3; i++) {
+            Bookmark bookmark = Bookmark.builder()
+                    .title("Java " + i)
+                    .url("https://java.example.com/" + i)
+                    .user(testUser)
+                    .build();
+            bookmark.addTag(java);
+            bookmark.addTag(spring);
+            bookmarkRepository.save(bookmark);
+        }
+        bookmarkRepository.save(Bookmark.builder()
+                .title("Other")
+                .url("https://other.example.com")
+                .user(testUser)
+                .build());
+        Sort sort = Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id"));
+
+        // when
+        Window<Bookmark> first = bookmarkRepository.findDistinctByUserAndBookmarkTags_Tag_Name(
+                testUser, "java", ScrollPosition.keyset(), sort, Limit.of(2));
+        Window<Bookmark> second = bookmarkRepository.findDistinctByUserAndBookmarkTags_Tag_Name(
+                testUser, "java", first.positionAt(first.size() - 1), sort, Limit.of(2));
+
+        // then
+        assertThat(first.getContent()).extracting(Bookmark::getTitle).containsExactly("Java 0", "Java 1");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Bookmark::getTitle).containsExactly("Java 2");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("태그별 프로젝션 조회는 응답 컬럼만 중복 없이 조회하고, 태그명은 페이지 단위로 한 번에 조회한다")
+    void findRowsByTagNameWithTagNames() {
+        // given
+        Tag java = tagRepository.save(Tag.builder().name("java").build());
+        Tag spring = tagRepository.save(Tag.builder().name("spring").build());
+        Bookmark both = Bookmark.builder()
+                .title("Both")
+                .url("https://both.example.com")
+                .memo("memo")
+                .user(testUser)
+                .build();
+        both.addTag(spring);
+        both.addTag(java);
+        bookmarkRepository.save(both);
+        Bookmark javaOnly = Bookmark.builder()
+                .title("Java only")
+                .url("https://java.example.com")
+                .user(testUser)
+                .build();
+        javaOnly.addTag(java);
+        bookmarkRepository.save(javaOnly);
+        bookmarkRepository.save(Bookmark.builder()
+                .title("Untagged")
+                .url("https://untagged.example.com")
+                .user(testUser)
+                .build());
+
+        // when
+        Page<BookmarkRow> rows = bookmarkRepository.findRowsByUserAndTagName(
+                testUser, "JAVA", PageRequest.of(0, 10, Sort.by("title")));
+        List<BookmarkTagName> tagNames = bookmarkRepository.findTagNamesByBookmarkIdIn(
+                rows.map(BookmarkRow::id).getContent());
+
+        // then
+        assertThat(rows.getTotalElements()).isEqualTo(2);
+        assertThat(rows.getContent()).extracting(BookmarkRow::title).containsExactly("Both", "Java only");
+        assertThat(rows.getContent().get(0).userId()).isEqualTo(testUser.getId());
+        assertThat(rows.getContent().get(0).memo()).isEqualTo("memo");
+        assertThat(tagNames)
+                .filteredOn(tagName -> tagName.bookmarkId().equals(both.getId()))
+                .extracting(BookmarkTagName::name)
+                .containsExactly("java", "spring");
+        assertThat(tagNames).hasSize(3);
+    }
 }
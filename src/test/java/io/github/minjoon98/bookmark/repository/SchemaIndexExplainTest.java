@@ -0,0 +1,137 @@
+package io.github.minjoon98.bookmark.repository;
+
+import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.entity.Tag;
+import io.github.minjoon98.bookmark.entity.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션 스키마의 인덱스가 실제 조회 쿼리에서 선택되는지 EXPLAIN으로 검증
+ *
+ * <p>리포지토리 메서드를 호출하여 Hibernate가 생성한 SQL을 {@link StatementInspector}로 수집하고,
+ * 그 SQL의 H2 실행 계획(EXPLAIN)에 표시되는 인덱스명을 확인합니다.
+ * JPQL, 정렬, 조인이 바뀌어 인덱스를 쓰지 못하게 되면 이 테스트가 실패합니다.
+ * <ul>
+ *   <li>목록: (user_id, created_at) 복합 인덱스</li>
+ *   <li>태그별 목록: 태그명 유일 인덱스 → (tag_id, bookmark_id) 인덱스</li>
+ *   <li>태그 조회: {@code name = LOWER(?)} 비교로 태그명 유일 인덱스 (컬럼을 함수로 감싸지 않음)</li>
+ * </ul>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "io.github.minjoon98.bookmark.repository.SchemaIndexExplainTest$SqlCapture")
+class SchemaIndexExplainTest {
+
+    private static final int USERS = 10;
+    private static final int BOOKMARKS_PER_USER = 20;
+    private static final int TAGS = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        List<Tag> tags = tagRepository.saveAll(IntStream.range(0, TAGS)
+            .mapToObj(i -> Tag.builder().name("tag" + i).build())
+            .toList());
+
+        // 북마크마다 태그 2개
+        for (int u = 0; u < USERS; u++) {
+            user = userRepository.save(User.builder()
+                .email("explain" + u + "@example.com")
+                .password("password")
+                .build());
+            for (int i = 0; i < BOOKMARKS_PER_USER; i++) {
+                Bookmark bookmark = Bookmark.builder()
+                    .title("Bookmark " + i)
+                    .url("https://example.com/" + u + "/" + i)
+                    .user(user)
+                    .build();
+                bookmark.addTag(tags.get(i % TAGS));
+                bookmark.addTag(tags.get((i + 1) % TAGS));
+                bookmarkRepository.save(bookmark);
+            }
+        }
+        bookmarkRepository.flush();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("사용자별 목록은 (user_id, created_at) 복합 인덱스를 사용한다")
+    void list_uses_user_created_at_index() {
+        bookmarkRepository.findRowsByUser(user, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(explainFirstSelect()).containsIgnoringCase("IDX_BOOKMARKS_USER_CREATED_AT");
+    }
+
+    @Test
+    @DisplayName("태그별 목록은 태그명 인덱스로 태그를 찾고 (tag_id, bookmark_id) 인덱스로 연결을 읽는다")
+    void tag_page_uses_tag_name_and_tag_bookmark_indexes() {
+        bookmarkRepository.findRowsByUserAndTagName(user, "tag1", PageRequest.of(0, 20));
+
+        assertThat(explainFirstSelect())
+            .containsIgnoringCase("UK_TAGS_NAME")
+            .containsIgnoringCase("IDX_BOOKMARK_TAGS_TAG_BOOKMARK");
+    }
+
+    @Test
+    @DisplayName("대소문자 무시 태그 조회는 태그명 유일 인덱스를 사용한다")
+    void tag_lookup_uses_tag_name_index() {
+        tagRepository.findByNameIgnoreCase("Tag1");
+
+        assertThat(explainFirstSelect()).containsIgnoringCase("UK_TAGS_NAME");
+    }
+
+    /**
+     * 수집한 첫 SELECT(페이지 조회는 본문 쿼리, 이후 COUNT)의 실행 계획
+     * <p>인덱스 선택은 바인딩 값과 무관하므로 모든 파라미터에 사용자 ID를 바인딩
+     */
+    private String explainFirstSelect() {
+        String sql = SqlCapture.STATEMENTS.stream()
+            .map(statement -> statement.replaceFirst("(?s)^/\\*.*?\\*/\\s*", ""))
+            .filter(statement -> statement.regionMatches(true, 0, "select", 0, 6))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("실행된 SELECT가 없습니다: " + SqlCapture.STATEMENTS));
+        Object[] args = Collections.nCopies((int) sql.chars().filter(c -> c == '?').count(), user.getId()).toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수집 (session_factory.statement_inspector로 등록)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package io.github.minjoon98.bookmark.repository;
 
+import io.github.minjoon98.bookmark.entity.Bookmark;
 import io.github.minjoon98.bookmark.entity.Tag;
+import io.github.minjoon98.bookmark.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,6 +22,12 @@ class TagRepositoryTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     @DisplayName("태그를 저장할 수 있다")
     void save() {
@@ -152,4 +162,41 @@ class TagRepositoryTest {
         assertThat(tagRepository.findById(saved.getId())).isEmpty();
         assertThat(tagRepository.findByNameIgnoreCase("temporary")).isEmpty();
     }
+
+    @Test
+    @DisplayName("사용자가 많이 사용한 태그명을 사용 횟수 순으로 조회한다 (다른 사용자 태그 제외)")
+    void findTopNamesByUserId() {
+        // given
+        User user = userRepository.save(User.builder().email("top@example.com").password("password").build());
+        User other = userRepository.save(User.builder().email("other@example.com").password("password").build());
+        Tag java = tagRepository.save(Tag.builder().name("java").build());
+        Tag spring = tagRepository.save(Tag.builder().name("spring").build());
+        Tag kotlin = tagRepository.save(Tag.builder().name("kotlin").build());
+
+        saveBookmark(user, java, spring);
+        saveBookmark(user, java);
+        saveBookmark(user, java, kotlin);
+        saveBookmark(user, spring);
+        saveBookmark(other, kotlin);
+        saveBookmark(other, kotlin);
+        saveBookmark(other, kotlin);
+
+        // when
+        List<String> top = tagRepository.findTopNamesByUserId(user.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(top).containsExactly("java", "spring");
+    }
+
+    private void saveBookmark(User user, Tag... tags) {
+        Bookmark bookmark = Bookmark.builder()
+                .title("title")
+                .url("https://example.com")
+                .user(user)
+                .build();
+        for (Tag tag : tags) {
+            bookmark.addTag(tag);
+        }
+        bookmarkRepository.save(bookmark);
+    }
 }
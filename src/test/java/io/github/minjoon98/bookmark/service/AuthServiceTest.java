@@ -1,5 +1,6 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.CacheWarmer;
 import io.github.minjoon98.bookmark.util.IssueTokenResolver;
 import io.github.minjoon98.bookmark.dto.request.LoginRequest;
 import io.github.minjoon98.bookmark.dto.request.SignUpRequest;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -38,6 +40,9 @@ class AuthServiceTest {
     @Mock
     private IssueTokenResolver issueTokenResolver;
 
+    @Mock
+    private ObjectProvider<CacheWarmer> cacheWarmer;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -111,6 +116,7 @@ class AuthServiceTest {
         verify(userRepository, times(1)).findByEmail("test@example.com");
         verify(passwordEncoder, times(1)).matches("password123", "encodedPassword");
         verify(issueTokenResolver, times(1)).issueToken(testUser);
+        verify(cacheWarmer, times(1)).ifAvailable(any());
     }
 
     @Test
@@ -128,6 +134,7 @@ class AuthServiceTest {
         verify(userRepository, times(1)).findByEmail("nonexistent@example.com");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
         verify(issueTokenResolver, never()).issueToken(any(User.class));
+        verify(cacheWarmer, never()).ifAvailable(any());
     }
 
     @Test
@@ -146,6 +153,7 @@ class AuthServiceTest {
         verify(userRepository, times(1)).findByEmail("test@example.com");
         verify(passwordEncoder, times(1)).matches("wrongPassword", "encodedPassword");
         verify(issueTokenResolver, never()).issueToken(any(User.class));
+        verify(cacheWarmer, never()).ifAvailable(any());
     }
 
     @Test
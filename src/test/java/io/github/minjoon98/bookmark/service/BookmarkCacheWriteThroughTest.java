@@ -0,0 +1,144 @@
+package io.github.minjoon98.bookmark.service;
+
+import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
+import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
+import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.entity.User;
+import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.TagRepository;
+import io.github.minjoon98.bookmark.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 단건 캐시 write-through 검증 테스트
+ *
+ * <p>커밋 이후 동작을 확인해야 하므로 테스트 트랜잭션 없이 실행하고, 생성한 데이터는 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookmarkCacheWriteThroughTest {
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @MockitoSpyBean
+    private BookmarkRepository bookmarkRepository;
+
+    @MockitoSpyBean
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User testUser;
+    private Long bookmarkId;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("write-through@example.com")
+                .password("password")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(testUser.getId().toString(), null, List.of()));
+
+        bookmarkId = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Original", "https://original.com", "")).getId();
+        cacheManager.getCache("bookmarkById").invalidate();
+        bookmarkService.getBookmarkById(bookmarkId); // 단건 캐시 적재
+        clearInvocations(bookmarkRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookmarkRepository.deleteById(bookmarkId);
+        tagRepository.findByNameIgnoreCase("wt-spring").ifPresent(tagRepository::delete);
+        tagRepository.findByNameIgnoreCase("wt-java").ifPresent(tagRepository::delete);
+        userRepository.delete(testUser);
+        cacheManager.getCache("bookmarkById").invalidate();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("북마크 수정이 커밋되면 단건 캐시가 새 응답으로 교체되어 재조회 시 DB를 호출하지 않는다")
+    void update_puts_fresh_response_after_commit() {
+        // when
+        BookmarkResponse updated = bookmarkService.updateBookmark(
+            bookmarkId, new BookmarkUpdateRequest("Updated", null, "memo"));
+        clearInvocations(bookmarkRepository);
+
+        BookmarkResponse cached = bookmarkService.getBookmarkById(bookmarkId);
+
+        // then
+        verify(bookmarkRepository, never()).findRowById(anyLong());
+        assertThat(cached.getTitle()).isEqualTo("Updated");
+        assertThat(cached.getMemo()).isEqualTo("memo");
+        assertThat(cached.getUpdatedAt()).isEqualTo(updated.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("태그 추가/제거가 커밋되면 단건 캐시가 새 태그 목록으로 교체된다")
+    void tag_changes_put_fresh_response_after_commit() {
+        // when - 태그 추가
+        bookmarkService.addTags(bookmarkId, new TagUpsertRequest(List.of("wt-spring", "wt-java")));
+        clearInvocations(bookmarkRepository);
+        BookmarkResponse afterAdd = bookmarkService.getBookmarkById(bookmarkId);
+
+        // then
+        verify(bookmarkRepository, never()).findRowById(anyLong());
+        assertThat(afterAdd.getTags()).containsExactly("wt-java", "wt-spring");
+
+        // when - 태그 제거
+        bookmarkService.removeTag(bookmarkId, "wt-java");
+        clearInvocations(bookmarkRepository);
+        BookmarkResponse afterRemove = bookmarkService.getBookmarkById(bookmarkId);
+
+        // then
+        verify(bookmarkRepository, never()).findRowById(anyLong());
+        assertThat(afterRemove.getTags()).containsExactly("wt-spring");
+    }
+
+    @Test
+    @DisplayName("롤백된 수정은 단건 캐시에 반영되지 않는다")
+    void rolled_back_update_is_not_cached() {
+        // when - 바깥 트랜잭션에 참여한 수정을 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            bookmarkService.updateBookmark(bookmarkId, new BookmarkUpdateRequest("RolledBack", null, null));
+            status.setRollbackOnly();
+        });
+
+        BookmarkResponse cached = bookmarkService.getBookmarkById(bookmarkId);
+
+        // then - 이전 캐시 값 유지 (DB 미조회)
+        verify(bookmarkRepository, times(1)).findById(bookmarkId);
+        verify(bookmarkRepository, never()).findRowById(bookmarkId);
+        assertThat(cached.getTitle()).isEqualTo("Original");
+    }
+}
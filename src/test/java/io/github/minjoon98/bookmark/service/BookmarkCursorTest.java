@@ -0,0 +1,86 @@
+package io.github.minjoon98.bookmark.service;
+
+import io.github.minjoon98.bookmark.entity.Bookmark;
+import io.github.minjoon98.bookmark.exception.InvalidCursorException;
+import io.github.minjoon98.bookmark.exception.UnsupportedSortException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BookmarkCursorTest {
+
+    @Test
+    @DisplayName("정렬 파라미터는 허용된 기준만 받고 방향 생략 시 내림차순이다")
+    void parses_whitelisted_sort() {
+        BookmarkCursor.Ordering ordering = BookmarkCursor.ordering("createdAt");
+
+        assertThat(ordering.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(ordering.toSort()).containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        assertThat(BookmarkCursor.ordering("title,asc").toSort())
+            .containsExactly(Sort.Order.asc("title"), Sort.Order.asc("id"));
+        assertThatThrownBy(() -> BookmarkCursor.ordering("memo,desc")).isInstanceOf(UnsupportedSortException.class);
+        assertThatThrownBy(() -> BookmarkCursor.ordering("createdAt,up")).isInstanceOf(UnsupportedSortException.class);
+    }
+
+    @Test
+    @DisplayName("커서는 마지막 항목의 정렬 값과 ID로 다음 위치를 복원한다")
+    void cursor_round_trip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+        BookmarkCursor.Ordering ordering = BookmarkCursor.ordering("createdAt,desc");
+        String cursor = BookmarkCursor.encode(ordering, bookmark(42L, createdAt, "A|B"));
+
+        // when
+        ScrollPosition position = BookmarkCursor.decode(cursor, ordering);
+
+        // then
+        assertThat(cursor).doesNotContain("createdAt");
+        assertThat(position).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) position).getKeys())
+            .containsEntry("createdAt", createdAt)
+            .containsEntry("id", 42L);
+    }
+
+    @Test
+    @DisplayName("제목 정렬 커서는 구분자가 포함된 제목도 그대로 복원한다")
+    void title_cursor_keeps_separator() {
+        BookmarkCursor.Ordering ordering = BookmarkCursor.ordering("title,asc");
+        String cursor = BookmarkCursor.encode(ordering, bookmark(7L, LocalDateTime.now(), "A|B"));
+
+        ScrollPosition position = BookmarkCursor.decode(cursor, ordering);
+
+        assertThat(((KeysetScrollPosition) position).getKeys()).containsEntry("title", "A|B");
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서나 변조된 커서는 거부한다")
+    void rejects_foreign_or_tampered_cursor() {
+        BookmarkCursor.Ordering byCreated = BookmarkCursor.ordering("createdAt,desc");
+        String cursor = BookmarkCursor.encode(byCreated, bookmark(1L, LocalDateTime.now(), "A"));
+
+        assertThatThrownBy(() -> BookmarkCursor.decode(cursor, BookmarkCursor.ordering("createdAt,asc")))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> BookmarkCursor.decode(cursor, BookmarkCursor.ordering("title")))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> BookmarkCursor.decode("not a cursor!", byCreated))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThat(BookmarkCursor.decode(null, byCreated).isInitial()).isTrue();
+    }
+
+    private Bookmark bookmark(Long id, LocalDateTime createdAt, String title) {
+        Bookmark bookmark = mock(Bookmark.class);
+        given(bookmark.getId()).willReturn(id);
+        given(bookmark.getCreatedAt()).willReturn(createdAt);
+        given(bookmark.getTitle()).willReturn(title);
+        return bookmark;
+    }
+}
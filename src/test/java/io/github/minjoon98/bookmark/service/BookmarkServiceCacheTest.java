@@ -1,32 +1,51 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.BookmarkCountKey;
+import io.github.minjoon98.bookmark.cache.CacheGenerations;
+import io.github.minjoon98.bookmark.cache.CacheLayers;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
 import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
 import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.entity.Tag;
 import io.github.minjoon98.bookmark.entity.User;
+import io.github.minjoon98.bookmark.exception.BookmarkNotFoundException;
 import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.BookmarkRow;
 import io.github.minjoon98.bookmark.repository.TagRepository;
 import io.github.minjoon98.bookmark.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -35,10 +54,10 @@ import static org.mockito.Mockito.*;
  *
  * <p>@SpyBean을 사용하여 실제 Repository 호출 횟수를 추적하고,
  * 캐시 적중/무효화가 제대로 작동하는지 검증합니다.
+ * <p>캐시 무효화는 커밋 후에 적용되므로 테스트 트랜잭션 없이 실행하고, 데이터는 각 테스트 후 정리합니다.
  */
 @SpringBootTest
 @ActiveProfiles("test")
-@Transactional
 class BookmarkServiceCacheTest {
 
     @Autowired
@@ -56,6 +75,12 @@ class BookmarkServiceCacheTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheGenerations cacheGenerations;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private User testUser;
 
     @BeforeEach
@@ -67,16 +92,21 @@ class BookmarkServiceCacheTest {
                 .build());
 
         // SecurityContext 설정 (직접 설정)
-        org.springframework.security.core.Authentication authentication =
-            new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
-                testUser.getId().toString(), null, List.of());
-        org.springframework.security.core.context.SecurityContextHolder.getContext()
-                .setAuthentication(authentication);
+        authenticateAs(testUser);
 
         // 캐시 초기화
         clearAllCaches();
     }
 
+    @AfterEach
+    void tearDown() {
+        bookmarkRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        clearAllCaches();
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("단건 조회 시 캐시가 적용되어 두 번째 조회는 DB를 호출하지 않는다")
     void cache_hit_on_getBookmarkById() {
@@ -95,7 +125,7 @@ class BookmarkServiceCacheTest {
         BookmarkResponse second = bookmarkService.getBookmarkById(id);
 
         // then - Repository는 1회만 호출 (두 번째는 캐시 히트)
-        verify(bookmarkRepository, times(1)).findById(id);
+        verify(bookmarkRepository, times(1)).findRowById(id);
         assertThat(first.getId()).isEqualTo(second.getId());
     }
 
@@ -115,7 +145,7 @@ class BookmarkServiceCacheTest {
         Page<BookmarkResponse> second = bookmarkService.getBookmarks(null, pageable);
 
         // then - Repository는 1회만 호출
-        verify(bookmarkRepository, times(1)).findByUser(eq(testUser), any(Pageable.class));
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
         assertThat(first.getTotalElements()).isEqualTo(second.getTotalElements());
     }
 
@@ -135,13 +165,111 @@ class BookmarkServiceCacheTest {
         Page<BookmarkResponse> first = bookmarkService.getBookmarks(keyword, pageable);
         Page<BookmarkResponse> second = bookmarkService.getBookmarks(keyword, pageable);
 
-        // then - Repository는 1회만 호출
+        // then - Repository는 1회만 호출 (결과가 작으므로 후보 조회 + ID 목록 페이지 조회)
         verify(bookmarkRepository, times(1))
-            .findByUserAndTitleContainingIgnoreCaseOrUserAndUrlContainingIgnoreCase(
-                    eq(testUser), eq(keyword), eq(testUser), eq(keyword), any(Pageable.class));
+            .findCandidatesByUserAndKeyword(sameUser(testUser), eq(keyword), any(Limit.class));
+        verify(bookmarkRepository, times(1)).findRowsByUserAndIdIn(sameUser(testUser), any(), any(Pageable.class));
         assertThat(first.getTotalElements()).isEqualTo(second.getTotalElements());
     }
 
+    @Test
+    @DisplayName("입력 중 검색은 짧은 검색어의 후보를 재사용하여 LIKE 검색 없이 걸러낸다")
+    void search_as_you_type_reuses_prefix_candidates() {
+        // given
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Spring Boot", "https://spring.io", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Sprite Sheet", "https://sprites.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Speed Test", "https://speedtest.net", ""));
+        Pageable pageable = PageRequest.of(0, 20);
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when - 한 글자씩 입력
+        Page<BookmarkResponse> sp = bookmarkService.getBookmarks("sp", pageable);
+        Page<BookmarkResponse> spr = bookmarkService.getBookmarks("spr", pageable);
+        Page<BookmarkResponse> spri = bookmarkService.getBookmarks("spri", pageable);
+        Page<BookmarkResponse> sprin = bookmarkService.getBookmarks("sprin", pageable);
+
+        // then - 후보 조회는 첫 검색어 1회, LIKE 페이지 검색은 없음
+        verify(bookmarkRepository, times(1))
+            .findCandidatesByUserAndKeyword(sameUser(testUser), anyString(), any(Limit.class));
+        verify(bookmarkRepository, never()).findRowsByUserAndKeyword(any(), anyString(), any(Pageable.class));
+        assertThat(sp.getTotalElements()).isEqualTo(3);
+        assertThat(spr.getTotalElements()).isEqualTo(2);
+        assertThat(spri.getTotalElements()).isEqualTo(2);
+        assertThat(sprin.getContent()).extracting(BookmarkResponse::getTitle).containsExactly("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("대소문자/앞뒤 공백만 다른 검색어는 같은 검색 캐시 항목을 사용한다")
+    void equivalent_search_terms_share_cache_entry() {
+        // given
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Spring Boot", "https://spring.io", ""));
+        Pageable pageable = PageRequest.of(0, 20);
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when
+        Page<BookmarkResponse> first = bookmarkService.getBookmarks("spring boot", pageable);
+        Page<BookmarkResponse> second = bookmarkService.getBookmarks("  Spring BOOT ", pageable);
+
+        // then - 두 번째는 검색 캐시 적중
+        verify(bookmarkRepository, times(1)).findRowsByUserAndIdIn(sameUser(testUser), any(), any(Pageable.class));
+        assertThat(second.getContent()).extracting(BookmarkResponse::getId)
+            .containsExactlyElementsOf(first.getContent().stream().map(BookmarkResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("'%', '_', 연속 공백 검색어도 후보를 걸러낸 결과와 DB 검색 결과가 같다")
+    void narrowed_candidates_match_database_search() {
+        // given - LIKE 와일드카드/공백 축약이면 함께 걸리는 북마크 포함
+        bookmarkService.createBookmark(new BookmarkCreateRequest("100% Java", "https://a.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("100 Days", "https://b.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("snake_case", "https://c.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("snakeXcase", "https://d.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Two  Spaces", "https://e.dev", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Two Spaces", "https://f.dev", ""));
+        Pageable pageable = PageRequest.of(0, 20);
+
+        for (String[] search : List.of(
+                new String[]{"10", "100%", "100% Java"},
+                new String[]{"snake", "snake_", "snake_case"},
+                new String[]{"two", "Two  Sp", "Two  Spaces"})) {
+            clearAllCaches();
+            clearInvocations(bookmarkRepository);
+
+            // when - 짧은 검색어 후보를 걸러낸 결과 / 후보 없이 조회한 결과 / 페이지 검색 결과
+            bookmarkService.getBookmarks(search[0], pageable);
+            List<String> narrowed = titles(bookmarkService.getBookmarks(search[1], pageable));
+            clearAllCaches();
+            List<String> loaded = titles(bookmarkService.getBookmarks(search[1], pageable));
+            List<String> searched = bookmarkRepository
+                .findRowsByUserAndKeyword(testUser, SearchCandidateCache.normalize(search[1]), pageable)
+                .map(BookmarkRow::title).getContent();
+
+            // then - 걸러낸 결과는 후보 재사용으로 계산되고 세 결과 모두 같은 1건
+            verify(bookmarkRepository, times(2)).findCandidatesByUserAndKeyword(any(), anyString(), any(Limit.class));
+            assertThat(narrowed).containsExactly(search[2]);
+            assertThat(loaded).isEqualTo(narrowed);
+            assertThat(searched).isEqualTo(narrowed);
+        }
+    }
+
+    @Test
+    @DisplayName("재사용한 후보는 해당 사용자의 쓰기가 커밋되면 세대 증가로 무효화된다")
+    void search_candidates_are_invalidated_on_write() {
+        // given
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Spring Boot", "https://spring.io", ""));
+        Pageable pageable = PageRequest.of(0, 20);
+        bookmarkService.getBookmarks("sp", pageable);
+
+        // when - 새 북마크 생성 후 이어지는 검색어
+        bookmarkService.createBookmark(new BookmarkCreateRequest("Spring Data", "https://spring.io/data", ""));
+        Page<BookmarkResponse> spr = bookmarkService.getBookmarks("spr", pageable);
+
+        // then - 이전 세대 후보를 재사용하지 않으므로 새 북마크 포함
+        assertThat(spr.getTotalElements()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("북마크 생성 시 목록 캐시가 무효화된다")
     void cache_evict_on_create() {
@@ -157,12 +285,12 @@ class BookmarkServiceCacheTest {
         bookmarkService.getBookmarks(null, pageable);
 
         // then - Repository가 다시 호출됨 (캐시 미스)
-        verify(bookmarkRepository, times(1)).findByUser(eq(testUser), any(Pageable.class));
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("북마크 수정 시 단건 캐시와 목록 캐시가 모두 무효화된다")
-    void cache_evict_on_update() {
+    @DisplayName("북마크 수정 시 단건 캐시는 새 응답으로 교체되고 목록 캐시는 무효화된다")
+    void cache_on_update() {
         // given - 북마크 생성 및 조회하여 캐시 적재
         BookmarkResponse created = bookmarkService.createBookmark(
             new BookmarkCreateRequest("Original", "https://original.com", "")
@@ -177,13 +305,14 @@ class BookmarkServiceCacheTest {
         // when - 북마크 수정 (내부적으로 findById 1회 호출)
         bookmarkService.updateBookmark(id, new BookmarkUpdateRequest("Updated", null, null));
 
-        // 캐시가 무효화되었으므로 재조회 시 DB 호출
-        bookmarkService.getBookmarkById(id);
+        BookmarkResponse cached = bookmarkService.getBookmarkById(id);
         bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
 
-        // then - Repository가 각각 재호출됨 (update 시 1회 + 재조회 시 1회 = 2회)
-        verify(bookmarkRepository, times(2)).findById(id);
-        verify(bookmarkRepository, times(1)).findByUser(eq(testUser), any(Pageable.class));
+        // then - 단건은 새 응답이 캐시되어 재조회 없음 (update 시 1회만), 목록은 재조회
+        assertThat(cached.getTitle()).isEqualTo("Updated");
+        verify(bookmarkRepository, times(1)).findById(id);
+        verify(bookmarkRepository, never()).findRowById(id);
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
     }
 
     @Test
@@ -207,14 +336,15 @@ class BookmarkServiceCacheTest {
             bookmarkService.getBookmarkById(id);
         } catch (Exception e) {
             // 예외 발생 = DB 조회 시도 = 캐시 무효화 성공
-            // deleteBookmark에서 1회, getBookmarkById에서 1회 = 총 2회
-            verify(bookmarkRepository, times(2)).findById(id);
+            // deleteBookmark에서 엔티티 1회, getBookmarkById에서 프로젝션 1회
+            verify(bookmarkRepository, times(1)).findById(id);
+            verify(bookmarkRepository, times(1)).findRowById(id);
         }
     }
 
     @Test
-    @DisplayName("태그 추가 시 단건 및 목록 캐시가 무효화된다")
-    void cache_evict_on_addTags() {
+    @DisplayName("태그 추가 트랜잭션이 롤백되면 단건/목록 캐시를 건드리지 않는다")
+    void cache_kept_on_addTags_rollback() {
         // given
         BookmarkResponse created = bookmarkService.createBookmark(
             new BookmarkCreateRequest("TagTest", "https://tag.com", "")
@@ -223,21 +353,30 @@ class BookmarkServiceCacheTest {
 
         clearAllCaches();
         bookmarkService.getBookmarkById(id);
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
+        long generationBefore = cacheGenerations.current(testUser.getId());
         clearInvocations(bookmarkRepository);
 
-        // when - 태그 추가 (내부적으로 findById 1회 호출)
-        bookmarkService.addTags(id, new TagUpsertRequest(List.of("spring", "java")));
+        // when - 태그 추가 후 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            bookmarkService.addTags(id, new TagUpsertRequest(List.of("spring", "java")));
+            status.setRollbackOnly();
+        });
 
-        // 캐시 무효화 확인
-        bookmarkService.getBookmarkById(id);
+        BookmarkResponse cached = bookmarkService.getBookmarkById(id);
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
 
-        // then - Repository 재호출 (addTags 시 1회 + 재조회 시 1회 = 2회)
-        verify(bookmarkRepository, times(2)).findById(id);
+        // then - 롤백된 변경은 캐시에 반영되지 않고 무효화도 일어나지 않음 (addTags 시 1회만 조회)
+        assertThat(cached.getTags()).isEmpty();
+        assertThat(cacheGenerations.current(testUser.getId())).isEqualTo(generationBefore);
+        verify(bookmarkRepository, times(1)).findById(id);
+        verify(bookmarkRepository, never()).findRowById(id);
+        verify(bookmarkRepository, never()).findRowsByUser(any(User.class), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("태그 제거 시 캐시가 무효화된다")
-    void cache_evict_on_removeTag() {
+    @DisplayName("태그 제거 시 단건 캐시는 새 응답으로 교체된다")
+    void cache_on_removeTag() {
         // given
         BookmarkResponse created = bookmarkService.createBookmark(
             new BookmarkCreateRequest("TagTest", "https://tag.com", "")
@@ -252,11 +391,39 @@ class BookmarkServiceCacheTest {
         // when - 태그 제거 (내부적으로 findById 1회 호출)
         bookmarkService.removeTag(id, "spring");
 
-        // 캐시 무효화 확인
+        BookmarkResponse cached = bookmarkService.getBookmarkById(id);
+
+        // then - 재조회 없이 태그가 제거된 응답 반환
+        assertThat(cached.getTags()).isEmpty();
+        verify(bookmarkRepository, times(1)).findById(id);
+        verify(bookmarkRepository, never()).findRowById(id);
+    }
+
+    @Test
+    @DisplayName("서비스를 거치지 않은 쓰기도 커밋 후 단건/목록 캐시를 무효화한다")
+    void direct_repository_write_invalidates_after_commit() {
+        // given
+        BookmarkResponse created = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Direct", "https://direct.com", "")
+        );
+        Long id = created.getId();
+
+        clearAllCaches();
         bookmarkService.getBookmarkById(id);
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
 
-        // then - Repository 재호출 (removeTag 시 1회 + 재조회 시 1회 = 2회)
-        verify(bookmarkRepository, times(2)).findById(id);
+        // when - 배치 작업처럼 Repository로 직접 수정
+        transactionTemplate.executeWithoutResult(status ->
+            bookmarkRepository.findById(id).orElseThrow().update("Changed", null, null));
+        clearInvocations(bookmarkRepository);
+
+        BookmarkResponse reloaded = bookmarkService.getBookmarkById(id);
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
+
+        // then - 두 캐시 모두 다시 조회
+        assertThat(reloaded.getTitle()).isEqualTo("Changed");
+        verify(bookmarkRepository, times(1)).findRowById(id);
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
     }
 
     @Test
@@ -274,7 +441,7 @@ class BookmarkServiceCacheTest {
         bookmarkService.getBookmarks(null, page1);
 
         // then - 캐싱 안 되므로 2회 호출
-        verify(bookmarkRepository, times(2)).findByUser(eq(testUser), any(Pageable.class));
+        verify(bookmarkRepository, times(2)).findRowsByUser(sameUser(testUser), any(Pageable.class));
     }
 
     @Test
@@ -296,17 +463,290 @@ class BookmarkServiceCacheTest {
 
         // then - 1회만 호출
         verify(bookmarkRepository, times(1))
-            .findDistinctByUserAndTagName(eq(testUser), eq("framework"), any(Pageable.class));
+            .findRowsByUserAndTagName(sameUser(testUser), eq("framework"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("사용자 A의 쓰기는 사용자 B의 목록 캐시를 무효화하지 않는다")
+    void write_by_one_user_keeps_other_users_cache() {
+        // given - 사용자 B의 북마크와 목록/검색/태그 캐시 적재
+        User otherUser = userRepository.save(User.builder()
+                .email("cache-test-other@example.com")
+                .password("password")
+                .build());
+        authenticateAs(otherUser);
+        BookmarkResponse otherBookmark = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Other", "https://other.com", ""));
+        bookmarkService.addTags(otherBookmark.getId(), new TagUpsertRequest(List.of("shared")));
+
+        Pageable pageable = PageRequest.of(0, 20);
+        clearAllCaches();
+        bookmarkService.getBookmarks(null, pageable);
+        bookmarkService.getBookmarks("other", pageable);
+        bookmarkService.getBookmarksByTag("shared", pageable);
+
+        // when - 사용자 A가 생성/수정/태그 추가/태그 제거/삭제 수행
+        authenticateAs(testUser);
+        BookmarkResponse mine = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Mine", "https://mine.com", ""));
+        bookmarkService.updateBookmark(mine.getId(), new BookmarkUpdateRequest("Mine2", null, null));
+        bookmarkService.addTags(mine.getId(), new TagUpsertRequest(List.of("shared", "mine")));
+        bookmarkService.removeTag(mine.getId(), "mine");
+        BookmarkResponse toDelete = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Temp", "https://temp.com", ""));
+        bookmarkService.deleteBookmark(toDelete.getId());
+        clearInvocations(bookmarkRepository);
+
+        // then - 사용자 B의 목록 캐시는 그대로 적중
+        authenticateAs(otherUser);
+        bookmarkService.getBookmarks(null, pageable);
+        bookmarkService.getBookmarks("other", pageable);
+        bookmarkService.getBookmarksByTag("shared", pageable);
+
+        verify(bookmarkRepository, never()).findRowsByUser(any(User.class), any(Pageable.class));
+        verify(bookmarkRepository, never())
+            .findRowsByUserAndKeyword(any(User.class), anyString(), any(Pageable.class));
+        verify(bookmarkRepository, never())
+            .findRowsByUserAndTagName(any(User.class), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("태그 수정은 그 태그가 연결된 북마크 소유자의 캐시만 무효화한다")
+    void tag_update_invalidates_only_owners() {
+        // given - 사용자 A의 태그 달린 북마크와 사용자 B의 목록 캐시
+        BookmarkResponse tagged = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Tagged", "https://tagged.com", ""));
+        bookmarkService.addTags(tagged.getId(), new TagUpsertRequest(List.of("rename-me")));
+        User otherUser = userRepository.save(User.builder()
+                .email("cache-test-tag@example.com")
+                .password("password")
+                .build());
+
+        Pageable pageable = PageRequest.of(0, 20);
+        clearAllCaches();
+        bookmarkService.getBookmarkById(tagged.getId());
+        bookmarkService.getBookmarks(null, pageable);
+        authenticateAs(otherUser);
+        bookmarkService.getBookmarks(null, pageable);
+
+        // when - 연결 목록을 읽지 않은 채 태그명 수정 (관리 작업 등)
+        transactionTemplate.executeWithoutResult(status -> {
+            Tag tag = tagRepository.findByNameIgnoreCase("rename-me").orElseThrow();
+            ReflectionTestUtils.setField(tag, "name", "renamed");
+        });
+        clearInvocations(bookmarkRepository);
+
+        // then - 사용자 B의 목록 캐시는 적중
+        bookmarkService.getBookmarks(null, pageable);
+        verify(bookmarkRepository, never()).findRowsByUser(any(User.class), any(Pageable.class));
+
+        // then - 소유자 A의 단건/목록 캐시는 다시 조회
+        authenticateAs(testUser);
+        BookmarkResponse reloaded = bookmarkService.getBookmarkById(tagged.getId());
+        bookmarkService.getBookmarks(null, pageable);
+        assertThat(reloaded.getTags()).containsExactly("renamed");
+        verify(bookmarkRepository, times(1)).findRowById(tagged.getId());
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("같은 북마크 ID라도 사용자별로 단건 캐시가 분리된다")
+    void bookmarkById_cache_is_partitioned_by_user() {
+        // given - 사용자 A가 북마크를 조회하여 캐시 적재
+        BookmarkResponse created = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Private", "https://private.com", ""));
+        clearAllCaches();
+        bookmarkService.getBookmarkById(created.getId());
+
+        User otherUser = userRepository.save(User.builder()
+                .email("cache-test-intruder@example.com")
+                .password("password")
+                .build());
+        authenticateAs(otherUser);
+
+        // when & then - 다른 사용자는 캐시를 거치지 않고 소유자 검증에서 거부됨
+        assertThatThrownBy(() -> bookmarkService.getBookmarkById(created.getId()))
+            .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("쓰기 시 기존 목록 캐시 항목을 스캔하지 않고 세대 증가만으로 무효화한다")
+    void write_bumps_generation_without_scanning_entries() {
+        // given - 여러 페이지의 목록 캐시 적재
+        bookmarkService.createBookmark(new BookmarkCreateRequest("A", "https://a.com", ""));
+        clearAllCaches();
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 10));
+        bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
+        long generationBefore = cacheGenerations.current(testUser.getId());
+        long cachedBefore = nativeCache("bookmarksFirstPage").estimatedSize();
+
+        // when
+        bookmarkService.createBookmark(new BookmarkCreateRequest("B", "https://b.com", ""));
+
+        // then - 항목은 그대로 두고(TTL로 소멸) 세대만 증가
+        assertThat(cacheGenerations.current(testUser.getId())).isEqualTo(generationBefore + 1);
+        assertThat(nativeCache("bookmarksFirstPage").estimatedSize()).isEqualTo(cachedBefore);
+
+        clearInvocations(bookmarkRepository);
+        Page<BookmarkResponse> reloaded = bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
+        verify(bookmarkRepository, times(1)).findRowsByUser(sameUser(testUser), any(Pageable.class));
+        assertThat(reloaded.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 북마크 ID 반복 조회는 DB를 한 번만 조회하고, 그 ID의 북마크가 생성되면 다시 조회된다")
+    void missing_bookmark_id_is_negatively_cached_until_created() {
+        // given - 다음에 생성될 ID를 미리 조회 (IDENTITY 순차 증가)
+        Long lastId = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Last", "https://last.com", "")).getId();
+        Long nextId = lastId + 1;
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when - 없는 ID 3회 조회
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> bookmarkService.getBookmarkById(nextId))
+                .isInstanceOf(BookmarkNotFoundException.class);
+        }
+
+        // then
+        verify(bookmarkRepository, times(1)).findRowById(nextId);
+
+        // when - 해당 ID로 생성되면 커밋 후 기록 삭제
+        BookmarkResponse created = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Next", "https://next.com", ""));
+
+        // then
+        assertThat(created.getId()).isEqualTo(nextId);
+        assertThat(bookmarkService.getBookmarkById(nextId).getTitle()).isEqualTo("Next");
+    }
+
+    @Test
+    @DisplayName("결과가 0건인 태그는 모든 페이지가 DB 조회 없이 빈 페이지로 응답되고, 태그 추가 후에는 다시 조회된다")
+    void empty_tag_is_negatively_cached_until_user_writes() {
+        // given
+        BookmarkResponse created = bookmarkService.createBookmark(
+            new BookmarkCreateRequest("Spring", "https://spring.io", ""));
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when - 캐싱되지 않는 page=3 포함 반복 조회
+        bookmarkService.getBookmarksByTag("stale", PageRequest.of(0, 20));
+        Page<BookmarkResponse> page3 = bookmarkService.getBookmarksByTag("stale", PageRequest.of(3, 20));
+        bookmarkService.getBookmarksByTag("stale", PageRequest.of(3, 20));
+
+        // then
+        verify(bookmarkRepository, times(1))
+            .findRowsByUserAndTagName(sameUser(testUser), eq("stale"), any(Pageable.class));
+        assertThat(page3.getContent()).isEmpty();
+        assertThat(page3.getNumber()).isEqualTo(3);
+
+        // when - 태그 추가가 커밋되면 세대 증가로 기록 무효화
+        bookmarkService.addTags(created.getId(), new TagUpsertRequest(List.of("stale")));
+        Page<BookmarkResponse> afterAdd = bookmarkService.getBookmarksByTag("stale", PageRequest.of(0, 20));
+
+        // then
+        assertThat(afterAdd.getContent()).extracting(BookmarkResponse::getId).containsExactly(created.getId());
+    }
+
+    @Test
+    @DisplayName("COUNT 생략 모드는 다음 페이지 존재 여부만 확인하고 캐시를 거치지 않는다")
+    void slice_mode_skips_count_and_cache() {
+        // given
+        bookmarkService.createBookmark(new BookmarkCreateRequest("A", "https://a.com", ""));
+        bookmarkService.createBookmark(new BookmarkCreateRequest("B", "https://b.com", ""));
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when
+        Slice<BookmarkResponse> first = bookmarkService.getBookmarkSlice(null, PageRequest.of(0, 1));
+        Slice<BookmarkResponse> last = bookmarkService.getBookmarkSlice(null, PageRequest.of(1, 1));
+
+        // then
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+        verify(bookmarkRepository, times(2)).findSliceByUser(sameUser(testUser), any(Pageable.class));
+        verify(bookmarkRepository, never()).findRowsByUser(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("전체 개수는 캐싱되고, 쓰기 커밋 후 백그라운드로 다시 계산된다")
+    void bookmark_count_is_cached_and_refreshed_after_write() {
+        // given
+        bookmarkService.createBookmark(new BookmarkCreateRequest("A", "https://a.com", ""));
+        clearAllCaches();
+        clearInvocations(bookmarkRepository);
+
+        // when
+        long first = bookmarkService.getBookmarkCount();
+        long second = bookmarkService.getBookmarkCount();
+
+        // then - 두 번째는 캐시 적중
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        verify(bookmarkRepository, times(1)).countByUser(sameUser(testUser));
+
+        // when - 쓰기 커밋 후 재계산 완료까지 대기
+        bookmarkService.createBookmark(new BookmarkCreateRequest("B", "https://b.com", ""));
+        BookmarkCountKey key = new BookmarkCountKey(testUser.getId());
+        awaitUntil(() -> Long.valueOf(2).equals(
+            CacheLayers.caffeine(cacheManager.getCache("bookmarkCount")).getIfPresent(key)));
+
+        // then - 요청 경로에서는 재계산된 값을 DB 조회 없이 반환
+        clearInvocations(bookmarkRepository);
+        assertThat(bookmarkService.getBookmarkCount()).isEqualTo(2);
+        verify(bookmarkRepository, never()).countByUser(any());
+    }
+
+    /**
+     * SecurityContext에 사용자 인증 정보 설정
+     */
+    private List<String> titles(Page<BookmarkResponse> page) {
+        return page.getContent().stream().map(BookmarkResponse::getTitle).toList();
+    }
+
+    private void authenticateAs(User user) {
+        Authentication authentication =
+            new UsernamePasswordAuthenticationToken(user.getId().toString(), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * 트랜잭션마다 다시 조회되는 User 엔티티를 ID로 비교
+     */
+    private User sameUser(User user) {
+        return argThat(actual -> actual != null && actual.getId().equals(user.getId()));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String cacheName) {
+        @SuppressWarnings("unchecked")
+        var nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+            cacheManager.getCache(cacheName).getNativeCache();
+        return nativeCache;
+    }
+
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("재계산 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
     }
 
     /**
-     * 모든 캐시 초기화
+     * 모든 캐시 초기화 (트랜잭션 인지 캐시의 지연 처리 없이 즉시 비우도록 invalidate 사용)
      */
     private void clearAllCaches() {
         cacheManager.getCacheNames().forEach(cacheName -> {
             var cache = cacheManager.getCache(cacheName);
             if (cache != null) {
-                cache.clear();
+                cache.invalidate();
             }
         });
     }
@@ -0,0 +1,159 @@
+package io.github.minjoon98.bookmark.service;
+
+import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
+import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
+import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
+import io.github.minjoon98.bookmark.entity.User;
+import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.TagRepository;
+import io.github.minjoon98.bookmark.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로의 SQL 실행 횟수 검증 (Hibernate 통계)
+ *
+ * <p>응답 변환 시 태그(BookmarkTag → Tag)를 항목마다 지연 로딩하지 않고
+ * 페이지 단위 IN 조회로 일괄 로딩하므로, 페이지 크기와 무관하게 요청당 쿼리 수가 같아야 합니다.
+ * <p>캐시 적중을 피하기 위해 측정 전마다 캐시를 비웁니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BookmarkServiceQueryCountTest {
+
+    // 태그 일괄 로딩 배치 크기(default_batch_fetch_size: 100)보다 큰 페이지까지 검증
+    private static final int BOOKMARKS = 130;
+    private static final int LARGE_PAGE = 120;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstBookmarkId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("query-count@example.com")
+                .password("password")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user.getId().toString(), null, List.of()));
+
+        // 북마크마다 태그 2개 (공통 태그 1개 + 개별 태그 1개)
+        for (int i = 0; i < BOOKMARKS; i++) {
+            BookmarkResponse created = bookmarkService.createBookmark(
+                new BookmarkCreateRequest("Bookmark " + i, "https://example.com/" + i, ""));
+            bookmarkService.addTags(created.getId(), new TagUpsertRequest(List.of("common", "tag" + i)));
+            if (firstBookmarkId == null) {
+                firstBookmarkId = created.getId();
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookmarkRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+        clearAllCaches();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("목록 조회는 페이지 크기와 무관하게 같은 수의 쿼리로 태그까지 적재한다")
+    void list_query_count_is_independent_of_page_size() {
+        long small = statementsFor(() -> bookmarkService.getBookmarks(null, PageRequest.of(0, 5, Sort.by("id"))));
+        long large = statementsFor(() -> bookmarkService.getBookmarks(null, PageRequest.of(0, LARGE_PAGE, Sort.by("id"))));
+
+        // 페이지 + COUNT + 태그 연결 일괄 로딩 + 태그 일괄 로딩
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("검색 조회는 페이지 크기와 무관하게 같은 수의 쿼리로 태그까지 적재한다")
+    void search_query_count_is_independent_of_page_size() {
+        long small = statementsFor(() -> bookmarkService.getBookmarks("bookmark", PageRequest.of(0, 5)));
+        long large = statementsFor(() -> bookmarkService.getBookmarks("bookmark", PageRequest.of(0, LARGE_PAGE)));
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("태그별 조회는 페이지 크기와 무관하게 같은 수의 쿼리로 태그까지 적재한다")
+    void tag_query_count_is_independent_of_page_size() {
+        long small = statementsFor(() -> bookmarkService.getBookmarksByTag("common", PageRequest.of(0, 5)));
+        long large = statementsFor(() -> bookmarkService.getBookmarksByTag("common", PageRequest.of(0, LARGE_PAGE)));
+
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("단건 조회는 북마크 + 태그 연결 + 태그 쿼리로 끝난다")
+    void detail_query_count() {
+        long statements = statementsFor(() -> bookmarkService.getBookmarkById(firstBookmarkId));
+
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    /**
+     * 캐시를 비운 상태에서 한 번 조회하고, 응답의 태그가 모두 채워졌는지 확인한 뒤 실행된 SQL 수 반환
+     */
+    private long statementsFor(Supplier<?> request) {
+        clearAllCaches();
+        statistics.clear();
+
+        Object result = request.get();
+
+        List<BookmarkResponse> responses = result instanceof Page<?> page
+            ? page.getContent().stream().map(BookmarkResponse.class::cast).toList()
+            : List.of((BookmarkResponse) result);
+        assertThat(responses).isNotEmpty().allSatisfy(response -> assertThat(response.getTags()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void clearAllCaches() {
+        cacheManager.getCacheNames().forEach(cacheName -> {
+            var cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        });
+    }
+}
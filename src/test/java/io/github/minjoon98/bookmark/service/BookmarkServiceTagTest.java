@@ -1,11 +1,15 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.NegativeLookupCache;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
 import io.github.minjoon98.bookmark.entity.Bookmark;
 import io.github.minjoon98.bookmark.entity.Tag;
 import io.github.minjoon98.bookmark.entity.User;
 import io.github.minjoon98.bookmark.dto.request.TagUpsertRequest;
 import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
 import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.BookmarkRow;
+import io.github.minjoon98.bookmark.repository.BookmarkTagName;
 import io.github.minjoon98.bookmark.repository.TagRepository;
 import io.github.minjoon98.bookmark.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +46,8 @@ class BookmarkServiceTagTest {
     @Mock UserRepository userRepository;
     @Mock SecurityContext securityContext;
     @Mock Authentication authentication;
+    @Mock NegativeLookupCache negativeLookupCache;
+    @Mock SearchCandidateCache searchCandidateCache;
 
     @InjectMocks BookmarkServiceImpl sut;
 
@@ -65,7 +72,7 @@ class BookmarkServiceTagTest {
         given(authentication.getName()).willReturn("1");
         given(securityContext.getAuthentication()).willReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
-        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
     }
 
     @Test
@@ -115,15 +122,15 @@ class BookmarkServiceTagTest {
     @DisplayName("태그로 북마크를 조회할 수 있다 (대소문자 무시)")
     void getBookmarksByTag() {
         // given
-        Tag tag = Tag.builder().name("spring").build();
-        Bookmark bm1 = Bookmark.builder().title("Spring Guide").url("https://spring.io").user(testUser).build();
-        Bookmark bm2 = Bookmark.builder().title("Spring Boot").url("https://spring.io/projects/spring-boot").user(testUser).build();
-        bm1.addTag(tag);
-        bm2.addTag(tag);
-
-        Page<Bookmark> page = new PageImpl<>(Arrays.asList(bm1, bm2), PageRequest.of(0, 20), 2);
-        given(bookmarkRepository.findDistinctByUserAndTagName(eq(testUser), eq("spring"), any(Pageable.class)))
+        LocalDateTime now = LocalDateTime.now();
+        BookmarkRow bm1 = new BookmarkRow(1L, 1L, "Spring Guide", "https://spring.io", null, now, now);
+        BookmarkRow bm2 = new BookmarkRow(2L, 1L, "Spring Boot", "https://spring.io/projects/spring-boot", null, now, now);
+
+        Page<BookmarkRow> page = new PageImpl<>(Arrays.asList(bm1, bm2), PageRequest.of(0, 20), 2);
+        given(bookmarkRepository.findRowsByUserAndTagName(eq(testUser), eq("spring"), any(Pageable.class)))
             .willReturn(page);
+        given(bookmarkRepository.findTagNamesByBookmarkIdIn(List.of(1L, 2L)))
+            .willReturn(List.of(new BookmarkTagName(1L, "spring"), new BookmarkTagName(2L, "spring")));
 
         // when
         Page<BookmarkResponse> result = sut.getBookmarksByTag("SPRING", PageRequest.of(0, 20));
@@ -131,8 +138,9 @@ class BookmarkServiceTagTest {
         // then
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).allSatisfy(response -> assertThat(response.getTags()).containsExactly("spring"));
         verify(bookmarkRepository, times(1))
-            .findDistinctByUserAndTagName(eq(testUser), eq("spring"), any(Pageable.class));
+            .findRowsByUserAndTagName(eq(testUser), eq("spring"), any(Pageable.class));
     }
 
     @Test
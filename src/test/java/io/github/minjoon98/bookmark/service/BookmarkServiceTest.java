@@ -1,5 +1,7 @@
 package io.github.minjoon98.bookmark.service;
 
+import io.github.minjoon98.bookmark.cache.NegativeLookupCache;
+import io.github.minjoon98.bookmark.cache.SearchCandidateCache;
 import io.github.minjoon98.bookmark.entity.Bookmark;
 import io.github.minjoon98.bookmark.entity.User;
 import io.github.minjoon98.bookmark.dto.request.BookmarkCreateRequest;
@@ -7,6 +9,8 @@ import io.github.minjoon98.bookmark.dto.response.BookmarkResponse;
 import io.github.minjoon98.bookmark.dto.request.BookmarkUpdateRequest;
 import io.github.minjoon98.bookmark.exception.BookmarkNotFoundException;
 import io.github.minjoon98.bookmark.repository.BookmarkRepository;
+import io.github.minjoon98.bookmark.repository.BookmarkRow;
+import io.github.minjoon98.bookmark.repository.BookmarkTagName;
 import io.github.minjoon98.bookmark.repository.TagRepository;
 import io.github.minjoon98.bookmark.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +29,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +59,12 @@ class BookmarkServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private SearchCandidateCache searchCandidateCache;
+
     @InjectMocks
     private BookmarkServiceImpl bookmarkService;
 
@@ -77,7 +89,7 @@ class BookmarkServiceTest {
         lenient().when(authentication.getName()).thenReturn("1");
         lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
-        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
     }
 
     @Test
@@ -101,23 +113,30 @@ class BookmarkServiceTest {
         assertThat(response.getTitle()).isEqualTo("Google");
         assertThat(response.getUrl()).isEqualTo("https://www.google.com");
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        // 사용자는 ID 참조(프록시)만 사용, 엔티티 조회 없음
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("모든 북마크를 조회할 수 있다")
     void getBookmarks() {
         // given
-        Bookmark bookmark1 = Bookmark.builder().title("Google").url("https://google.com").user(testUser).build();
-        Bookmark bookmark2 = Bookmark.builder().title("GitHub").url("https://github.com").user(testUser).build();
-        Page<Bookmark> page = new PageImpl<>(Arrays.asList(bookmark1, bookmark2), PageRequest.of(0, 20), 2);
-        given(bookmarkRepository.findByUser(eq(testUser), any(Pageable.class))).willReturn(page);
+        Page<BookmarkRow> page = new PageImpl<>(
+                Arrays.asList(row(1L, "Google", "https://google.com"), row(2L, "GitHub", "https://github.com")),
+                PageRequest.of(0, 20), 2);
+        given(bookmarkRepository.findRowsByUser(eq(testUser), any(Pageable.class))).willReturn(page);
+        given(bookmarkRepository.findTagNamesByBookmarkIdIn(List.of(1L, 2L))).willReturn(List.of(
+                new BookmarkTagName(2L, "code"), new BookmarkTagName(1L, "search"), new BookmarkTagName(2L, "git")));
 
         // when
         Page<BookmarkResponse> responses = bookmarkService.getBookmarks(null, PageRequest.of(0, 20));
 
-        // then
+        // then - 태그는 페이지 전체를 한 번에 조회하여 북마크별로 분배
         assertThat(responses.getContent()).hasSize(2);
-        verify(bookmarkRepository, times(1)).findByUser(eq(testUser), any(Pageable.class));
+        assertThat(responses.getContent().get(0).getTags()).containsExactly("search");
+        assertThat(responses.getContent().get(1).getTags()).containsExactly("code", "git");
+        verify(bookmarkRepository, times(1)).findRowsByUser(eq(testUser), any(Pageable.class));
+        verify(bookmarkRepository, times(1)).findTagNamesByBookmarkIdIn(any());
     }
 
     @Test
@@ -125,19 +144,14 @@ class BookmarkServiceTest {
     void getBookmarkById() {
         // given
         Long id = 1L;
-        Bookmark bookmark = Bookmark.builder()
-                .title("Google")
-                .url("https://google.com")
-                .user(testUser)
-                .build();
-        given(bookmarkRepository.findById(id)).willReturn(Optional.of(bookmark));
+        given(bookmarkRepository.findRowById(id)).willReturn(Optional.of(row(id, "Google", "https://google.com")));
 
         // when
         BookmarkResponse response = bookmarkService.getBookmarkById(id);
 
         // then
         assertThat(response.getTitle()).isEqualTo("Google");
-        verify(bookmarkRepository, times(1)).findById(id);
+        verify(bookmarkRepository, times(1)).findRowById(id);
     }
 
     @Test
@@ -145,11 +159,25 @@ class BookmarkServiceTest {
     void getBookmarkByIdNotFound() {
         // given
         Long id = 999L;
-        given(bookmarkRepository.findById(id)).willReturn(Optional.empty());
+        given(bookmarkRepository.findRowById(id)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> bookmarkService.getBookmarkById(id))
                 .isInstanceOf(BookmarkNotFoundException.class);
+        verify(negativeLookupCache, times(1)).mark(any());
+    }
+
+    @Test
+    @DisplayName("없는 ID로 기록된 북마크는 DB를 조회하지 않고 예외가 발생한다")
+    void getBookmarkByIdKnownMissing() {
+        // given
+        Long id = 999L;
+        given(negativeLookupCache.contains(any())).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> bookmarkService.getBookmarkById(id))
+                .isInstanceOf(BookmarkNotFoundException.class);
+        verify(bookmarkRepository, never()).findRowById(id);
     }
 
     @Test
@@ -174,6 +202,8 @@ class BookmarkServiceTest {
         assertThat(response.getTitle()).isEqualTo("Updated Title");
         assertThat(response.getMemo()).isEqualTo("Updated memo");
         verify(bookmarkRepository, times(1)).findById(id);
+        // 소유자 검증은 JWT subject와 북마크의 사용자 FK 비교만으로 처리
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -214,10 +244,9 @@ class BookmarkServiceTest {
     void searchBookmarks() {
         // given
         String keyword = "git";
-        Bookmark bookmark = Bookmark.builder().title("GitHub").url("https://github.com").user(testUser).build();
-        Page<Bookmark> page = new PageImpl<>(Arrays.asList(bookmark), PageRequest.of(0, 20), 1);
-        given(bookmarkRepository.findByUserAndTitleContainingIgnoreCaseOrUserAndUrlContainingIgnoreCase(
-                eq(testUser), eq(keyword), eq(testUser), eq(keyword), any(Pageable.class)))
+        Page<BookmarkRow> page = new PageImpl<>(
+                List.of(row(1L, "GitHub", "https://github.com")), PageRequest.of(0, 20), 1);
+        given(bookmarkRepository.findRowsByUserAndKeyword(eq(testUser), eq(keyword), any(Pageable.class)))
                 .willReturn(page);
 
         // when
@@ -227,4 +256,9 @@ class BookmarkServiceTest {
         assertThat(responses.getContent()).hasSize(1);
         assertThat(responses.getContent().get(0).getTitle()).isEqualTo("GitHub");
     }
+
+    private BookmarkRow row(Long id, String title, String url) {
+        LocalDateTime now = LocalDateTime.now();
+        return new BookmarkRow(id, testUser.getId(), title, url, null, now, now);
+    }
 }